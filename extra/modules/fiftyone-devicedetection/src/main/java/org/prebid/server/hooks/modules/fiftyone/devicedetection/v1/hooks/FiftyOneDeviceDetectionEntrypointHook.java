@@ -19,6 +19,11 @@ public class FiftyOneDeviceDetectionEntrypointHook implements EntrypointHook {
         return CODE;
     }
 
+    @Override
+    public boolean readOnly() {
+        return true;
+    }
+
     @Override
     public Future<InvocationResult<EntrypointPayload>> call(
             EntrypointPayload payload,
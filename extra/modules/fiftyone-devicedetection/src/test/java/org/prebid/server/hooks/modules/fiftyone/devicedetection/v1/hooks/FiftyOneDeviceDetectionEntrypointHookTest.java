@@ -25,6 +25,12 @@ public class FiftyOneDeviceDetectionEntrypointHookTest {
         assertThat(target.code()).startsWith(FiftyOneDeviceDetectionModule.CODE);
     }
 
+    @Test
+    public void readOnlyShouldReturnTrue() {
+        // when and then
+        assertThat(target.readOnly()).isTrue();
+    }
+
     @Test
     public void callShouldReturnPatchedModule() {
         // given
@@ -5,12 +5,14 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import io.vertx.core.Vertx;
+import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.ThrottlingThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ThrottlingThresholdsFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
@@ -18,6 +20,8 @@ import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ThresholdCa
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.v1.GreenbidsRealTimeDataProcessedAuctionRequestHook;
 import org.prebid.server.json.ObjectMapperProvider;
+import org.prebid.server.vertx.ContextRunner;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -31,9 +35,14 @@ import java.util.concurrent.TimeUnit;
 @EnableConfigurationProperties(GreenbidsRealTimeDataProperties.class)
 public class GreenbidsRealTimeDataConfiguration {
 
+    private static final int DEFAULT_INFERENCE_BATCH_MAX_SIZE = 256;
+
     @Bean
-    DatabaseReaderFactory databaseReaderFactory(GreenbidsRealTimeDataProperties properties, Vertx vertx) {
-        return new DatabaseReaderFactory(properties, vertx);
+    DatabaseReaderFactory databaseReaderFactory(GreenbidsRealTimeDataProperties properties,
+                                                Vertx vertx,
+                                                ContextRunner contextRunner) {
+
+        return new DatabaseReaderFactory(properties, vertx, contextRunner);
     }
 
     @Bean
@@ -49,7 +58,8 @@ public class GreenbidsRealTimeDataConfiguration {
             FilterService filterService,
             OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds,
             GreenbidsInferenceDataService greenbidsInferenceDataService,
-            GreenbidsInvocationService greenbidsInvocationService) {
+            GreenbidsInvocationService greenbidsInvocationService,
+            @Autowired(required = false) OnnxInferenceBatcher onnxInferenceBatcher) {
 
         return new GreenbidsRealTimeDataModule(List.of(
                 new GreenbidsRealTimeDataProcessedAuctionRequestHook(
@@ -57,7 +67,19 @@ public class GreenbidsRealTimeDataConfiguration {
                         filterService,
                         onnxModelRunnerWithThresholds,
                         greenbidsInferenceDataService,
-                        greenbidsInvocationService)));
+                        greenbidsInvocationService,
+                        onnxInferenceBatcher)));
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "hooks.modules." + GreenbidsRealTimeDataModule.CODE,
+            name = "inference-batch-max-delay-ms")
+    OnnxInferenceBatcher onnxInferenceBatcher(GreenbidsRealTimeDataProperties properties, Vertx vertx) {
+        return new OnnxInferenceBatcher(
+                vertx,
+                ObjectUtils.defaultIfNull(properties.getInferenceBatchMaxSize(), DEFAULT_INFERENCE_BATCH_MAX_SIZE),
+                properties.getInferenceBatchMaxDelayMs());
     }
 
     @Bean
@@ -84,7 +106,7 @@ public class GreenbidsRealTimeDataConfiguration {
     @Bean
     ModelCache modelCache(
             GreenbidsRealTimeDataProperties properties,
-            Vertx vertx,
+            ContextRunner contextRunner,
             Storage storage,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
 
@@ -97,14 +119,14 @@ public class GreenbidsRealTimeDataConfiguration {
                 properties.getGcsBucketName(),
                 modelCacheWithExpiration,
                 properties.getOnnxModelCacheKeyPrefix(),
-                vertx,
+                contextRunner,
                 onnxModelRunnerFactory);
     }
 
     @Bean
     ThresholdCache thresholdCache(
             GreenbidsRealTimeDataProperties properties,
-            Vertx vertx,
+            ContextRunner contextRunner,
             Storage storage,
             ThrottlingThresholdsFactory throttlingThresholdsFactory) {
 
@@ -118,7 +140,7 @@ public class GreenbidsRealTimeDataConfiguration {
                 ObjectMapperProvider.mapper(),
                 thresholdsCacheWithExpiration,
                 properties.getThresholdsCacheKeyPrefix(),
-                vertx,
+                contextRunner,
                 throttlingThresholdsFactory);
     }
 
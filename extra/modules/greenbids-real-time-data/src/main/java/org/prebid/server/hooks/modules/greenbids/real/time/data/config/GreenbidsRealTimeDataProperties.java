@@ -24,4 +24,8 @@ public class GreenbidsRealTimeDataProperties {
     Long timeoutMs;
 
     Integer maxRedirects;
+
+    Integer inferenceBatchMaxSize;
+
+    Long inferenceBatchMaxDelayMs;
 }
@@ -4,6 +4,7 @@ import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import io.vertx.core.Future;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.ThrottlingMessage;
 import org.springframework.util.CollectionUtils;
@@ -33,6 +34,22 @@ public class FilterService {
         }
     }
 
+    /**
+     * Same as {@link #filterBidders(OnnxModelRunner, List, Double)}, but the model is run by the given batcher
+     * together with throttling messages of other auctions.
+     */
+    public Future<Map<String, Map<String, Boolean>>> filterBidders(
+            OnnxInferenceBatcher inferenceBatcher,
+            OnnxModelRunner onnxModelRunner,
+            List<ThrottlingMessage> throttlingMessages,
+            Double threshold) {
+
+        validateThrottlingMessages(throttlingMessages);
+
+        return inferenceBatcher.predictProbabilities(onnxModelRunner, convertToArray(throttlingMessages))
+                .map(probabilities -> processProbabilities(probabilities, throttlingMessages, threshold));
+    }
+
     private static String[][] convertToArray(List<ThrottlingMessage> messages) {
         return messages.stream()
                 .map(message -> new String[]{
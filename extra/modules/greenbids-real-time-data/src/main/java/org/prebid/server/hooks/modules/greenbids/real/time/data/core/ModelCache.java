@@ -6,10 +6,11 @@ import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
 import io.vertx.core.Future;
-import io.vertx.core.Vertx;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.config.GreenbidsRealTimeDataModule;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.vertx.ContextRunner;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -29,7 +30,7 @@ public class ModelCache {
 
     private final AtomicBoolean isFetching;
 
-    private final Vertx vertx;
+    private final ContextRunner contextRunner;
 
     private final OnnxModelRunnerFactory onnxModelRunnerFactory;
 
@@ -38,14 +39,14 @@ public class ModelCache {
             String gcsBucketName,
             Cache<String, OnnxModelRunner> cache,
             String onnxModelCacheKeyPrefix,
-            Vertx vertx,
+            ContextRunner contextRunner,
             OnnxModelRunnerFactory onnxModelRunnerFactory) {
         this.gcsBucketName = Objects.requireNonNull(gcsBucketName);
         this.cache = Objects.requireNonNull(cache);
         this.storage = Objects.requireNonNull(storage);
         this.onnxModelCacheKeyPrefix = Objects.requireNonNull(onnxModelCacheKeyPrefix);
         this.isFetching = new AtomicBoolean(false);
-        this.vertx = Objects.requireNonNull(vertx);
+        this.contextRunner = Objects.requireNonNull(contextRunner);
         this.onnxModelRunnerFactory = Objects.requireNonNull(onnxModelRunnerFactory);
     }
 
@@ -69,7 +70,7 @@ public class ModelCache {
     }
 
     private Future<OnnxModelRunner> fetchAndCacheModelRunner(String onnxModelPath, String cacheKey) {
-        return vertx.executeBlocking(() -> getBlob(onnxModelPath))
+        return contextRunner.executeBlocking(GreenbidsRealTimeDataModule.CODE, () -> getBlob(onnxModelPath))
                 .map(this::loadModelRunner)
                 .onSuccess(onnxModelRunner -> cache.put(cacheKey, onnxModelRunner))
                 .onFailure(error -> logger.error("Failed to fetch ONNX model"));
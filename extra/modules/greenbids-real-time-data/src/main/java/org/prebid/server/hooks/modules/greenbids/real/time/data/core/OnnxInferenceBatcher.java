@@ -0,0 +1,114 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OrtException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.vertx.MicroBatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Collects throttling inference rows of concurrent auctions and runs them through the model in batches.
+ * <p>
+ * Rows for the same model are accumulated by {@link MicroBatcher} until either the batch reaches its maximum size
+ * or the maximum delay since the first row has passed. Each batch is inferred in a single model call on a dedicated
+ * thread, then probabilities are split back and every request is completed on the context it was submitted from.
+ */
+public class OnnxInferenceBatcher {
+
+    private static final String WORKER_NAME = "greenbids-onnx-inference";
+
+    private final Vertx vertx;
+    private final int maxBatchSize;
+    private final long maxBatchDelayMs;
+
+    private final WorkerExecutor workerExecutor;
+    private final Map<OnnxModelRunner, MicroBatcher<String[][], float[][]>> modelBatchers;
+
+    public OnnxInferenceBatcher(Vertx vertx, int maxBatchSize, long maxBatchDelayMs) {
+        if (maxBatchSize < 1 || maxBatchDelayMs < 1) {
+            throw new IllegalArgumentException("Max batch size and max batch delay must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelayMs = maxBatchDelayMs;
+
+        workerExecutor = vertx.createSharedWorkerExecutor(WORKER_NAME, 1);
+        // weak keys are compared by identity and let replaced models be collected
+        modelBatchers = Caffeine.newBuilder()
+                .weakKeys()
+                .<OnnxModelRunner, MicroBatcher<String[][], float[][]>>build()
+                .asMap();
+    }
+
+    /**
+     * Returns probabilities predicted by the given model for each of the given rows, in the same order.
+     */
+    public Future<float[][]> predictProbabilities(OnnxModelRunner onnxModelRunner, String[][] rows) {
+        return modelBatchers.computeIfAbsent(onnxModelRunner, this::newBatcher).submit(rows);
+    }
+
+    private MicroBatcher<String[][], float[][]> newBatcher(OnnxModelRunner onnxModelRunner) {
+        return new MicroBatcher<>(
+                vertx,
+                maxBatchDelayMs,
+                maxBatchSize,
+                rows -> rows.length,
+                requestsRows -> infer(onnxModelRunner, requestsRows));
+    }
+
+    private Future<List<float[][]>> infer(OnnxModelRunner onnxModelRunner, List<String[][]> requestsRows) {
+        return workerExecutor.<float[][]>executeBlocking(
+                        () -> predictProbabilities(onnxModelRunner, requestsRows), false)
+                .recover(throwable -> Future.failedFuture(toInferenceException(throwable)))
+                .map(probabilities -> split(probabilities, requestsRows));
+    }
+
+    /**
+     * Model failures are reported the same way as by synchronous inference, other failures are passed as is.
+     */
+    private static Throwable toInferenceException(Throwable throwable) {
+        return throwable instanceof OrtException
+                ? new PreBidException("Exception during model inference: ", throwable)
+                : throwable;
+    }
+
+    private static float[][] predictProbabilities(OnnxModelRunner onnxModelRunner,
+                                                  List<String[][]> requestsRows) throws Exception {
+
+        final String[][] rows = new String[requestsRows.stream().mapToInt(requestRows -> requestRows.length).sum()][];
+        int offset = 0;
+        for (String[][] requestRows : requestsRows) {
+            System.arraycopy(requestRows, 0, rows, offset, requestRows.length);
+            offset += requestRows.length;
+        }
+
+        final float[][] probabilities = onnxModelRunner.predictProbabilities(rows);
+        if (probabilities.length != rows.length) {
+            throw new PreBidException("Mismatch between tensor size and throttlingMessages size");
+        }
+
+        return probabilities;
+    }
+
+    private static List<float[][]> split(float[][] probabilities, List<String[][]> requestsRows) {
+        final List<float[][]> requestsProbabilities = new ArrayList<>(requestsRows.size());
+        int offset = 0;
+        for (String[][] requestRows : requestsRows) {
+            final int length = requestRows.length;
+            final float[][] requestProbabilities = new float[length][];
+            System.arraycopy(probabilities, offset, requestProbabilities, 0, length);
+            offset += length;
+
+            requestsProbabilities.add(requestProbabilities);
+        }
+        return requestsProbabilities;
+    }
+}
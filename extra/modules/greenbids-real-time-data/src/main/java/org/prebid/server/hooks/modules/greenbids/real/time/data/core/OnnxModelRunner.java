@@ -1,15 +1,19 @@
 package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
 
 import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import org.prebid.server.exception.PreBidException;
 
 import java.util.Collections;
 
 public class OnnxModelRunner {
 
     private static final OrtEnvironment ENVIRONMENT = OrtEnvironment.getEnvironment();
+    private static final String INPUT_NAME = "input";
+    private static final String PROBABILITIES_OUTPUT_NAME = "probabilities";
 
     private final OrtSession session;
 
@@ -19,6 +23,25 @@ public class OnnxModelRunner {
 
     public OrtSession.Result runModel(String[][] throttlingInferenceRow) throws OrtException {
         final OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRow);
-        return session.run(Collections.singletonMap("input", inputTensor));
+        return session.run(Collections.singletonMap(INPUT_NAME, inputTensor));
+    }
+
+    /**
+     * Runs model and returns copy of its probabilities output, native input and output tensors
+     * are released right after the call.
+     */
+    public float[][] predictProbabilities(String[][] throttlingInferenceRows) throws OrtException {
+        try (OnnxTensor inputTensor = OnnxTensor.createTensor(ENVIRONMENT, throttlingInferenceRows);
+             OrtSession.Result result = session.run(Collections.singletonMap(INPUT_NAME, inputTensor))) {
+
+            final OnnxValue probabilities = result.get(PROBABILITIES_OUTPUT_NAME)
+                    .orElseThrow(() -> new PreBidException("Model output has no probabilities"));
+            if (!(probabilities instanceof OnnxTensor probabilitiesTensor)) {
+                throw new PreBidException("Expected OnnxTensor for 'probabilities', but found: "
+                        + probabilities.getClass().getName());
+            }
+
+            return (float[][]) probabilitiesTensor.getValue();
+        }
     }
 }
@@ -21,6 +21,7 @@ import org.prebid.server.hooks.execution.v1.auction.AuctionRequestPayloadImpl;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.data.GreenbidsConfig;
@@ -59,6 +60,7 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
     private final OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds;
     private final GreenbidsInferenceDataService greenbidsInferenceDataService;
     private final GreenbidsInvocationService greenbidsInvocationService;
+    private final OnnxInferenceBatcher inferenceBatcher;
 
     public GreenbidsRealTimeDataProcessedAuctionRequestHook(
             ObjectMapper mapper,
@@ -66,11 +68,29 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
             OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds,
             GreenbidsInferenceDataService greenbidsInferenceDataService,
             GreenbidsInvocationService greenbidsInvocationService) {
+
+        this(
+                mapper,
+                filterService,
+                onnxModelRunnerWithThresholds,
+                greenbidsInferenceDataService,
+                greenbidsInvocationService,
+                null);
+    }
+
+    public GreenbidsRealTimeDataProcessedAuctionRequestHook(
+            ObjectMapper mapper,
+            FilterService filterService,
+            OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds,
+            GreenbidsInferenceDataService greenbidsInferenceDataService,
+            GreenbidsInvocationService greenbidsInvocationService,
+            OnnxInferenceBatcher inferenceBatcher) {
         this.mapper = Objects.requireNonNull(mapper);
         this.filterService = Objects.requireNonNull(filterService);
         this.onnxModelRunnerWithThresholds = Objects.requireNonNull(onnxModelRunnerWithThresholds);
         this.greenbidsInferenceDataService = Objects.requireNonNull(greenbidsInferenceDataService);
         this.greenbidsInvocationService = Objects.requireNonNull(greenbidsInvocationService);
+        this.inferenceBatcher = inferenceBatcher;
     }
 
     @Override
@@ -88,16 +108,17 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
                     new PreBidException("Greenbids config is null; cannot proceed."));
         }
 
+        // model or threshold not available yet means no action, while failures of building result are not hidden
         return Future.all(
                         onnxModelRunnerWithThresholds.retrieveOnnxModelRunner(greenbidsConfig),
                         onnxModelRunnerWithThresholds.retrieveThreshold(greenbidsConfig))
-                .compose(compositeFuture -> toInvocationResult(
-                        bidRequest,
-                        greenbidsConfig,
-                        compositeFuture.resultAt(0),
-                        compositeFuture.resultAt(1)))
-                .recover(throwable -> Future.succeededFuture(toInvocationResult(
-                        bidRequest, null, InvocationAction.no_action)));
+                .transform(compositeResult -> compositeResult.succeeded()
+                        ? toInvocationResult(
+                                bidRequest,
+                                greenbidsConfig,
+                                compositeResult.result().resultAt(0),
+                                compositeResult.result().resultAt(1))
+                        : Future.succeededFuture(toInvocationResult(bidRequest, null, InvocationAction.no_action)));
     }
 
     private GreenbidsConfig parseBidRequestExt(AuctionContext auctionContext) {
@@ -130,27 +151,49 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHook implements Process
             OnnxModelRunner onnxModelRunner,
             Double threshold) {
 
-        final Map<String, Map<String, Boolean>> impsBiddersFilterMap;
+        return filterBidders(bidRequest, onnxModelRunner, threshold)
+                .transform(filterResult -> {
+                    if (filterResult.succeeded()) {
+                        return Future.succeededFuture(
+                                toInvocationResult(bidRequest, greenbidsConfig, filterResult.result()));
+                    }
+
+                    // only inference failures mean no action
+                    return filterResult.cause() instanceof PreBidException
+                            ? Future.succeededFuture(toInvocationResult(bidRequest, null, InvocationAction.no_action))
+                            : Future.failedFuture(filterResult.cause());
+                });
+    }
+
+    private Future<Map<String, Map<String, Boolean>>> filterBidders(BidRequest bidRequest,
+                                                                      OnnxModelRunner onnxModelRunner,
+                                                                      Double threshold) {
+
         try {
             final List<ThrottlingMessage> throttlingMessages = greenbidsInferenceDataService
                     .extractThrottlingMessagesFromBidRequest(bidRequest);
 
-            impsBiddersFilterMap = filterService.filterBidders(
-                    onnxModelRunner,
-                    throttlingMessages,
-                    threshold);
+            return inferenceBatcher != null
+                    ? filterService.filterBidders(inferenceBatcher, onnxModelRunner, throttlingMessages, threshold)
+                    : Future.succeededFuture(
+                            filterService.filterBidders(onnxModelRunner, throttlingMessages, threshold));
         } catch (PreBidException e) {
-            return Future.succeededFuture(toInvocationResult(
-                    bidRequest, null, InvocationAction.no_action));
+            return Future.failedFuture(e);
         }
+    }
+
+    private InvocationResult<AuctionRequestPayload> toInvocationResult(
+            BidRequest bidRequest,
+            GreenbidsConfig greenbidsConfig,
+            Map<String, Map<String, Boolean>> impsBiddersFilterMap) {
 
         final GreenbidsInvocationResult greenbidsInvocationResult = greenbidsInvocationService
                 .createGreenbidsInvocationResult(greenbidsConfig, bidRequest, impsBiddersFilterMap);
 
-        return Future.succeededFuture(toInvocationResult(
+        return toInvocationResult(
                 greenbidsInvocationResult.getUpdatedBidRequest(),
                 greenbidsInvocationResult.getAnalyticsResult(),
-                greenbidsInvocationResult.getInvocationAction()));
+                greenbidsInvocationResult.getInvocationAction());
     }
 
     private InvocationResult<AuctionRequestPayload> toInvocationResult(
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.vertx.ContextRunner;
 
 import java.lang.reflect.Field;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -55,13 +56,13 @@ public class ModelCacheTest {
     @Mock
     private ModelCache target;
 
-    private Vertx vertx;
+    private ContextRunner contextRunner;
 
     @BeforeEach
     public void setUp() {
-        vertx = Vertx.vertx();
+        contextRunner = new ContextRunner(Vertx.vertx(), 1000L);
         target = new ModelCache(
-                storage, GCS_BUCKET_NAME, cache, MODEL_CACHE_KEY_PREFIX, vertx, onnxModelRunnerFactory);
+                storage, GCS_BUCKET_NAME, cache, MODEL_CACHE_KEY_PREFIX, contextRunner, onnxModelRunnerFactory);
     }
 
     @Test
@@ -0,0 +1,111 @@
+package org.prebid.server.hooks.modules.greenbids.real.time.data.core;
+
+import ai.onnxruntime.OrtException;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.exception.PreBidException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class OnnxInferenceBatcherTest {
+
+    @Mock
+    private OnnxModelRunner onnxModelRunner;
+
+    private Vertx vertx;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxBatchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new OnnxInferenceBatcher(vertx, 0, 10L));
+    }
+
+    @Test
+    public void predictProbabilitiesShouldInferRowsOfSeveralRequestsInSingleBatch() throws Exception {
+        // given
+        given(onnxModelRunner.predictProbabilities(any())).willAnswer(invocation -> {
+            final String[][] rows = invocation.getArgument(0);
+            final float[][] probabilities = new float[rows.length][];
+            for (int i = 0; i < rows.length; i++) {
+                probabilities[i] = new float[]{0.0f, Float.parseFloat(rows[i][0])};
+            }
+            return probabilities;
+        });
+
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(vertx, 3, 10000L);
+
+        // when
+        final Future<float[][]> firstResult = target.predictProbabilities(
+                onnxModelRunner, new String[][]{{"0.1"}});
+        final Future<float[][]> secondResult = target.predictProbabilities(
+                onnxModelRunner, new String[][]{{"0.2"}, {"0.3"}});
+
+        // then
+        assertThat(await(firstResult)).containsExactly(new float[]{0.0f, 0.1f});
+        assertThat(await(secondResult)).containsExactly(new float[]{0.0f, 0.2f}, new float[]{0.0f, 0.3f});
+        verify(onnxModelRunner, times(1)).predictProbabilities(any());
+    }
+
+    @Test
+    public void predictProbabilitiesShouldInferNotFullBatchAfterMaxDelay() throws Exception {
+        // given
+        given(onnxModelRunner.predictProbabilities(any())).willReturn(new float[][]{{0.4f, 0.6f}});
+
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(vertx, 100, 10L);
+
+        // when
+        final Future<float[][]> result = target.predictProbabilities(onnxModelRunner, new String[][]{{"row"}});
+
+        // then
+        assertThat(await(result)).containsExactly(new float[]{0.4f, 0.6f});
+    }
+
+    @Test
+    public void predictProbabilitiesShouldFailAllRequestsOfBatchWhenInferenceFailed() throws Exception {
+        // given
+        given(onnxModelRunner.predictProbabilities(any())).willThrow(new OrtException("failed"));
+
+        final OnnxInferenceBatcher target = new OnnxInferenceBatcher(vertx, 2, 10000L);
+
+        // when
+        final Future<float[][]> firstResult = target.predictProbabilities(onnxModelRunner, new String[][]{{"a"}});
+        final Future<float[][]> secondResult = target.predictProbabilities(onnxModelRunner, new String[][]{{"b"}});
+
+        // then
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> await(firstResult))
+                .withCauseInstanceOf(PreBidException.class);
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> await(secondResult))
+                .withCauseInstanceOf(PreBidException.class);
+    }
+
+    private static float[][] await(Future<float[][]> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+}
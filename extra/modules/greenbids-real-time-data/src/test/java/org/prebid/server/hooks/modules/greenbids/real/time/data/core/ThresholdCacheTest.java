@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.model.filter.ThrottlingThresholds;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.util.TestBidRequestProvider;
+import org.prebid.server.vertx.ContextRunner;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -55,20 +56,20 @@ public class ThresholdCacheTest {
     @Mock(strictness = LENIENT)
     private ThrottlingThresholdsFactory throttlingThresholdsFactory;
 
-    private Vertx vertx;
+    private ContextRunner contextRunner;
 
     private ThresholdCache target;
 
     @BeforeEach
     public void setUp() {
-        vertx = Vertx.vertx();
+        contextRunner = new ContextRunner(Vertx.vertx(), 1000L);
         target = new ThresholdCache(
                 storage,
                 GCS_BUCKET_NAME,
                 TestBidRequestProvider.MAPPER,
                 cache,
                 THRESHOLD_CACHE_KEY_PREFIX,
-                vertx,
+                contextRunner,
                 throttlingThresholdsFactory);
     }
 
@@ -17,6 +17,7 @@ import com.maxmind.geoip2.model.CountryResponse;
 import com.maxmind.geoip2.record.Country;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.analytics.reporter.greenbids.model.ExplorationResult;
 import org.prebid.server.analytics.reporter.greenbids.model.Ortb2ImpExtResult;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.exception.PreBidException;
 import org.prebid.server.geolocation.CountryCodeMapper;
 import org.prebid.server.hooks.execution.v1.analytics.ActivityImpl;
 import org.prebid.server.hooks.execution.v1.analytics.AppliedToImpl;
@@ -36,6 +38,7 @@ import org.prebid.server.hooks.modules.greenbids.real.time.data.core.FilterServi
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInferenceDataService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.GreenbidsInvocationService;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.ModelCache;
+import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxInferenceBatcher;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunner;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerFactory;
 import org.prebid.server.hooks.modules.greenbids.real.time.data.core.OnnxModelRunnerWithThresholds;
@@ -52,6 +55,7 @@ import org.prebid.server.hooks.v1.analytics.Tags;
 import org.prebid.server.hooks.v1.auction.AuctionInvocationContext;
 import org.prebid.server.hooks.v1.auction.AuctionRequestPayload;
 import org.prebid.server.model.HttpRequestContext;
+import org.prebid.server.vertx.ContextRunner;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -60,6 +64,7 @@ import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 
 import static java.util.function.UnaryOperator.identity;
@@ -101,6 +106,14 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
     @Mock
     private CountryCodeMapper countryCodeMapper;
 
+    private Vertx vertx;
+
+    private FilterService filterService;
+
+    private OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds;
+
+    private GreenbidsInferenceDataService greenbidsInferenceDataService;
+
     private GreenbidsRealTimeDataProcessedAuctionRequestHook target;
 
     @BeforeEach
@@ -113,15 +126,17 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
         when(databaseReader.country(any(InetAddress.class))).thenReturn(countryResponse);
         when(databaseReaderFactory.getDatabaseReader()).thenReturn(databaseReader);
 
-        final FilterService filterService = new FilterService();
+        vertx = Vertx.vertx();
+        filterService = new FilterService();
         final OnnxModelRunnerFactory onnxModelRunnerFactory = new OnnxModelRunnerFactory();
         final ThrottlingThresholdsFactory throttlingThresholdsFactory = new ThrottlingThresholdsFactory();
+        final ContextRunner contextRunner = new ContextRunner(vertx, 1000L);
         final ModelCache modelCache = new ModelCache(
                 storage,
                 "test_bucket",
                 modelCacheWithExpiration,
                 "onnxModelRunner_",
-                Vertx.vertx(),
+                contextRunner,
                 onnxModelRunnerFactory);
         final ThresholdCache thresholdCache = new ThresholdCache(
                 storage,
@@ -129,13 +144,13 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 TestBidRequestProvider.MAPPER,
                 thresholdsCacheWithExpiration,
                 "throttlingThresholds_",
-                Vertx.vertx(),
+                contextRunner,
                 throttlingThresholdsFactory);
-        final OnnxModelRunnerWithThresholds onnxModelRunnerWithThresholds = new OnnxModelRunnerWithThresholds(
+        onnxModelRunnerWithThresholds = new OnnxModelRunnerWithThresholds(
                 modelCache,
                 thresholdCache);
 
-        final GreenbidsInferenceDataService greenbidsInferenceDataService = new GreenbidsInferenceDataService(
+        greenbidsInferenceDataService = new GreenbidsInferenceDataService(
                 databaseReaderFactory,
                 TestBidRequestProvider.MAPPER,
                 countryCodeMapper);
@@ -148,6 +163,11 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 greenbidsInvocationService);
     }
 
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
     @Test
     public void callShouldFilterBiddersWhenPartnerActivatedInBidRequest()
             throws IOException, OrtException {
@@ -390,6 +410,85 @@ public class GreenbidsRealTimeDataProcessedAuctionRequestHookTest {
                 .isEqualTo(expectedBidRequest);
     }
 
+    @Test
+    public void callShouldFilterBiddersBasedOnBatchedModelResults() throws Exception {
+        // given
+        target = new GreenbidsRealTimeDataProcessedAuctionRequestHook(
+                TestBidRequestProvider.MAPPER,
+                filterService,
+                onnxModelRunnerWithThresholds,
+                greenbidsInferenceDataService,
+                new GreenbidsInvocationService(),
+                new OnnxInferenceBatcher(vertx, 16, 1L));
+
+        final Imp imp = Imp.builder()
+                .id("adunitcodevalue")
+                .ext(givenImpExt())
+                .banner(givenBanner())
+                .build();
+
+        final Device device = givenDevice(identity());
+        final BidRequest bidRequest = givenBidRequest(request -> request, List.of(imp), device);
+        final AuctionContext auctionContext = givenAuctionContext(bidRequest, context -> context);
+        final AuctionInvocationContext invocationContext = givenAuctionInvocationContext(auctionContext, 0.0001);
+        when(invocationContext.auctionContext()).thenReturn(auctionContext);
+        when(modelCacheWithExpiration.getIfPresent("onnxModelRunner_test-pbuid"))
+                .thenReturn(givenOnnxModelRunner());
+        when(thresholdsCacheWithExpiration.getIfPresent("throttlingThresholds_test-pbuid"))
+                .thenReturn(givenThrottlingThresholds());
+
+        final BidRequest expectedBidRequest = expectedUpdatedBidRequest(request -> request, device, false);
+
+        // when
+        final InvocationResult<AuctionRequestPayload> result = target.call(null, invocationContext)
+                .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.status()).isEqualTo(InvocationStatus.success);
+        assertThat(result.action()).isEqualTo(InvocationAction.update);
+        assertThat(result.payloadUpdate().apply(AuctionRequestPayloadImpl.of(bidRequest)).bidRequest())
+                .usingRecursiveComparison()
+                .isEqualTo(expectedBidRequest);
+    }
+
+    @Test
+    public void callShouldFailWhenInvocationResultCannotBeCreated() throws OrtException, IOException {
+        // given
+        final GreenbidsInvocationService greenbidsInvocationService = mock(GreenbidsInvocationService.class);
+        when(greenbidsInvocationService.createGreenbidsInvocationResult(any(), any(), any()))
+                .thenThrow(new PreBidException("Invalid analytics result"));
+        target = new GreenbidsRealTimeDataProcessedAuctionRequestHook(
+                TestBidRequestProvider.MAPPER,
+                filterService,
+                onnxModelRunnerWithThresholds,
+                greenbidsInferenceDataService,
+                greenbidsInvocationService);
+
+        final Imp imp = Imp.builder()
+                .id("adunitcodevalue")
+                .ext(givenImpExt())
+                .banner(givenBanner())
+                .build();
+
+        final BidRequest bidRequest = givenBidRequest(request -> request, List.of(imp), givenDevice(identity()));
+        final AuctionContext auctionContext = givenAuctionContext(bidRequest, context -> context);
+        final AuctionInvocationContext invocationContext = givenAuctionInvocationContext(auctionContext, 0.0001);
+        when(invocationContext.auctionContext()).thenReturn(auctionContext);
+        when(modelCacheWithExpiration.getIfPresent("onnxModelRunner_test-pbuid"))
+                .thenReturn(givenOnnxModelRunner());
+        when(thresholdsCacheWithExpiration.getIfPresent("throttlingThresholds_test-pbuid"))
+                .thenReturn(givenThrottlingThresholds());
+
+        // when
+        final Future<InvocationResult<AuctionRequestPayload>> result = target.call(null, invocationContext);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause())
+                .isInstanceOf(PreBidException.class)
+                .hasMessage("Invalid analytics result");
+    }
+
     private AuctionContext givenAuctionContext(
             BidRequest bidRequest,
             UnaryOperator<AuctionContext.AuctionContextBuilder> auctionContextCustomizer) {
@@ -4,7 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
-import org.apache.commons.collections4.CollectionUtils;
+import lombok.Value;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -17,6 +17,7 @@ import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BidAttributeBlo
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.BlockedAttributes;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.ResponseBlockingConfig;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.model.Result;
+import org.prebid.server.hooks.modules.ortb2.blocking.core.util.HashedList;
 import org.prebid.server.hooks.modules.ortb2.blocking.core.util.MergeUtils;
 import org.prebid.server.spring.config.bidder.model.MediaType;
 import org.prebid.server.util.ObjectUtil;
@@ -28,6 +29,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -73,12 +75,20 @@ public class AccountConfigReader {
     private final String bidder;
     private final OrtbVersion ortbVersion;
     private final boolean debugEnabled;
+    private final CompiledAccountConfig compiledConfig;
+
+    private AccountConfigReader(String accountId,
+                                ObjectNode config,
+                                String bidder,
+                                OrtbVersion ortbVersion,
+                                boolean debugEnabled) {
 
-    private AccountConfigReader(ObjectNode config, String bidder, OrtbVersion ortbVersion, boolean debugEnabled) {
         this.config = config;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
         this.debugEnabled = debugEnabled;
+
+        compiledConfig = config != null ? CompiledAccountConfig.of(accountId, config) : null;
     }
 
     public static AccountConfigReader create(ObjectNode config,
@@ -86,7 +96,19 @@ public class AccountConfigReader {
                                              OrtbVersion ortbVersion,
                                              boolean debugEnabled) {
 
-        return new AccountConfigReader(config, bidder, ortbVersion, debugEnabled);
+        return create(null, config, bidder, ortbVersion, debugEnabled);
+    }
+
+    /**
+     * Creates reader sharing rules compiled for the same config of the given account with other readers.
+     */
+    public static AccountConfigReader create(String accountId,
+                                             ObjectNode config,
+                                             String bidder,
+                                             OrtbVersion ortbVersion,
+                                             boolean debugEnabled) {
+
+        return new AccountConfigReader(accountId, config, bidder, ortbVersion, debugEnabled);
     }
 
     public Result<BlockedAttributes> blockedAttributesFor(BidRequest bidRequest) {
@@ -191,11 +213,12 @@ public class AccountConfigReader {
             return Result.empty();
         }
 
-        final Result<JsonNode> override = overrideFor(attributeConfig, actualMediaTypes, fieldName);
-
-        final List<T> result = overrideArrayAttribute(attributeConfig, override.getValue(), attributeType, fieldName);
+        final ResolvedRule<List<T>> rule = compiledConfig.rule(
+                RuleKey.of(attribute, fieldName, bidder, actualMediaTypes),
+                key -> resolveRule(attributeConfig, actualMediaTypes, fieldName, override -> HashedList.of(
+                        overrideArrayAttribute(attributeConfig, override, attributeType, fieldName))));
 
-        return Result.of(result, override.getMessages());
+        return toResult(rule, actualMediaTypes);
     }
 
     private Result<Integer> blockedCattaxComplement(BidRequest bidRequest) {
@@ -284,33 +307,43 @@ public class AccountConfigReader {
             return Result.empty();
         }
 
-        final Result<JsonNode> enforceBlocksOverrideResult = overrideFor(
-                attributeConfig, bidMediaTypes, ENFORCE_BLOCKS_FIELD);
-        final boolean enforceBlocks = mergeBoolean(
-                attributeConfig, enforceBlocksOverrideResult.getValue(), ENFORCE_BLOCKS_FIELD);
+        final Result<Boolean> enforceBlocksResult = booleanAttribute(
+                attribute, attributeConfig, bidMediaTypes, ENFORCE_BLOCKS_FIELD);
+        final boolean enforceBlocks = enforceBlocksResult.getValue();
 
         // for attributes that don't support blocking bids with unknown values
-        final Result<JsonNode> blockUnknownOverrideResult = blockUnknownField != null
-                ? overrideFor(attributeConfig, bidMediaTypes, blockUnknownField)
+        final Result<Boolean> blockUnknownResult = blockUnknownField != null
+                ? booleanAttribute(attribute, attributeConfig, bidMediaTypes, blockUnknownField)
                 : Result.empty();
-        final boolean blockUnknown = blockUnknownField != null
-                && mergeBoolean(attributeConfig, blockUnknownOverrideResult.getValue(), blockUnknownField);
+        final boolean blockUnknown = blockUnknownField != null && blockUnknownResult.getValue();
 
         final Set<T> dealExceptions = StringUtils.isNotBlank(dealid)
-                ? mergeDealExceptions(
-                attributeConfig,
-                dealExceptionsFor(attributeConfig, dealid, allowedForDealsField),
-                attributeType,
-                allowedForDealsField)
+                ? compiledConfig.rule(
+                        RuleKey.of(attribute, allowedForDealsField, null, null),
+                        key -> DealExceptions.of(attributeConfig, attributeType, allowedForDealsField))
+                .allowedFor(dealid)
                 : Collections.emptySet();
 
         final BidAttributeBlockingConfig<T> blockingConfig = BidAttributeBlockingConfig.of(
                 enforceBlocks, blockUnknown, dealExceptions);
-        final List<String> warnings = MergeUtils.mergeMessages(enforceBlocksOverrideResult, blockUnknownOverrideResult);
+        final List<String> warnings = MergeUtils.mergeMessages(enforceBlocksResult, blockUnknownResult);
 
         return Result.of(blockingConfig, warnings);
     }
 
+    private Result<Boolean> booleanAttribute(String attribute,
+                                            JsonNode attributeConfig,
+                                            Set<String> actualMediaTypes,
+                                            String fieldName) {
+
+        final ResolvedRule<Boolean> rule = compiledConfig.rule(
+                RuleKey.of(attribute, fieldName, bidder, actualMediaTypes),
+                key -> resolveRule(attributeConfig, actualMediaTypes, fieldName,
+                        override -> mergeBoolean(attributeConfig, override, fieldName)));
+
+        return toResult(rule, actualMediaTypes);
+    }
+
     private <T> Result<BidAttributeBlockingConfig<T>> blockingConfigForAttribute(String attribute,
                                                                                  Class<T> type,
                                                                                  String allowedForDealsField,
@@ -371,11 +404,15 @@ public class AccountConfigReader {
         return Collections.singleton(bidderBid.getType().getName());
     }
 
-    private Result<JsonNode> overrideFor(JsonNode parent, Set<String> actualMediaTypes, String field) {
+    private <T> ResolvedRule<T> resolveRule(JsonNode parent,
+                                            Set<String> actualMediaTypes,
+                                            String field,
+                                            Function<JsonNode, T> valueResolver) {
+
         final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
         final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
         if (overridesForField == null) {
-            return Result.empty();
+            return ResolvedRule.of(valueResolver.apply(null), 0);
         }
 
         final List<JsonNode> specificBidderResults = new ArrayList<>();
@@ -406,23 +443,23 @@ public class AccountConfigReader {
             }
         }
 
-        return toResult(specificBidderResults, catchAllBidderResults, actualMediaTypes);
-    }
-
-    private Result<JsonNode> toResult(List<JsonNode> specificBidderResults,
-                                      List<JsonNode> catchAllBidderResults,
-                                      Set<String> actualMediaTypes) {
-
         final JsonNode value = ObjectUtils.firstNonNull(
                 !specificBidderResults.isEmpty() ? specificBidderResults.getFirst() : null,
                 !catchAllBidderResults.isEmpty() ? catchAllBidderResults.getFirst() : null);
-        final List<String> warnings = debugEnabled && specificBidderResults.size() + catchAllBidderResults.size() > 1
+
+        return ResolvedRule.of(
+                valueResolver.apply(value),
+                specificBidderResults.size() + catchAllBidderResults.size());
+    }
+
+    private <T> Result<T> toResult(ResolvedRule<T> rule, Set<String> actualMediaTypes) {
+        final List<String> warnings = debugEnabled && rule.getMatchedOverrides() > 1
                 ? Collections.singletonList(
                 "More than one conditions matches request. Bidder: %s, request media types: %s"
                         .formatted(bidder, actualMediaTypes))
                 : null;
 
-        return Result.of(value, warnings);
+        return Result.of(rule.getValue(), warnings);
     }
 
     private static BlockedAttributes toBlockedAttributes(Result<List<String>> badv,
@@ -451,31 +488,6 @@ public class AccountConfigReader {
                 : null;
     }
 
-    private static List<JsonNode> dealExceptionsFor(JsonNode parent, String dealid, String field) {
-        final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
-        final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
-        if (overridesForField == null) {
-            return Collections.emptyList();
-        }
-
-        final List<JsonNode> results = new ArrayList<>();
-        for (final JsonNode override : overridesForField) {
-            final JsonNode conditions = requireNonNull(objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
-            final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
-
-            if (dealIds == null) {
-                throw new InvalidAccountConfigurationException(
-                        "%s field in account configuration must contain %s".formatted(CONDITIONS_FIELD, DEALIDS_FIELD));
-            }
-
-            if (dealIds.contains(dealid)) {
-                results.add(requireNonNull(override.get(OVERRIDE_FIELD), OVERRIDE_FIELD));
-            }
-        }
-
-        return results;
-    }
-
     private static <T> List<T> overrideArrayAttribute(JsonNode parent, JsonNode override, Class<T> type, String field) {
         return override != null
                 ? asTypedArray(override, type, OVERRIDE_FIELD)
@@ -488,24 +500,6 @@ public class AccountConfigReader {
                 BooleanUtils.toBooleanDefaultIfNull(typedFieldFrom(parent, Boolean.class, field), false));
     }
 
-    private static <T> Set<T> mergeDealExceptions(JsonNode parent,
-                                                  List<JsonNode> overrides,
-                                                  Class<T> type,
-                                                  String field) {
-
-        final List<T> defaultValue = typedArrayFrom(parent, type, field);
-        if (defaultValue == null && CollectionUtils.isEmpty(overrides)) {
-            return Collections.emptySet();
-        }
-
-        final Set<T> results = new HashSet<>(CollectionUtils.emptyIfNull(defaultValue));
-        for (final JsonNode override : IterableUtils.emptyIfNull(overrides)) {
-            results.addAll(asTypedArray(override, type, field));
-        }
-
-        return results;
-    }
-
     private static <T> List<T> typedArrayFrom(JsonNode parent, Class<T> type, String field) {
         final JsonNode child = parent.get(field);
         if (child == null) {
@@ -600,4 +594,116 @@ public class AccountConfigReader {
 
         return object;
     }
+
+    /**
+     * Identifies rule compiled from account config for the given bidder and media types.
+     */
+    @Value(staticConstructor = "of")
+    private static class RuleKey {
+
+        String attribute;
+
+        String field;
+
+        String bidder;
+
+        Set<String> mediaTypes;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class ResolvedRule<T> {
+
+        T value;
+
+        int matchedOverrides;
+    }
+
+    /**
+     * Values allowed for deals, with deal ids and values of every override resolved once per compiled config.
+     */
+    private static class DealExceptions<T> {
+
+        private final Set<T> defaultValues;
+        private final List<DealOverride<T>> overrides;
+
+        private DealExceptions(Set<T> defaultValues, List<DealOverride<T>> overrides) {
+            this.defaultValues = defaultValues;
+            this.overrides = overrides;
+        }
+
+        static <T> DealExceptions<T> of(JsonNode parent, Class<T> type, String field) {
+            final JsonNode actionOverrides = objectNodeFrom(parent, ACTION_OVERRIDES_FIELD);
+            final JsonNode overridesForField = actionOverrides != null ? objectArrayFrom(actionOverrides, field) : null;
+
+            final List<DealOverride<T>> overrides = new ArrayList<>();
+            for (final JsonNode override : IterableUtils.emptyIfNull(overridesForField)) {
+                final JsonNode conditions = requireNonNull(
+                        objectNodeFrom(override, CONDITIONS_FIELD), CONDITIONS_FIELD);
+                final List<String> dealIds = typedArrayFrom(conditions, String.class, DEALIDS_FIELD);
+
+                if (dealIds == null) {
+                    throw new InvalidAccountConfigurationException(
+                            "%s field in account configuration must contain %s".formatted(
+                                    CONDITIONS_FIELD, DEALIDS_FIELD));
+                }
+
+                final Set<String> dealIdsSet = dealIds.stream()
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toUnmodifiableSet());
+                overrides.add(DealOverride.of(dealIdsSet, override.get(OVERRIDE_FIELD), type, field));
+            }
+
+            final List<T> defaultValues = typedArrayFrom(parent, type, field);
+
+            return new DealExceptions<>(
+                    defaultValues != null
+                            ? Collections.unmodifiableSet(new HashSet<>(defaultValues))
+                            : Collections.emptySet(),
+                    overrides);
+        }
+
+        Set<T> allowedFor(String dealid) {
+            Set<T> results = null;
+            for (final DealOverride<T> override : overrides) {
+                if (override.getDealIds().contains(dealid)) {
+                    if (results == null) {
+                        results = new HashSet<>(defaultValues);
+                    }
+                    results.addAll(override.values());
+                }
+            }
+
+            return results != null ? results : defaultValues;
+        }
+    }
+
+    /**
+     * Invalid override fails only bids with its deal ids, so the error is kept and thrown on lookup.
+     */
+    @Value
+    private static class DealOverride<T> {
+
+        Set<String> dealIds;
+
+        List<T> values;
+
+        InvalidAccountConfigurationException error;
+
+        static <T> DealOverride<T> of(Set<String> dealIds, JsonNode override, Class<T> type, String field) {
+            try {
+                return new DealOverride<>(
+                        dealIds, asTypedArray(requireNonNull(override, OVERRIDE_FIELD), type, field), null);
+            } catch (InvalidAccountConfigurationException e) {
+                return new DealOverride<>(dealIds, null, e);
+            }
+        }
+
+        List<T> values() {
+            if (error != null) {
+                throw error;
+            }
+
+            return values;
+        }
+    }
 }
@@ -47,6 +47,7 @@ public class BidsBlocker {
     private final List<BidderBid> bids;
     private final String bidder;
     private final OrtbVersion ortbVersion;
+    private final String accountId;
     private final ObjectNode accountConfig;
     private final BlockedAttributes blockedAttributes;
     private final BidRejectionTracker bidRejectionTracker;
@@ -55,6 +56,7 @@ public class BidsBlocker {
     private BidsBlocker(List<BidderBid> bids,
                         String bidder,
                         OrtbVersion ortbVersion,
+                        String accountId,
                         ObjectNode accountConfig,
                         BlockedAttributes blockedAttributes,
                         BidRejectionTracker bidRejectionTracker,
@@ -63,6 +65,7 @@ public class BidsBlocker {
         this.bids = bids;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
+        this.accountId = accountId;
         this.accountConfig = accountConfig;
         this.blockedAttributes = blockedAttributes;
         this.bidRejectionTracker = bidRejectionTracker;
@@ -77,10 +80,24 @@ public class BidsBlocker {
                                      BidRejectionTracker bidRejectionTracker,
                                      boolean debugEnabled) {
 
+        return create(
+                bids, bidder, ortbVersion, null, accountConfig, blockedAttributes, bidRejectionTracker, debugEnabled);
+    }
+
+    public static BidsBlocker create(List<BidderBid> bids,
+                                     String bidder,
+                                     OrtbVersion ortbVersion,
+                                     String accountId,
+                                     ObjectNode accountConfig,
+                                     BlockedAttributes blockedAttributes,
+                                     BidRejectionTracker bidRejectionTracker,
+                                     boolean debugEnabled) {
+
         return new BidsBlocker(
                 Objects.requireNonNull(bids),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
+                accountId,
                 accountConfig,
                 blockedAttributes,
                 bidRejectionTracker,
@@ -89,7 +106,7 @@ public class BidsBlocker {
 
     public ExecutionResult<BlockedBids> block() {
         final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+                accountId, accountConfig, bidder, ortbVersion, debugEnabled);
 
         try {
             final List<Result<BlockingResult>> blockedBidResults = bids.stream()
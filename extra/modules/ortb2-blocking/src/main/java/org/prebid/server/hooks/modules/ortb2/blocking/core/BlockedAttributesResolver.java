@@ -15,18 +15,21 @@ public class BlockedAttributesResolver {
     private final BidRequest bidRequest;
     private final String bidder;
     private final OrtbVersion ortbVersion;
+    private final String accountId;
     private final ObjectNode accountConfig;
     private final boolean debugEnabled;
 
     private BlockedAttributesResolver(BidRequest bidRequest,
                                       String bidder,
                                       OrtbVersion ortbVersion,
+                                      String accountId,
                                       ObjectNode accountConfig,
                                       boolean debugEnabled) {
 
         this.bidRequest = bidRequest;
         this.bidder = bidder;
         this.ortbVersion = ortbVersion;
+        this.accountId = accountId;
         this.accountConfig = accountConfig;
         this.debugEnabled = debugEnabled;
     }
@@ -37,17 +40,28 @@ public class BlockedAttributesResolver {
                                                    ObjectNode accountConfig,
                                                    boolean debugEnabled) {
 
+        return create(bidRequest, bidder, ortbVersion, null, accountConfig, debugEnabled);
+    }
+
+    public static BlockedAttributesResolver create(BidRequest bidRequest,
+                                                   String bidder,
+                                                   OrtbVersion ortbVersion,
+                                                   String accountId,
+                                                   ObjectNode accountConfig,
+                                                   boolean debugEnabled) {
+
         return new BlockedAttributesResolver(
                 Objects.requireNonNull(bidRequest),
                 Objects.requireNonNull(bidder),
                 Objects.requireNonNull(ortbVersion),
+                accountId,
                 accountConfig,
                 debugEnabled);
     }
 
     public ExecutionResult<BlockedAttributes> resolve() {
         final AccountConfigReader accountConfigReader = AccountConfigReader.create(
-                accountConfig, bidder, ortbVersion, debugEnabled);
+                accountId, accountConfig, bidder, ortbVersion, debugEnabled);
 
         try {
             final Result<BlockedAttributes> blockedAttributesResult = accountConfigReader
@@ -0,0 +1,60 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Holds blocking rules compiled from the module account config, shared by all invocations for the same account.
+ * <p>
+ * Instances are cached by account id and reused while the account config has the same content, so rules are
+ * shared regardless of whether application settings return the same config node for each auction. A config node
+ * of the cached account is compared by identity first, so the content is compared only when settings caching is off.
+ * Rules are compiled lazily on first access, so a rule that can't be compiled because of invalid config
+ * is not cached and fails every invocation it is used by.
+ */
+class CompiledAccountConfig {
+
+    private static final int MAX_ACCOUNTS = 10_000;
+
+    private static final Cache<String, CompiledAccountConfig> CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_ACCOUNTS)
+            .build();
+
+    private final ObjectNode config;
+    private final Map<Object, Object> rules = new ConcurrentHashMap<>();
+
+    private CompiledAccountConfig(ObjectNode config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns rules of the given account config, not cached if account id is unknown.
+     */
+    static CompiledAccountConfig of(String accountId, ObjectNode config) {
+        if (accountId == null) {
+            return new CompiledAccountConfig(config);
+        }
+
+        final CompiledAccountConfig cached = CACHE.getIfPresent(accountId);
+        if (cached != null && cached.config.equals(config)) {
+            return cached;
+        }
+
+        final CompiledAccountConfig compiled = new CompiledAccountConfig(config);
+        CACHE.put(accountId, compiled);
+        return compiled;
+    }
+
+    /**
+     * Returns rule compiled for the given key, compiler must not access other rules of this config.
+     */
+    @SuppressWarnings("unchecked")
+    <K, V> V rule(K key, Function<K, V> compiler) {
+        return (V) rules.computeIfAbsent(key, ignored -> compiler.apply(key));
+    }
+}
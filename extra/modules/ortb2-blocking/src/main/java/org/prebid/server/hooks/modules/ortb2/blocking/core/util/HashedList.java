@@ -0,0 +1,43 @@
+package org.prebid.server.hooks.modules.ortb2.blocking.core.util;
+
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Immutable list keeping the order of its elements with constant-time {@link #contains(Object)}.
+ */
+public class HashedList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<T> elements;
+    private final Set<T> index;
+
+    private HashedList(List<T> elements) {
+        this.elements = List.copyOf(elements);
+        this.index = new HashSet<>(this.elements);
+    }
+
+    public static <T> List<T> of(List<T> elements) {
+        return elements == null || elements instanceof HashedList<?>
+                ? elements
+                : new HashedList<>(Objects.requireNonNull(elements));
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return element != null && index.contains(element);
+    }
+}
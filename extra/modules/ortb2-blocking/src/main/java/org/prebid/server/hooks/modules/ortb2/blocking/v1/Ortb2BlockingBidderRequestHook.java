@@ -20,6 +20,7 @@ import org.prebid.server.hooks.v1.bidder.BidderRequestHook;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Map;
 import java.util.Objects;
@@ -50,6 +51,7 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                         bidRequest,
                         bidder,
                         moduleContext.ortbVersionOf(bidder),
+                        accountId(invocationContext),
                         invocationContext.accountConfig(),
                         invocationContext.debugEnabled())
                 .resolve();
@@ -86,6 +88,11 @@ public class Ortb2BlockingBidderRequestHook implements BidderRequestHook {
                 : ModuleContext.create();
     }
 
+    private static String accountId(BidderInvocationContext invocationContext) {
+        final Account account = invocationContext.auctionContext().getAccount();
+        return account != null ? account.getId() : null;
+    }
+
     private BidderAliases aliases(BidRequest bidRequest) {
         final ExtRequest requestExt = bidRequest.getExt();
         final ExtRequestPrebid prebid = requestExt != null ? requestExt.getPrebid() : null;
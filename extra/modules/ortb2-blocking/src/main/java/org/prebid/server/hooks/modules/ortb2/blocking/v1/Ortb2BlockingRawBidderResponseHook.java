@@ -26,6 +26,7 @@ import org.prebid.server.hooks.v1.analytics.Tags;
 import org.prebid.server.hooks.v1.bidder.BidderInvocationContext;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.hooks.v1.bidder.RawBidderResponseHook;
+import org.prebid.server.settings.model.Account;
 
 import java.util.Collections;
 import java.util.List;
@@ -57,6 +58,7 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                         bidderResponsePayload.bids(),
                         bidder,
                         ObjectUtils.defaultIfNull(moduleContext.ortbVersionOf(bidder), OrtbVersion.ORTB_2_5),
+                        accountId(invocationContext),
                         invocationContext.accountConfig(),
                         moduleContext.blockedAttributesFor(bidder),
                         invocationContext.auctionContext().getBidRejectionTrackers().get(bidder),
@@ -95,6 +97,11 @@ public class Ortb2BlockingRawBidderResponseHook implements RawBidderResponseHook
                 : ModuleContext.create();
     }
 
+    private static String accountId(BidderInvocationContext invocationContext) {
+        final Account account = invocationContext.auctionContext().getAccount();
+        return account != null ? account.getId() : null;
+    }
+
     private Tags toAnalyticsTags(List<AnalyticsResult> analyticsResults) {
         if (CollectionUtils.isEmpty(analyticsResults)) {
             return null;
@@ -525,6 +525,79 @@ public class AccountConfigReaderTest {
                 Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
     }
 
+    @Test
+    public void blockedAttributesForShouldReuseRulesCompiledForEqualConfigOfSameAccount() {
+        // given
+        final ModuleConfig moduleConfig = ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(asList("domain1.com", "domain2.com"))
+                        .build())
+                .build());
+
+        // when
+        final Result<BlockedAttributes> firstResult = AccountConfigReader
+                .create("reusedAccountId", toObjectNode(moduleConfig), "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+        final Result<BlockedAttributes> secondResult = AccountConfigReader
+                .create("reusedAccountId", toObjectNode(moduleConfig), "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+
+        // then
+        assertThat(firstResult).isEqualTo(Result.withValue(attributesWithBadv(asList("domain1.com", "domain2.com"))));
+        assertThat(secondResult.getValue().getBadv()).isSameAs(firstResult.getValue().getBadv());
+    }
+
+    @Test
+    public void blockedAttributesForShouldRecompileRulesWhenConfigOfSameAccountChanged() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder().blocked(singletonList("domain1.com")).build())
+                .build()));
+        final ObjectNode changedAccountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder().blocked(singletonList("domain2.com")).build())
+                .build()));
+
+        // when
+        final Result<BlockedAttributes> firstResult = AccountConfigReader
+                .create("changedAccountId", accountConfig, "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+        final Result<BlockedAttributes> secondResult = AccountConfigReader
+                .create("changedAccountId", changedAccountConfig, "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+
+        // then
+        assertThat(firstResult).isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain1.com"))));
+        assertThat(secondResult).isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain2.com"))));
+    }
+
+    @Test
+    public void blockedAttributesForShouldResolveOverridesOfSameAccountConfigForEachBidder() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .blocked(asList("domain1.com", "domain2.com"))
+                        .actionOverrides(AttributeActionOverrides.blocked(
+                                singletonList(
+                                        ArrayOverride.of(
+                                                Conditions.of(singletonList("bidder1"), null),
+                                                singletonList("domain3.com")))))
+                        .build())
+                .build()));
+
+        // when
+        final Result<BlockedAttributes> bidder1Result = AccountConfigReader
+                .create(accountConfig, "bidder1", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+        final Result<BlockedAttributes> bidder2Result = AccountConfigReader
+                .create(accountConfig, "bidder2", ORTB_VERSION, true)
+                .blockedAttributesFor(emptyRequest());
+
+        // then
+        assertThat(bidder1Result).isEqualTo(Result.withValue(attributesWithBadv(singletonList("domain3.com"))));
+        assertThat(bidder2Result).isEqualTo(
+                Result.withValue(attributesWithBadv(asList("domain1.com", "domain2.com"))));
+    }
+
     @Test
     public void blockedAttributesForShouldReturnResultWithBadvFromOverridesWhenMatchRequestByMediaType() {
         // given
@@ -1251,6 +1324,66 @@ public class AccountConfigReaderTest {
         });
     }
 
+    @Test
+    public void responseBlockingConfigForShouldResolveDealExceptionsOfSameAccountConfigForEachDeal() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .allowedForDeals(singletonList("domain1.com"))
+                        .actionOverrides(AttributeActionOverrides.allowedForDeals(
+                                singletonList(
+                                        AllowedForDealsOverride.of(
+                                                DealsConditions.of(singletonList("dealid1")),
+                                                singletonList("domain2.com")))))
+                        .build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        final BidderBid otherDealBid = BidderBid.of(
+                Bid.builder().dealid("dealid2").build(),
+                BidType.banner,
+                "USD");
+
+        // when
+        final Result<ResponseBlockingConfig> dealResult = reader.responseBlockingConfigFor(bid());
+        final Result<ResponseBlockingConfig> otherDealResult = reader.responseBlockingConfigFor(otherDealBid);
+
+        // then
+        assertThat(dealResult.getValue().getBadv().getAllowedValues())
+                .containsExactlyInAnyOrder("domain1.com", "domain2.com");
+        assertThat(otherDealResult.getValue().getBadv().getAllowedValues())
+                .containsExactly("domain1.com");
+    }
+
+    @Test
+    public void responseBlockingConfigForShouldFailOnlyForDealOfInvalidDealException() {
+        // given
+        final ObjectNode accountConfig = toObjectNode(ModuleConfig.of(Attributes.builder()
+                .badv(Attribute.badvBuilder()
+                        .allowedForDeals(singletonList("domain1.com"))
+                        .actionOverrides(AttributeActionOverrides.allowedForDeals(
+                                singletonList(
+                                        AllowedForDealsOverride.of(
+                                                DealsConditions.of(singletonList("dealid1")),
+                                                null))))
+                        .build())
+                .build()));
+        final AccountConfigReader reader = AccountConfigReader.create(accountConfig, "bidder1", ORTB_VERSION, true);
+
+        final BidderBid otherDealBid = BidderBid.of(
+                Bid.builder().dealid("dealid2").build(),
+                BidType.banner,
+                "USD");
+
+        // when
+        final Result<ResponseBlockingConfig> otherDealResult = reader.responseBlockingConfigFor(otherDealBid);
+
+        // then
+        assertThat(otherDealResult.getValue().getBadv().getAllowedValues()).containsExactly("domain1.com");
+        assertThatThrownBy(() -> reader.responseBlockingConfigFor(bid()))
+                .isInstanceOf(InvalidAccountConfigurationException.class);
+    }
+
     @Test
     public void responseBlockingConfigForShouldReturnAllAttributesForBanner() {
         // given
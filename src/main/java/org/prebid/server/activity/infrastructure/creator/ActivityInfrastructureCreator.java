@@ -1,6 +1,8 @@
 package org.prebid.server.activity.infrastructure.creator;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.Activity;
 import org.prebid.server.activity.infrastructure.ActivityController;
 import org.prebid.server.activity.infrastructure.ActivityInfrastructure;
@@ -45,12 +47,15 @@ public class ActivityInfrastructureCreator {
     private static final Logger logger = LoggerFactory.getLogger(ActivityInfrastructureCreator.class);
 
     private static final int MODULE_MAX_SKIP_RATE = 100;
+    private static final int REUSABLE_CACHE_MAXIMUM_SIZE = 10_000;
 
     private final ActivityRuleFactory activityRuleFactory;
     private final Purpose defaultPurpose4;
     private final Metrics metrics;
     private final JacksonMapper jacksonMapper;
 
+    private final Map<String, ReusableActivityInfrastructure> accountIdToReusableActivityInfrastructure;
+
     public ActivityInfrastructureCreator(ActivityRuleFactory activityRuleFactory,
                                          GdprConfig gdprConfig,
                                          Metrics metrics,
@@ -63,6 +68,11 @@ public class ActivityInfrastructureCreator {
                 .orElse(null);
         this.metrics = Objects.requireNonNull(metrics);
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
+
+        accountIdToReusableActivityInfrastructure = Caffeine.newBuilder()
+                .maximumSize(REUSABLE_CACHE_MAXIMUM_SIZE)
+                .<String, ReusableActivityInfrastructure>build()
+                .asMap();
     }
 
     public ActivityInfrastructure create(Account account, GppContext gppContext, TraceLevel traceLevel) {
@@ -70,6 +80,46 @@ public class ActivityInfrastructureCreator {
         return new ActivityInfrastructure(parse(account, gppContext, debug), debug);
     }
 
+    /**
+     * Returns {@link ActivityInfrastructure} without debug trace, shared by requests of the same account.
+     * <p>
+     * Shared instance is rebuilt as soon as account privacy config changes (e.g. after account cache invalidation),
+     * and is not used at all if rules depend on the request GPP data or privacy modules are skipped randomly.
+     */
+    public ActivityInfrastructure getOrCreate(Account account, GppContext gppContext) {
+        if (!isReusable(account, gppContext)) {
+            return create(account, gppContext, null);
+        }
+
+        final String accountId = StringUtils.defaultString(account.getId());
+        final AccountPrivacyConfig privacyConfig = account.getPrivacy();
+
+        final ReusableActivityInfrastructure reusable = accountIdToReusableActivityInfrastructure.get(accountId);
+        if (reusable != null && Objects.equals(reusable.privacyConfig(), privacyConfig)) {
+            return reusable.activityInfrastructure();
+        }
+
+        final ActivityInfrastructure activityInfrastructure = create(account, gppContext, null);
+        accountIdToReusableActivityInfrastructure.put(
+                accountId, new ReusableActivityInfrastructure(privacyConfig, activityInfrastructure));
+
+        return activityInfrastructure;
+    }
+
+    private static boolean isReusable(Account account, GppContext gppContext) {
+        final GppContext.Scope scope = gppContext != null ? gppContext.scope() : null;
+        if (scope != null && scope.getGppModel() != null) {
+            return false;
+        }
+
+        return Optional.ofNullable(account.getPrivacy())
+                .map(AccountPrivacyConfig::getModules)
+                .orElseGet(Collections::emptyList)
+                .stream()
+                .filter(Objects::nonNull)
+                .noneMatch(config -> config.getSkipRate() > 0);
+    }
+
     private ActivityInfrastructureDebug debugWheel(Account account, TraceLevel traceLevel) {
         return new ActivityInfrastructureDebug(account.getId(), traceLevel, metrics, jacksonMapper);
     }
@@ -184,4 +234,8 @@ public class ActivityInfrastructureCreator {
     private static Supplier<Map<Activity, ActivityController>> enumMapFactory() {
         return () -> new EnumMap<>(Activity.class);
     }
+
+    private record ReusableActivityInfrastructure(AccountPrivacyConfig privacyConfig,
+                                                  ActivityInfrastructure activityInfrastructure) {
+    }
 }
@@ -0,0 +1,219 @@
+package org.prebid.server.auction;
+
+import com.codahale.metrics.ExponentiallyDecayingReservoir;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Snapshot;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountAdaptiveTimeoutConfig;
+import org.prebid.server.settings.model.AccountAuctionConfig;
+import org.prebid.server.util.ObjectUtil;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Schedules bidder requests within the auction deadline using streaming statistics of past bidder responses.
+ * <p>
+ * Latency, timeout and bid rates are kept per bidder in exponentially decaying reservoirs, so recent responses
+ * prevail. Once a bidder has enough samples, its effective timeout is limited to the configured latency percentile
+ * multiplied by the configured factor, so the request doesn't hold a connection until the auction deadline when
+ * the bidder is not expected to answer by then anyway.
+ * <p>
+ * Bidders which time out chronically and rarely bid can be shed: only a probe fraction of their requests is sent
+ * to let statistics recover.
+ */
+public class AdaptiveBidderTimeoutResolver {
+
+    private static final long STATISTICS_REFRESH_PERIOD_MS = 1000L;
+
+    private final boolean enabled;
+    private final double latencyPercentile;
+    private final double latencyMultiplier;
+    private final long minTimeout;
+    private final long minSamples;
+    private final boolean shedLateBidders;
+    private final double shedTimeoutRate;
+    private final double shedMaxBidRate;
+    private final double shedProbeRate;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, BidderStatistics> bidderToStatistics;
+
+    public AdaptiveBidderTimeoutResolver(boolean enabled,
+                                         double latencyPercentile,
+                                         double latencyMultiplier,
+                                         long minTimeout,
+                                         long minSamples,
+                                         boolean shedLateBidders,
+                                         double shedTimeoutRate,
+                                         double shedMaxBidRate,
+                                         double shedProbeRate,
+                                         Metrics metrics,
+                                         Clock clock) {
+
+        validate(latencyPercentile, latencyMultiplier, minTimeout, minSamples);
+        validateRate(shedTimeoutRate, "Shed timeout rate");
+        validateRate(shedMaxBidRate, "Shed max bid rate");
+        validateRate(shedProbeRate, "Shed probe rate");
+
+        this.enabled = enabled;
+        this.latencyPercentile = latencyPercentile;
+        this.latencyMultiplier = latencyMultiplier;
+        this.minTimeout = minTimeout;
+        this.minSamples = minSamples;
+        this.shedLateBidders = shedLateBidders;
+        this.shedTimeoutRate = shedTimeoutRate;
+        this.shedMaxBidRate = shedMaxBidRate;
+        this.shedProbeRate = shedProbeRate;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        bidderToStatistics = new ConcurrentHashMap<>();
+    }
+
+    private static void validate(double latencyPercentile, double latencyMultiplier, long minTimeout, long minSamples) {
+        if (latencyPercentile <= 0 || latencyPercentile > 1) {
+            throw new IllegalArgumentException(
+                    "Latency percentile should be in range (0, 1]: " + latencyPercentile);
+        }
+        if (latencyMultiplier < 1) {
+            throw new IllegalArgumentException(
+                    "Latency multiplier should not be less than 1: " + latencyMultiplier);
+        }
+        if (minTimeout <= 0 || minSamples <= 0) {
+            throw new IllegalArgumentException(
+                    "Both min timeout and min samples should be grater than 0: min timeout=%d, min samples=%d"
+                            .formatted(minTimeout, minSamples));
+        }
+    }
+
+    private static void validateRate(double rate, String name) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("%s should be in range [0, 1]: %s".formatted(name, rate));
+        }
+    }
+
+    /**
+     * Returns effective timeout for the bidder request, which is never greater than the given timeout.
+     */
+    public long resolveTimeout(String bidder, Account account, long timeout) {
+        if (!isEnabled(account)) {
+            return timeout;
+        }
+
+        final BidderSummary summary = summary(bidder);
+        if (summary == null) {
+            return timeout;
+        }
+
+        final long expectedLatency = (long) Math.ceil(summary.latency() * latencyMultiplier);
+        return Math.min(timeout, Math.max(expectedLatency, minTimeout));
+    }
+
+    /**
+     * Returns true if request to the bidder should not be sent because the bidder chronically times out.
+     */
+    public boolean shouldShed(String bidder, Account account) {
+        if (!isEnabled(account) || !isShedLateBidders(account)) {
+            return false;
+        }
+
+        final BidderSummary summary = summary(bidder);
+        final boolean shed = summary != null
+                && summary.timeoutRate() >= shedTimeoutRate
+                && summary.bidRate() <= shedMaxBidRate
+                && ThreadLocalRandom.current().nextDouble() >= shedProbeRate;
+
+        if (shed) {
+            metrics.updateAdapterRequestErrorMetric(bidder, MetricName.shed);
+        }
+
+        return shed;
+    }
+
+    /**
+     * Returns recent rate of bidder responses with bids or null if there are not enough samples yet.
+     */
+    public Double bidRate(String bidder) {
+        final BidderSummary summary = enabled ? summary(bidder) : null;
+        return summary != null ? summary.bidRate() : null;
+    }
+
+    /**
+     * Updates statistics of the bidder with the outcome of its request.
+     */
+    public void recordResponse(String bidder, long responseTime, boolean timedOut, boolean hasBids) {
+        if (!enabled) {
+            return;
+        }
+
+        final BidderStatistics statistics =
+                bidderToStatistics.computeIfAbsent(bidder, ignored -> new BidderStatistics());
+        statistics.latency.update(responseTime);
+        statistics.timeouts.update(timedOut ? 1 : 0);
+        statistics.bids.update(hasBids ? 1 : 0);
+    }
+
+    private boolean isEnabled(Account account) {
+        final Boolean accountEnabled = ObjectUtil.getIfNotNull(accountConfig(account),
+                AccountAdaptiveTimeoutConfig::getEnabled);
+
+        return enabled && !Objects.equals(accountEnabled, false);
+    }
+
+    private boolean isShedLateBidders(Account account) {
+        final Boolean accountShedLateBidders = ObjectUtil.getIfNotNull(accountConfig(account),
+                AccountAdaptiveTimeoutConfig::getShedLateBidders);
+
+        return ObjectUtil.firstNonNull(() -> accountShedLateBidders, () -> shedLateBidders);
+    }
+
+    private static AccountAdaptiveTimeoutConfig accountConfig(Account account) {
+        final AccountAuctionConfig auctionConfig = ObjectUtil.getIfNotNull(account, Account::getAuction);
+        return ObjectUtil.getIfNotNull(auctionConfig, AccountAuctionConfig::getAdaptiveTimeout);
+    }
+
+    /**
+     * Returns summary of bidder statistics or null if there are not enough samples yet.
+     * <p>
+     * Summary is cached for a short period, since taking a snapshot of reservoirs is not free.
+     */
+    private BidderSummary summary(String bidder) {
+        final BidderStatistics statistics = bidderToStatistics.get(bidder);
+        if (statistics == null || statistics.latency.getCount() < minSamples) {
+            return null;
+        }
+
+        final long now = clock.millis();
+        BidderSummary summary = statistics.summary;
+        if (summary == null || now - summary.createdAt() >= STATISTICS_REFRESH_PERIOD_MS) {
+            final Snapshot latencySnapshot = statistics.latency.getSnapshot();
+            summary = new BidderSummary(
+                    latencySnapshot.getValue(latencyPercentile),
+                    statistics.timeouts.getSnapshot().getMean(),
+                    statistics.bids.getSnapshot().getMean(),
+                    now);
+            statistics.summary = summary;
+        }
+
+        return summary;
+    }
+
+    private static class BidderStatistics {
+
+        private final Histogram latency = new Histogram(new ExponentiallyDecayingReservoir());
+        private final Histogram timeouts = new Histogram(new ExponentiallyDecayingReservoir());
+        private final Histogram bids = new Histogram(new ExponentiallyDecayingReservoir());
+
+        private volatile BidderSummary summary;
+    }
+
+    private record BidderSummary(double latency, double timeoutRate, double bidRate, long createdAt) {
+    }
+}
@@ -0,0 +1,313 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.apache.commons.lang3.BooleanUtils;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRejectionReason;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
+import org.prebid.server.util.PbsUtil;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Decides when auction stops waiting for bidder responses.
+ * <p>
+ * By default, auction waits for all bidders. If early completion is enabled, auction completes as soon as every
+ * bidder still being waited for is unlikely to change its result: either its recent bid rate tracked by
+ * {@link AdaptiveBidderTimeoutResolver} doesn't exceed the configured maximum, or, if enabled and the request
+ * prefers deals, all of its imps already have deal bids. Such bidders are treated as timed out and their HTTP
+ * requests still in flight are cancelled.
+ * <p>
+ * If cancellation is disabled, bids returned afterwards are compared with the best bids received in time to report
+ * the revenue lost by the policy, so it can be tuned before cancelling requests.
+ */
+public class AuctionCompletionPolicy {
+
+    private static final String EARLY_COMPLETION_ERROR = "Auction completed before bidder responded";
+    private static final String LOST_REVENUE_CURRENCY = "USD";
+    private static final BigDecimal MICROS_IN_UNIT = BigDecimal.valueOf(1_000_000);
+
+    private final boolean enabled;
+    private final boolean dealBidsCompleteImps;
+    private final double maxPendingBidRate;
+    private final boolean cancelPendingRequests;
+    private final AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver;
+    private final CurrencyConversionService currencyConversionService;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    public AuctionCompletionPolicy(boolean enabled,
+                                   boolean dealBidsCompleteImps,
+                                   double maxPendingBidRate,
+                                   boolean cancelPendingRequests,
+                                   AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver,
+                                   CurrencyConversionService currencyConversionService,
+                                   Metrics metrics,
+                                   Clock clock) {
+
+        this.enabled = enabled;
+        this.dealBidsCompleteImps = dealBidsCompleteImps;
+        this.maxPendingBidRate = maxPendingBidRate;
+        this.cancelPendingRequests = cancelPendingRequests;
+        this.adaptiveBidderTimeoutResolver = Objects.requireNonNull(adaptiveBidderTimeoutResolver);
+        this.currencyConversionService = Objects.requireNonNull(currencyConversionService);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Requests bids for each of the given participations and returns participations with bidder responses,
+     * in the same order.
+     * <p>
+     * Bids requester receives future completed once the auction doesn't need the response anymore,
+     * or null if requests are never cancelled.
+     */
+    public Future<List<AuctionParticipation>> requestBids(
+            AuctionContext auctionContext,
+            List<AuctionParticipation> auctionParticipations,
+            BidderAliases aliases,
+            BiFunction<AuctionParticipation, Future<Void>, Future<AuctionParticipation>> bidsRequester) {
+
+        if (auctionParticipations.isEmpty()) {
+            return Future.succeededFuture(new ArrayList<>());
+        }
+
+        if (!enabled) {
+            return CompositeFuture.join(auctionParticipations.stream()
+                            .map(auctionParticipation -> bidsRequester.apply(auctionParticipation, null))
+                            .collect(Collectors.toCollection(ArrayList::new)))
+                    .map(CompositeFuture::list);
+        }
+
+        final PendingAuction pendingAuction = new PendingAuction(auctionContext, auctionParticipations, aliases);
+        final Future<Void> cancellation = cancelPendingRequests ? pendingAuction.cancellation.future() : null;
+        for (int i = 0; i < auctionParticipations.size(); i++) {
+            final int index = i;
+            bidsRequester.apply(auctionParticipations.get(i), cancellation)
+                    .onComplete(result -> pendingAuction.onParticipationCompleted(index, result));
+        }
+
+        return pendingAuction.promise.future();
+    }
+
+    private static boolean isPreferDeals(BidRequest bidRequest) {
+        final ExtRequestPrebid prebid = bidRequest != null ? PbsUtil.extRequestPrebid(bidRequest) : null;
+        final ExtRequestTargeting targeting = prebid != null ? prebid.getTargeting() : null;
+        return targeting != null && BooleanUtils.isTrue(targeting.getPreferdeals());
+    }
+
+    private class PendingAuction {
+
+        private final AuctionContext auctionContext;
+        private final List<AuctionParticipation> auctionParticipations;
+        private final BidderAliases aliases;
+        private final boolean dealBidsCompleteImps;
+
+        private final AuctionParticipation[] results;
+        private final Set<String> impIdsWithDealBids = new HashSet<>();
+        private final Promise<List<AuctionParticipation>> promise = Promise.promise();
+        private final Promise<Void> cancellation = Promise.promise();
+        private Map<String, BigDecimal> impIdToBestPrice;
+        private int completedCount;
+        private Throwable failure;
+        private boolean completed;
+
+        PendingAuction(AuctionContext auctionContext,
+                       List<AuctionParticipation> auctionParticipations,
+                       BidderAliases aliases) {
+
+            this.auctionContext = auctionContext;
+            this.auctionParticipations = auctionParticipations;
+            this.aliases = aliases;
+
+            dealBidsCompleteImps = AuctionCompletionPolicy.this.dealBidsCompleteImps
+                    && isPreferDeals(auctionContext.getBidRequest());
+            results = new AuctionParticipation[auctionParticipations.size()];
+        }
+
+        void onParticipationCompleted(int index, AsyncResult<AuctionParticipation> result) {
+            final List<AuctionParticipation> participations;
+            final Throwable cause;
+            final boolean completedEarly;
+            synchronized (this) {
+                completedCount++;
+                if (completed) {
+                    if (result.succeeded()) {
+                        onLateParticipation(result.result());
+                    }
+                    return;
+                }
+
+                if (result.succeeded()) {
+                    results[index] = result.result();
+                    collectDealBids(result.result());
+                } else if (failure == null) {
+                    failure = result.cause();
+                }
+
+                final boolean allCompleted = completedCount == results.length;
+                completedEarly = !allCompleted && failure == null && canCompleteEarly();
+                if (!allCompleted && !completedEarly) {
+                    return;
+                }
+
+                completed = true;
+                if (completedEarly) {
+                    completeEarly();
+                }
+                participations = Arrays.asList(results);
+                cause = failure;
+            }
+
+            // completing outside of lock, since response building follows
+            if (cause != null) {
+                promise.fail(cause);
+            } else {
+                promise.complete(participations);
+            }
+
+            if (completedEarly) {
+                cancellation.tryComplete();
+            }
+        }
+
+        private void collectDealBids(AuctionParticipation auctionParticipation) {
+            for (BidderBid bidderBid : auctionParticipation.getBidderResponse().getSeatBid().getBids()) {
+                if (bidderBid.getBid().getDealid() != null) {
+                    impIdsWithDealBids.add(bidderBid.getBid().getImpid());
+                }
+            }
+        }
+
+        private boolean canCompleteEarly() {
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null && !isUnlikelyToChangeResult(auctionParticipations.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isUnlikelyToChangeResult(AuctionParticipation auctionParticipation) {
+            final Double bidRate = adaptiveBidderTimeoutResolver.bidRate(
+                    aliases.resolveBidder(auctionParticipation.getBidder()));
+            if (bidRate != null && bidRate <= maxPendingBidRate) {
+                return true;
+            }
+
+            return dealBidsCompleteImps
+                    && !impIdsWithDealBids.isEmpty()
+                    && auctionParticipation.getBidderRequest().getBidRequest().getImp().stream()
+                    .map(Imp::getId)
+                    .allMatch(impIdsWithDealBids::contains);
+        }
+
+        private void completeEarly() {
+            final int responseTime = Math.toIntExact(
+                    clock.millis() - auctionContext.getTimeoutContext().getStartTime());
+
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] != null) {
+                    continue;
+                }
+
+                final AuctionParticipation auctionParticipation = auctionParticipations.get(i);
+                final String bidder = auctionParticipation.getBidder();
+                auctionContext.getBidRejectionTrackers().get(bidder).rejectAllImps(BidRejectionReason.ERROR_TIMED_OUT);
+
+                final BidderSeatBid seatBid = BidderSeatBid.builder()
+                        .errors(List.of(BidderError.timeout(EARLY_COMPLETION_ERROR)))
+                        .build();
+                results[i] = auctionParticipation.with(BidderResponse.of(bidder, seatBid, responseTime));
+            }
+
+            metrics.updateEarlyCompletedAuctionMetric();
+        }
+
+        /**
+         * Revenue is lost only if the late bid beats the best bid for its imp, which is updated
+         * so that several late bids for the same imp are not counted twice.
+         */
+        private void onLateParticipation(AuctionParticipation auctionParticipation) {
+            final List<BidderBid> bids = auctionParticipation.getBidderResponse().getSeatBid().getBids();
+            if (bids.isEmpty()) {
+                return;
+            }
+
+            if (impIdToBestPrice == null) {
+                impIdToBestPrice = new HashMap<>();
+                for (AuctionParticipation result : results) {
+                    result.getBidderResponse().getSeatBid().getBids().forEach(this::updateBestPrice);
+                }
+            }
+
+            BigDecimal lostRevenue = BigDecimal.ZERO;
+            for (BidderBid bidderBid : bids) {
+                lostRevenue = lostRevenue.add(updateBestPrice(bidderBid));
+            }
+
+            if (lostRevenue.signum() > 0) {
+                metrics.updateEarlyCompletedAuctionLostRevenueMetric(
+                        lostRevenue.multiply(MICROS_IN_UNIT).longValue());
+            }
+        }
+
+        /**
+         * Returns amount by which the given bid increased the best price of its imp.
+         */
+        private BigDecimal updateBestPrice(BidderBid bidderBid) {
+            final BigDecimal price = toLostRevenueCurrency(bidderBid);
+            if (price == null) {
+                return BigDecimal.ZERO;
+            }
+
+            final String impId = bidderBid.getBid().getImpid();
+            final BigDecimal bestPrice = impIdToBestPrice.getOrDefault(impId, BigDecimal.ZERO);
+            if (price.compareTo(bestPrice) <= 0) {
+                return BigDecimal.ZERO;
+            }
+
+            impIdToBestPrice.put(impId, price);
+            return price.subtract(bestPrice);
+        }
+
+        private BigDecimal toLostRevenueCurrency(BidderBid bidderBid) {
+            final BigDecimal price = bidderBid.getBid().getPrice();
+            if (price == null) {
+                return null;
+            }
+
+            try {
+                return currencyConversionService.convertCurrency(
+                        price, auctionContext.getBidRequest(), bidderBid.getBidCurrency(), LOST_REVENUE_CURRENCY);
+            } catch (PreBidException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -10,8 +10,10 @@ import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.floors.PriceFloorEnforcer;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.validation.ResponseBidValidator;
+import org.prebid.server.validation.model.ResponseBidValidationContext;
 import org.prebid.server.validation.model.ValidationResult;
 
 import java.util.ArrayList;
@@ -26,16 +28,19 @@ public class BidsAdjuster {
     private final PriceFloorEnforcer priceFloorEnforcer;
     private final BidAdjustmentsProcessor bidAdjustmentsProcessor;
     private final DsaEnforcer dsaEnforcer;
+    private final Metrics metrics;
 
     public BidsAdjuster(ResponseBidValidator responseBidValidator,
                         PriceFloorEnforcer priceFloorEnforcer,
                         BidAdjustmentsProcessor bidAdjustmentsProcessor,
-                        DsaEnforcer dsaEnforcer) {
+                        DsaEnforcer dsaEnforcer,
+                        Metrics metrics) {
 
         this.responseBidValidator = Objects.requireNonNull(responseBidValidator);
         this.priceFloorEnforcer = Objects.requireNonNull(priceFloorEnforcer);
         this.bidAdjustmentsProcessor = Objects.requireNonNull(bidAdjustmentsProcessor);
         this.dsaEnforcer = Objects.requireNonNull(dsaEnforcer);
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     public List<AuctionParticipation> validateAndAdjustBids(List<AuctionParticipation> auctionParticipations,
@@ -87,10 +92,13 @@ public class BidsAdjuster {
         final List<BidderBid> bids = seatBid.getBids();
         final List<BidderBid> validBids = new ArrayList<>(bids.size());
 
+        final long validationStartTime = System.nanoTime();
+        final ResponseBidValidationContext validationContext = ResponseBidValidationContext.of(bidRequest);
         for (final BidderBid bid : bids) {
             final ValidationResult validationResult = responseBidValidator.validate(
                     bid,
                     bidderResponse.getBidder(),
+                    validationContext,
                     auctionContext,
                     aliases);
 
@@ -102,6 +110,7 @@ public class BidsAdjuster {
                 validBids.add(bid);
             }
         }
+        metrics.updateBidValidationTimeMetric(System.nanoTime() - validationStartTime);
 
         final BidderResponse resultBidderResponse = bidderResponse.with(
                 seatBid.toBuilder()
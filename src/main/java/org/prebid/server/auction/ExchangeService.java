@@ -15,7 +15,6 @@ import com.iab.openrtb.request.User;
 import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
@@ -137,6 +136,8 @@ public class ExchangeService {
     private final UidUpdater uidUpdater;
     private final TimeoutResolver timeoutResolver;
     private final TimeoutFactory timeoutFactory;
+    private final AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver;
+    private final AuctionCompletionPolicy auctionCompletionPolicy;
     private final BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
     private final HttpBidderRequester httpBidderRequester;
     private final BidResponseCreator bidResponseCreator;
@@ -164,6 +165,8 @@ public class ExchangeService {
                            UidUpdater uidUpdater,
                            TimeoutResolver timeoutResolver,
                            TimeoutFactory timeoutFactory,
+                           AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver,
+                           AuctionCompletionPolicy auctionCompletionPolicy,
                            BidRequestOrtbVersionConversionManager ortbVersionConversionManager,
                            HttpBidderRequester httpBidderRequester,
                            BidResponseCreator bidResponseCreator,
@@ -191,6 +194,8 @@ public class ExchangeService {
         this.uidUpdater = Objects.requireNonNull(uidUpdater);
         this.timeoutResolver = Objects.requireNonNull(timeoutResolver);
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
+        this.adaptiveBidderTimeoutResolver = Objects.requireNonNull(adaptiveBidderTimeoutResolver);
+        this.auctionCompletionPolicy = Objects.requireNonNull(auctionCompletionPolicy);
         this.ortbVersionConversionManager = Objects.requireNonNull(ortbVersionConversionManager);
         this.httpBidderRequester = Objects.requireNonNull(httpBidderRequester);
         this.bidResponseCreator = Objects.requireNonNull(bidResponseCreator);
@@ -249,17 +254,18 @@ public class ExchangeService {
                                 .map(receivedContext::with))
 
                 .map(context -> updateRequestMetric(context, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(context -> CompositeFuture.join(
-                                context.getAuctionParticipations().stream()
-                                        .map(auctionParticipation -> processAndRequestBids(
-                                                context,
-                                                auctionParticipation.getBidderRequest(),
-                                                timeout,
-                                                aliases)
-                                                .map(auctionParticipation::with))
-                                        .collect(Collectors.toCollection(ArrayList::new)))
+                .compose(context -> auctionCompletionPolicy.requestBids(
+                                context,
+                                context.getAuctionParticipations(),
+                                aliases,
+                                (auctionParticipation, cancellation) -> processAndRequestBids(
+                                        context,
+                                        auctionParticipation.getBidderRequest(),
+                                        timeout,
+                                        aliases,
+                                        cancellation)
+                                        .map(auctionParticipation::with))
                         // send all the requests to the bidders and gathers results
-                        .map(CompositeFuture::<AuctionParticipation>list)
                         .map(storedResponseProcessor::updateStoredBidResponse)
                         .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
                                 auctionParticipations,
@@ -1090,7 +1096,8 @@ public class ExchangeService {
     private Future<BidderResponse> processAndRequestBids(AuctionContext auctionContext,
                                                          BidderRequest bidderRequest,
                                                          Timeout timeout,
-                                                         BidderAliases aliases) {
+                                                         BidderAliases aliases,
+                                                         Future<Void> cancellation) {
 
         final String bidderName = bidderRequest.getBidder();
         final MediaTypeProcessingResult mediaTypeProcessingResult = mediaTypeProcessor.process(
@@ -1114,7 +1121,11 @@ public class ExchangeService {
         return Future.succeededFuture(mediaTypeProcessingResult.getBidRequest())
                 .map(bidderRequest::with)
                 .compose(modifiedBidderRequest -> invokeHooksAndRequestBids(
-                        auctionContext, modifiedBidderRequest, timeout, aliases))
+                        auctionContext,
+                        modifiedBidderRequest,
+                        timeout,
+                        aliases,
+                        cancellation))
                 .map(bidderResponse -> bidderResponse.with(
                         addWarnings(bidderResponse.getSeatBid(), mediaTypeProcessingErrors)));
     }
@@ -1158,11 +1169,17 @@ public class ExchangeService {
     private Future<BidderResponse> invokeHooksAndRequestBids(AuctionContext auctionContext,
                                                              BidderRequest bidderRequest,
                                                              Timeout timeout,
-                                                             BidderAliases aliases) {
+                                                             BidderAliases aliases,
+                                                             Future<Void> cancellation) {
 
         return hookStageExecutor.executeBidderRequestStage(bidderRequest, auctionContext)
                 .compose(stageResult -> requestBidsOrRejectBidder(
-                        stageResult, bidderRequest, auctionContext, timeout, aliases))
+                        stageResult,
+                        bidderRequest,
+                        auctionContext,
+                        timeout,
+                        aliases,
+                        cancellation))
                 .compose(bidderResponse -> hookStageExecutor.executeRawBidderResponseStage(
                                 bidderResponse, auctionContext)
                         .map(stageResult -> rejectBidderResponseOrProceed(stageResult, bidderResponse)));
@@ -1173,7 +1190,8 @@ public class ExchangeService {
             BidderRequest bidderRequest,
             AuctionContext auctionContext,
             Timeout timeout,
-            BidderAliases aliases) {
+            BidderAliases aliases,
+            Future<Void> cancellation) {
 
         httpInteractionLogger.maybeLogBidderRequest(auctionContext, bidderRequest);
         if (hookStageResult.isShouldReject()) {
@@ -1187,7 +1205,7 @@ public class ExchangeService {
         final BidderRequest enrichedBidderRequest = bidderRequest.toBuilder()
                 .bidRequest(hookStageResult.getPayload().bidRequest())
                 .build();
-        return requestBids(enrichedBidderRequest, auctionContext, timeout, aliases);
+        return requestBids(enrichedBidderRequest, auctionContext, timeout, aliases, cancellation);
     }
 
     /**
@@ -1197,7 +1215,8 @@ public class ExchangeService {
     private Future<BidderResponse> requestBids(BidderRequest bidderRequest,
                                                AuctionContext auctionContext,
                                                Timeout timeout,
-                                               BidderAliases aliases) {
+                                               BidderAliases aliases,
+                                               Future<Void> cancellation) {
 
         final CaseInsensitiveMultiMap requestHeaders = auctionContext.getHttpRequest().getHeaders();
         final String bidderName = bidderRequest.getBidder();
@@ -1205,6 +1224,15 @@ public class ExchangeService {
         final Bidder<?> bidder = bidderCatalog.bidderByName(resolvedBidderName);
         final long bidderTmaxDeductionMs = bidderCatalog.bidderInfoByName(resolvedBidderName).getTmaxDeductionMs();
         final BidRejectionTracker bidRejectionTracker = auctionContext.getBidRejectionTrackers().get(bidderName);
+        final Account account = auctionContext.getAccount();
+
+        if (adaptiveBidderTimeoutResolver.shouldShed(resolvedBidderName, account)) {
+            return processReject(
+                    auctionContext,
+                    BidRejectionReason.REQUEST_BLOCKED_GENERAL,
+                    List.of(BidderError.generic("Bidder request is shed because of chronic timeouts")),
+                    bidderName);
+        }
 
         final TimeoutContext timeoutContext = auctionContext.getTimeoutContext();
         final long auctionStartTime = timeoutContext.getStartTime();
@@ -1221,11 +1249,32 @@ public class ExchangeService {
                         bidder,
                         convertedBidderRequest,
                         bidRejectionTracker,
-                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime),
+                        adjustTimeout(timeout, auctionStartTime, bidderRequestStartTime, resolvedBidderName, account),
                         requestHeaders,
                         aliases,
-                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName)))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(bidderRequestStartTime)));
+                        debugResolver.resolveDebugForBidder(auctionContext, resolvedBidderName),
+                        cancellation))
+                .map(seatBid -> toBidderResponse(
+                        bidderName, resolvedBidderName, seatBid, bidderRequestStartTime, cancellation));
+    }
+
+    private BidderResponse toBidderResponse(String bidderName,
+                                            String resolvedBidderName,
+                                            BidderSeatBid seatBid,
+                                            long bidderRequestStartTime,
+                                            Future<Void> cancellation) {
+
+        final int responseTime = responseTime(bidderRequestStartTime);
+        // response of cancelled request tells nothing about the bidder
+        if (cancellation == null || !cancellation.isComplete()) {
+            adaptiveBidderTimeoutResolver.recordResponse(
+                    resolvedBidderName,
+                    responseTime,
+                    seatBid.getErrors().stream().anyMatch(error -> error.getType() == BidderError.Type.timeout),
+                    !seatBid.getBids().isEmpty());
+        }
+
+        return BidderResponse.of(bidderName, seatBid, responseTime);
     }
 
     private BidRequest adjustTmax(BidRequest bidRequest,
@@ -1243,10 +1292,16 @@ public class ExchangeService {
                 : bidRequest;
     }
 
-    private Timeout adjustTimeout(Timeout timeout, long startTime, long currentTime) {
+    private Timeout adjustTimeout(Timeout timeout,
+                                  long startTime,
+                                  long currentTime,
+                                  String bidder,
+                                  Account account) {
+
         final long adjustedTmax = timeoutResolver.adjustForRequest(
                 timeout.getDeadline() - startTime, currentTime - startTime);
-        return timeoutFactory.create(currentTime, adjustedTmax);
+        return timeoutFactory.create(
+                currentTime, adaptiveBidderTimeoutResolver.resolveTimeout(bidder, account, adjustedTmax));
     }
 
     private BidderResponse rejectBidderResponseOrProceed(HookStageExecutionResult<BidderResponsePayload> stageResult,
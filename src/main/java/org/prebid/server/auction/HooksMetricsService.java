@@ -53,6 +53,11 @@ public class HooksMetricsService {
     }
 
     private void updateHooksStageMetrics(Account account, Stage stage, List<StageExecutionOutcome> stageOutcomes) {
+        stageOutcomes.stream()
+                .map(StageExecutionOutcome::getExecutionTime)
+                .filter(Objects::nonNull)
+                .forEach(executionTime -> metrics.updateHooksStageDurationMetric(stage, executionTime));
+
         stageOutcomes.stream()
                 .flatMap(stageOutcome -> stageOutcome.getGroups().stream())
                 .flatMap(groupOutcome -> groupOutcome.getHooks().stream())
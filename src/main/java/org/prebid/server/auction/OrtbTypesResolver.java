@@ -15,6 +15,7 @@ import org.prebid.server.json.JsonMerger;
 import org.prebid.server.log.ConditionalLogger;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.StreamUtil;
 
 import java.util.ArrayList;
@@ -26,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -72,14 +74,26 @@ public class OrtbTypesResolver {
 
     private final JacksonMapper jacksonMapper;
     private final JsonMerger jsonMerger;
+    private final Metrics metrics;
+
+    public OrtbTypesResolver(double logSamplingRate,
+                             JacksonMapper jacksonMapper,
+                             JsonMerger jsonMerger,
+                             Metrics metrics) {
 
-    public OrtbTypesResolver(double logSamplingRate, JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
         this.logSamplingRate = logSamplingRate;
         this.jacksonMapper = Objects.requireNonNull(jacksonMapper);
         this.jsonMerger = Objects.requireNonNull(jsonMerger);
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     public void normalizeBidRequest(JsonNode bidRequest, List<String> warnings, String referer) {
+        if (!isBidRequestNormalizationRequired(bidRequest)) {
+            return;
+        }
+
+        metrics.updateOrtbTypesNormalizedMetric();
+
         final List<String> resolverWarnings = new ArrayList<>();
 
         normalizeFpdFields(bidRequest, "bidrequest.", resolverWarnings);
@@ -97,7 +111,64 @@ public class OrtbTypesResolver {
             }
         }
 
-        processWarnings(resolverWarnings, warnings, referer, "bidrequest", getOriginalRowContainerNode(bidRequest));
+        processWarnings(
+                resolverWarnings, warnings, referer, "bidrequest", () -> getOriginalRowContainerNode(bidRequest));
+    }
+
+    /**
+     * Checks only the fields normalization could change, so well-formed requests skip the normalization
+     * and serialization of the whole request for logging.
+     */
+    private static boolean isBidRequestNormalizationRequired(JsonNode bidRequest) {
+        if (isFpdNormalizationRequired(bidRequest)) {
+            return true;
+        }
+
+        final JsonNode bidderConfigs = bidRequest.at(EXT_PREBID_BIDDER_CONFIG);
+        if (bidderConfigs.isArray()) {
+            for (JsonNode bidderConfig : bidderConfigs) {
+                final JsonNode config = bidderConfig.path(CONFIG);
+                if (!config.path(FPD).isMissingNode() || isFpdNormalizationRequired(config.path(ORTB2))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isFpdNormalizationRequired(JsonNode fpdContainerNode) {
+        if (!fpdContainerNode.isObject()) {
+            return false;
+        }
+
+        return isNodeNormalizationRequired(fpdContainerNode.get(USER), USER)
+                || isNodeNormalizationRequired(fpdContainerNode.get(APP), APP)
+                || isNodeNormalizationRequired(fpdContainerNode.get(SITE), SITE);
+    }
+
+    private static boolean isNodeNormalizationRequired(JsonNode containerNode, String nodeName) {
+        if (containerNode == null) {
+            return false;
+        }
+        if (!containerNode.isObject()) {
+            return true;
+        }
+
+        final JsonNode data = containerNode.get(DATA);
+        return (data != null && data.isObject())
+                || hasNotTextualField(containerNode, FIRST_ARRAY_ELEMENT_FIELDS.get(nodeName))
+                || hasNotTextualField(containerNode, COMMA_SEPARATED_ELEMENT_FIELDS.get(nodeName));
+    }
+
+    private static boolean hasNotTextualField(JsonNode containerNode, Set<String> fieldNames) {
+        for (String fieldName : fieldNames) {
+            final JsonNode field = containerNode.get(fieldName);
+            if (field != null && !field.isTextual()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void normalizeFpdFields(JsonNode fpdContainerNode, String prefix, List<String> warnings) {
@@ -371,7 +442,7 @@ public class OrtbTypesResolver {
                                  List<String> warnings,
                                  String referer,
                                  String containerName,
-                                 String containerValue) {
+                                 Supplier<String> containerValueSupplier) {
 
         if (CollectionUtils.isNotEmpty(resolverWarnings)) {
             warnings.addAll(updateWithWarningPrefix(resolverWarnings));
@@ -381,7 +452,7 @@ public class OrtbTypesResolver {
                             String.join("\n", resolverWarnings),
                             StringUtils.isNotBlank(referer) ? referer : UNKNOWN_REFERER,
                             containerName,
-                            containerValue),
+                            containerValueSupplier.get()),
                     logSamplingRate);
         }
     }
@@ -402,6 +473,7 @@ public class OrtbTypesResolver {
     public void normalizeTargeting(JsonNode targeting, List<String> warnings, String referer) {
         final List<String> resolverWarnings = new ArrayList<>();
         normalizeFpdFields(targeting, "targeting.", resolverWarnings);
-        processWarnings(resolverWarnings, warnings, referer, "targeting", getOriginalRowContainerNode(targeting));
+        processWarnings(
+                resolverWarnings, warnings, referer, "targeting", () -> getOriginalRowContainerNode(targeting));
     }
 }
@@ -1,6 +1,8 @@
 package org.prebid.server.auction;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
@@ -48,7 +50,9 @@ public class StoredRequestProcessor {
 
     private final long defaultTimeout;
     private final BidRequest defaultBidRequest;
+    private final JsonNode defaultBidRequestNode;
     private final boolean generateBidRequestId;
+    private final boolean singleTreeMerge;
     private final ApplicationSettings applicationSettings;
     private final IdGenerator idGenerator;
     private final Metrics metrics;
@@ -59,6 +63,7 @@ public class StoredRequestProcessor {
     public StoredRequestProcessor(long defaultTimeout,
                                   String defaultBidRequestPath,
                                   boolean generateBidRequestId,
+                                  boolean singleTreeMerge,
                                   FileSystem fileSystem,
                                   ApplicationSettings applicationSettings,
                                   IdGenerator idGenerator,
@@ -70,7 +75,9 @@ public class StoredRequestProcessor {
         this.defaultTimeout = defaultTimeout;
         this.defaultBidRequest = readBidRequest(
                 defaultBidRequestPath, Objects.requireNonNull(fileSystem), Objects.requireNonNull(mapper));
+        this.defaultBidRequestNode = defaultBidRequest != null ? mapper.mapper().valueToTree(defaultBidRequest) : null;
         this.generateBidRequestId = generateBidRequestId;
+        this.singleTreeMerge = singleTreeMerge;
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.idGenerator = Objects.requireNonNull(idGenerator);
         this.metrics = Objects.requireNonNull(metrics);
@@ -241,8 +248,9 @@ public class StoredRequestProcessor {
                 .compose(result -> !result.getErrors().isEmpty()
                         ? Future.failedFuture(new InvalidStoredRequestException(result.getErrors()))
                         : Future.succeededFuture(result))
-                .map(result -> mergeBidRequestAndImps(
-                        bidRequest, storedBidRequestId, impsToStoredRequestId, result));
+                .map(result -> singleTreeMerge
+                        ? mergeBidRequestAndImpsAsTree(bidRequest, storedBidRequestId, impsToStoredRequestId, result)
+                        : mergeBidRequestAndImps(bidRequest, storedBidRequestId, impsToStoredRequestId, result));
     }
 
     /**
@@ -304,6 +312,63 @@ public class StoredRequestProcessor {
         return bidRequest.toBuilder().imp(mergedImps).build();
     }
 
+    /**
+     * Runs the same merge processes as {@link #mergeBidRequestAndImps} on a single json tree, converting
+     * the original request to the tree and the result back to {@link BidRequest} only once,
+     * instead of doing it for every merge step and every stored imp.
+     * <p>
+     * The merging priority is the same: original request > stored request > default request
+     */
+    private BidRequest mergeBidRequestAndImpsAsTree(BidRequest bidRequest,
+                                                    String storedRequestId,
+                                                    Map<Imp, String> impToStoredId,
+                                                    StoredDataResult storedDataResult) {
+
+        JsonNode bidRequestNode = mapper.mapper().valueToTree(bidRequest);
+
+        if (StringUtils.isNotBlank(storedRequestId)) {
+            final String storedRequest = storedDataResult.getStoredIdToRequest().get(storedRequestId);
+            bidRequestNode = jsonMerger.merge(bidRequestNode, storedRequest, storedRequestId);
+        }
+
+        if (defaultBidRequestNode != null) {
+            bidRequestNode = jsonMerger.merge(bidRequestNode, defaultBidRequestNode);
+        }
+
+        mergeImpNodes(bidRequestNode, bidRequest.getImp(), impToStoredId, storedDataResult);
+
+        try {
+            return mapper.mapper().treeToValue(bidRequestNode, BidRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Can't convert merging result for id %s: %s"
+                    .formatted(StringUtils.defaultString(storedRequestId), e.getMessage()));
+        }
+    }
+
+    /**
+     * Imps with stored imp id exist only if original request has imps, and original imps array always
+     * overrides stored and default ones, so imp nodes are matched to the original imps by position.
+     */
+    private void mergeImpNodes(JsonNode bidRequestNode,
+                               List<Imp> originalImps,
+                               Map<Imp, String> impToStoredId,
+                               StoredDataResult storedDataResult) {
+
+        final JsonNode impsNode = bidRequestNode.get("imp");
+        if (impToStoredId.isEmpty() || !(impsNode instanceof ArrayNode impNodes)
+                || impNodes.size() != originalImps.size()) {
+            return;
+        }
+
+        for (int i = 0; i < originalImps.size(); i++) {
+            final String storedRequestId = impToStoredId.get(originalImps.get(i));
+            if (storedRequestId != null) {
+                final String storedImp = storedDataResult.getStoredIdToImp().get(storedRequestId);
+                impNodes.set(i, jsonMerger.merge(impNodes.get(i), storedImp, storedRequestId));
+            }
+        }
+    }
+
     private BidRequest generateBidRequestIdForApp(BidRequest bidRequest) {
         return bidRequest.getApp() != null
                 ? generateBidRequestId(bidRequest)
@@ -34,7 +34,9 @@ import org.prebid.server.settings.model.StoredResponseDataResult;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -59,12 +61,21 @@ public class StoredResponseProcessor {
 
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
+    private final StoredResponseStore storedResponseStore;
 
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
                                    JacksonMapper mapper) {
 
+        this(applicationSettings, mapper, null);
+    }
+
+    public StoredResponseProcessor(ApplicationSettings applicationSettings,
+                                   JacksonMapper mapper,
+                                   StoredResponseStore storedResponseStore) {
+
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.mapper = Objects.requireNonNull(mapper);
+        this.storedResponseStore = storedResponseStore;
     }
 
     Future<StoredResponseResult> getStoredResponseResult(List<Imp> imps, Timeout timeout) {
@@ -85,19 +96,32 @@ public class StoredResponseProcessor {
                     StoredResponseResult.of(imps, Collections.emptyList(), Collections.emptyMap()));
         }
 
-        return getStoredResponses(storedResponses, timeout)
+        final Map<String, List<SeatBid>> idToSeatBidTemplates = getSeatBidTemplates(
+                impIdsToStoredResponses.values(), impToBidderToStoredBidResponseId);
+
+        return getStoredResponses(storedResponses, idToSeatBidTemplates.keySet(), timeout)
                 .recover(exception -> Future.failedFuture(new InvalidRequestException(
                         "Stored response fetching failed with reason: " + exception.getMessage())))
                 .map(storedResponseDataResult -> StoredResponseResult.of(
                         requiredRequestImps,
-                        convertToSeatBid(storedResponseDataResult, impIdsToStoredResponses),
+                        convertToSeatBid(storedResponseDataResult, impIdsToStoredResponses, idToSeatBidTemplates),
                         mapStoredBidResponseIdsToValues(
                                 storedResponseDataResult.getIdToStoredResponses(),
                                 impToBidderToStoredBidResponseId)));
     }
 
     Future<StoredResponseResult> getStoredResponseResult(String storedId, Timeout timeout) {
-        return applicationSettings.getStoredResponses(Collections.singleton(storedId), timeout)
+        final List<SeatBid> seatBidTemplates = seatBidTemplates(Collections.singleton(storedId)).get(storedId);
+        if (seatBidTemplates != null) {
+            final List<SeatBid> seatBids = StoredResponseStore.copySeatBids(seatBidTemplates);
+            validateStoredSeatBid(seatBids);
+            return Future.succeededFuture(StoredResponseResult.of(
+                    Collections.emptyList(),
+                    mergeSameBidderSeatBid(seatBids),
+                    Collections.emptyMap()));
+        }
+
+        return fetchStoredResponses(Collections.singleton(storedId), timeout)
                 .recover(exception -> Future.failedFuture(new InvalidRequestException(
                         "Stored response fetching failed with reason: " + exception.getMessage())))
                 .map(storedResponseDataResult -> StoredResponseResult.of(
@@ -175,25 +199,95 @@ public class StoredResponseProcessor {
                         extStoredBidResponse -> new StoredResponse.StoredResponseId(extStoredBidResponse.getId())));
     }
 
-    private Future<StoredResponseDataResult> getStoredResponses(Set<StoredResponse> storedResponses, Timeout timeout) {
-        return applicationSettings.getStoredResponses(
-                storedResponses.stream()
-                        .filter(StoredResponse.StoredResponseId.class::isInstance)
-                        .map(StoredResponse.StoredResponseId.class::cast)
-                        .map(StoredResponse.StoredResponseId::id)
-                        .collect(Collectors.toSet()),
-                timeout);
+    /**
+     * Returns already decoded seatbids of stored auction responses, which don't need raw stored responses to be
+     * fetched. Raw stored responses are still fetched for ids used as stored bid responses as well.
+     */
+    private Map<String, List<SeatBid>> getSeatBidTemplates(
+            Collection<StoredResponse> auctionStoredResponses,
+            Map<String, Map<String, StoredResponse.StoredResponseId>> impToBidderToStoredBidResponseId) {
+
+        if (storedResponseStore == null) {
+            return Collections.emptyMap();
+        }
+
+        final Set<String> storedBidResponseIds = impToBidderToStoredBidResponseId.values().stream()
+                .flatMap(bidderToStoredResponse -> bidderToStoredResponse.values().stream())
+                .map(StoredResponse.StoredResponseId::id)
+                .collect(Collectors.toSet());
+
+        return seatBidTemplates(auctionStoredResponses.stream()
+                .filter(StoredResponse.StoredResponseId.class::isInstance)
+                .map(StoredResponse.StoredResponseId.class::cast)
+                .map(StoredResponse.StoredResponseId::id)
+                .filter(id -> !storedBidResponseIds.contains(id))
+                .collect(Collectors.toSet()));
+    }
+
+    private Map<String, List<SeatBid>> seatBidTemplates(Set<String> ids) {
+        return storedResponseStore != null
+                ? storedResponseStore.getSeatBidTemplates(ids)
+                : Collections.emptyMap();
+    }
+
+    private Future<StoredResponseDataResult> getStoredResponses(Set<StoredResponse> storedResponses,
+                                                                Set<String> resolvedIds,
+                                                                Timeout timeout) {
+
+        final Set<String> ids = storedResponses.stream()
+                .filter(StoredResponse.StoredResponseId.class::isInstance)
+                .map(StoredResponse.StoredResponseId.class::cast)
+                .map(StoredResponse.StoredResponseId::id)
+                .filter(id -> !resolvedIds.contains(id))
+                .collect(Collectors.toSet());
+
+        return ids.isEmpty()
+                ? Future.succeededFuture(StoredResponseDataResult.of(Collections.emptyMap(), Collections.emptyList()))
+                : fetchStoredResponses(ids, timeout);
+    }
+
+    private Future<StoredResponseDataResult> fetchStoredResponses(Set<String> ids, Timeout timeout) {
+        if (storedResponseStore == null) {
+            return applicationSettings.getStoredResponses(ids, timeout);
+        }
+
+        final Map<String, String> idToStoredResponses = storedResponseStore.getStoredResponses(ids);
+        if (idToStoredResponses.size() == ids.size()) {
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponses, Collections.emptyList()));
+        }
+
+        final Set<String> missingIds = ids.stream()
+                .filter(id -> !idToStoredResponses.containsKey(id))
+                .collect(Collectors.toSet());
+
+        return applicationSettings.getStoredResponses(missingIds, timeout)
+                .map(storedResponseDataResult -> mergeWithStoredResponses(
+                        storedResponseDataResult, idToStoredResponses));
+    }
+
+    private StoredResponseDataResult mergeWithStoredResponses(StoredResponseDataResult storedResponseDataResult,
+                                                              Map<String, String> idToStoredResponses) {
+
+        final Map<String, String> fetchedStoredResponses = storedResponseDataResult.getIdToStoredResponses();
+        storedResponseStore.saveStoredResponses(fetchedStoredResponses);
+
+        final Map<String, String> mergedStoredResponses = new HashMap<>(idToStoredResponses);
+        mergedStoredResponses.putAll(fetchedStoredResponses);
+
+        return StoredResponseDataResult.of(mergedStoredResponses, storedResponseDataResult.getErrors());
     }
 
     private List<SeatBid> convertToSeatBid(StoredResponseDataResult storedResponseDataResult,
-                                           Map<String, StoredResponse> impIdsToStoredResponses) {
+                                           Map<String, StoredResponse> impIdsToStoredResponses,
+                                           Map<String, List<SeatBid>> idToSeatBidTemplates) {
 
         final List<SeatBid> resolvedSeatBids = new ArrayList<>();
         final Map<String, String> idToStoredResponses = storedResponseDataResult.getIdToStoredResponses();
         for (Map.Entry<String, StoredResponse> impIdToStoredResponse : impIdsToStoredResponses.entrySet()) {
             final String impId = impIdToStoredResponse.getKey();
             final StoredResponse storedResponse = impIdToStoredResponse.getValue();
-            final List<SeatBid> seatBids = resolveSeatBids(storedResponse, idToStoredResponses, impId);
+            final List<SeatBid> seatBids = resolveSeatBids(
+                    storedResponse, idToStoredResponses, idToSeatBidTemplates, impId);
 
             validateStoredSeatBid(seatBids);
             resolvedSeatBids.addAll(seatBids.stream()
@@ -222,6 +316,7 @@ public class StoredResponseProcessor {
 
     private List<SeatBid> resolveSeatBids(StoredResponse storedResponse,
                                           Map<String, String> idToStoredResponses,
+                                          Map<String, List<SeatBid>> idToSeatBidTemplates,
                                           String impId) {
 
         if (storedResponse instanceof StoredResponse.StoredResponseObject storedResponseObject) {
@@ -229,6 +324,11 @@ public class StoredResponseProcessor {
         }
 
         final String storedResponseId = ((StoredResponse.StoredResponseId) storedResponse).id();
+        final List<SeatBid> seatBidTemplates = idToSeatBidTemplates.get(storedResponseId);
+        if (seatBidTemplates != null) {
+            return StoredResponseStore.copySeatBids(seatBidTemplates);
+        }
+
         final String rowSeatBid = idToStoredResponses.get(storedResponseId);
         if (rowSeatBid == null) {
             throw new InvalidRequestException(
@@ -240,6 +340,12 @@ public class StoredResponseProcessor {
     }
 
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
+        return storedResponseStore != null
+                ? storedResponseStore.getSeatBids(id, () -> decodeSeatBid(id, rowSeatBid))
+                : decodeSeatBid(id, rowSeatBid);
+    }
+
+    private List<SeatBid> decodeSeatBid(String id, String rowSeatBid) {
         try {
             return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
         } catch (IOException e) {
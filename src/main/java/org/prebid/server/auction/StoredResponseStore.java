@@ -0,0 +1,141 @@
+package org.prebid.server.auction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.SeatBid;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Memory-bounded store of stored responses.
+ * <p>
+ * Raw stored responses are kept off-heap as UTF-8 bytes and the store is bounded by their total size.
+ * Seatbids decoded from a stored response are kept on-heap as templates next to its bytes, so repeated usage
+ * of the same stored response neither hits the settings storage nor decodes JSON again.
+ * Templates are never exposed outside of the package, callers receive copies which are safe to modify.
+ */
+public class StoredResponseStore {
+
+    private final Cache<String, StoredResponseEntry> cache;
+
+    public StoredResponseStore(int ttlSeconds, long maxSizeBytes) {
+        if (ttlSeconds <= 0 || maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("ttl and max size must be positive");
+        }
+
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .maximumWeight(maxSizeBytes)
+                .weigher((String id, StoredResponseEntry entry) -> entry.size())
+                .build();
+    }
+
+    /**
+     * Returns raw stored responses present in the store for the given ids.
+     */
+    public Map<String, String> getStoredResponses(Set<String> ids) {
+        final Map<String, String> idToStoredResponse = new HashMap<>();
+        for (String id : ids) {
+            final StoredResponseEntry entry = cache.getIfPresent(id);
+            if (entry != null) {
+                idToStoredResponse.put(id, entry.value());
+            }
+        }
+        return idToStoredResponse;
+    }
+
+    /**
+     * Returns seatbid templates of stored responses with the given ids which are present in the store and were
+     * already decoded, so callers don't need raw stored responses for them. Templates must not be modified and
+     * should be copied by {@link #copySeatBids(List)} for each usage.
+     */
+    Map<String, List<SeatBid>> getSeatBidTemplates(Set<String> ids) {
+        final Map<String, List<SeatBid>> idToSeatBids = new HashMap<>();
+        for (String id : ids) {
+            final StoredResponseEntry entry = cache.getIfPresent(id);
+            final List<SeatBid> seatBids = entry != null ? entry.seatBids : null;
+            if (seatBids != null) {
+                idToSeatBids.put(id, seatBids);
+            }
+        }
+        return idToSeatBids;
+    }
+
+    /**
+     * Saves given raw stored responses, skipping absent ones.
+     */
+    public void saveStoredResponses(Map<String, String> idToStoredResponse) {
+        idToStoredResponse.forEach((id, value) -> {
+            if (value != null) {
+                cache.put(id, new StoredResponseEntry(value));
+            }
+        });
+    }
+
+    /**
+     * Returns copy of seatbids decoded from stored response with the given id. Decoded seatbids are saved as
+     * templates if stored response is present in the store, otherwise they are decoded on every call.
+     */
+    public List<SeatBid> getSeatBids(String id, Supplier<List<SeatBid>> decoder) {
+        final StoredResponseEntry entry = cache.getIfPresent(id);
+        if (entry == null) {
+            return decoder.get();
+        }
+
+        List<SeatBid> seatBids = entry.seatBids;
+        if (seatBids == null) {
+            seatBids = decoder.get();
+            entry.seatBids = seatBids;
+        }
+
+        return copySeatBids(seatBids);
+    }
+
+    static List<SeatBid> copySeatBids(List<SeatBid> seatBids) {
+        return seatBids.stream().map(StoredResponseStore::copySeatBid).toList();
+    }
+
+    private static SeatBid copySeatBid(SeatBid seatBid) {
+        final List<Bid> bids = seatBid.getBid();
+        return seatBid.toBuilder()
+                .bid(bids != null ? bids.stream().map(StoredResponseStore::copyBid).toList() : null)
+                .ext(seatBid.getExt() != null ? seatBid.getExt().deepCopy() : null)
+                .build();
+    }
+
+    private static Bid copyBid(Bid bid) {
+        return bid.toBuilder()
+                .ext(bid.getExt() != null ? bid.getExt().deepCopy() : null)
+                .build();
+    }
+
+    private static class StoredResponseEntry {
+
+        private final ByteBuffer bytes;
+
+        private volatile List<SeatBid> seatBids;
+
+        StoredResponseEntry(String value) {
+            final byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+            bytes = ByteBuffer.allocateDirect(valueBytes.length).put(valueBytes).flip();
+        }
+
+        int size() {
+            return bytes.capacity();
+        }
+
+        String value() {
+            final byte[] valueBytes = new byte[bytes.capacity()];
+            bytes.duplicate().get(valueBytes);
+            return new String(valueBytes, StandardCharsets.UTF_8);
+        }
+    }
+}
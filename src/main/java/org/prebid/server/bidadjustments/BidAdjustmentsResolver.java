@@ -29,6 +29,8 @@ public class BidAdjustmentsResolver {
     public static final String WILDCARD = "*";
     public static final String DELIMITER = "|";
 
+    private static final String RULE_KEY_SCHEME = "%s" + DELIMITER + "%s" + DELIMITER + "%s";
+
     private final PrebidConfigMatchingStrategy matchingStrategy;
     private final CurrencyConversionService currencyService;
 
@@ -50,7 +52,7 @@ public class BidAdjustmentsResolver {
                 targetBidder,
                 targetDealId);
 
-        return adjustPrice(initialPrice, adjustmentsRules, bidRequest);
+        return adjustPrice(initialPrice, adjustmentsRules, bidRequest, bidAdjustments);
     }
 
     private List<ExtRequestBidAdjustmentsRule> findRules(BidAdjustments bidAdjustments,
@@ -59,6 +61,23 @@ public class BidAdjustmentsResolver {
                                                          String targetDealId) {
 
         final Map<String, List<ExtRequestBidAdjustmentsRule>> rules = bidAdjustments.getRules();
+        if (rules.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final String dealId = StringUtils.isNotBlank(targetDealId) ? targetDealId : WILDCARD;
+        final String ruleKey = RULE_KEY_SCHEME.formatted(targetMediaType, targetBidder, dealId);
+
+        return bidAdjustments.getResolvedRules().computeIfAbsent(ruleKey, key -> rules.containsKey(key)
+                ? rules.get(key)
+                : matchRules(rules, targetMediaType, targetBidder, targetDealId));
+    }
+
+    private List<ExtRequestBidAdjustmentsRule> matchRules(Map<String, List<ExtRequestBidAdjustmentsRule>> rules,
+                                                          ImpMediaType targetMediaType,
+                                                          String targetBidder,
+                                                          String targetDealId) {
+
         final PrebidConfigSource source = SimpleSource.of(WILDCARD, DELIMITER, rules.keySet());
         final PrebidConfigParameters parameters = createParameters(targetMediaType, targetBidder, targetDealId);
 
@@ -77,7 +96,8 @@ public class BidAdjustmentsResolver {
 
     private Price adjustPrice(Price price,
                               List<ExtRequestBidAdjustmentsRule> bidAdjustmentRules,
-                              BidRequest bidRequest) {
+                              BidRequest bidRequest,
+                              BidAdjustments bidAdjustments) {
 
         String resolvedCurrency = price.getCurrency();
         BigDecimal resolvedPrice = price.getValue();
@@ -90,8 +110,10 @@ public class BidAdjustmentsResolver {
             switch (adjustmentType) {
                 case MULTIPLIER -> resolvedPrice = BidderUtil.roundFloor(resolvedPrice.multiply(adjustmentValue));
                 case CPM -> {
-                    final BigDecimal convertedAdjustmentValue = currencyService.convertCurrency(
-                            adjustmentValue, bidRequest, adjustmentCurrency, resolvedCurrency);
+                    final BigDecimal conversionRate = conversionRate(
+                            bidAdjustments, bidRequest, adjustmentCurrency, resolvedCurrency);
+                    final BigDecimal convertedAdjustmentValue = CurrencyConversionService.convertCurrency(
+                            adjustmentValue, conversionRate);
                     resolvedPrice = BidderUtil.roundFloor(resolvedPrice.subtract(convertedAdjustmentValue));
                 }
                 case STATIC -> {
@@ -103,4 +125,15 @@ public class BidAdjustmentsResolver {
 
         return Price.of(resolvedCurrency, resolvedPrice);
     }
+
+    private BigDecimal conversionRate(BidAdjustments bidAdjustments,
+                                      BidRequest bidRequest,
+                                      String fromCurrency,
+                                      String toCurrency) {
+
+        // null rate (no conversion needed) is not memoized, but it is resolved without any rates lookup anyway
+        return bidAdjustments.getConversionRates().computeIfAbsent(
+                fromCurrency + DELIMITER + toCurrency,
+                key -> currencyService.conversionRate(bidRequest, fromCurrency, toCurrency));
+    }
 }
@@ -1,5 +1,7 @@
 package org.prebid.server.bidadjustments.model;
 
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.Value;
 import org.apache.commons.collections4.MapUtils;
 import org.prebid.server.bidadjustments.BidAdjustmentRulesValidator;
@@ -7,6 +9,7 @@ import org.prebid.server.bidadjustments.BidAdjustmentsResolver;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustments;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestBidAdjustmentsRule;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +23,21 @@ public class BidAdjustments {
 
     Map<String, List<ExtRequestBidAdjustmentsRule>> rules;
 
+    /**
+     * Rules matched for the particular mediatype|bidder|deal combination. Bid adjustments are built once per auction
+     * and applied on the auction thread, so matching is done once per combination and further bids take a map hit.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Map<String, List<ExtRequestBidAdjustmentsRule>> resolvedRules = new HashMap<>();
+
+    /**
+     * Currency conversion rates resolved for the from|to currency pairs used by the CPM rules of the auction.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Map<String, BigDecimal> conversionRates = new HashMap<>();
+
     public static BidAdjustments of(ExtRequestBidAdjustments bidAdjustments) {
         if (bidAdjustments == null) {
             return BidAdjustments.of(Collections.emptyMap());
@@ -67,4 +67,12 @@ public interface Bidder<T> {
     default HttpRequest<Void> makeTimeoutNotification(HttpRequest<T> httpRequest) {
         return null;
     }
+
+    /**
+     * Tells whether {@link #makeBids} decodes JSON tokens of the response, so JSON response of this bidder
+     * should be parsed while being received. Responses of other bidders are kept as plain body only.
+     */
+    default boolean decodesJsonTokens() {
+        return false;
+    }
 }
@@ -66,7 +66,7 @@ public class BidderErrorNotifier {
 
         if (logTimeoutNotificationResult && !(logTimeoutNotificationFailureOnly && isSuccessful)) {
             conditionalLogger.warn(
-                    "Notified bidder about timeout. Status code: %s. Request body: %s".formatted(
+                    () -> "Notified bidder about timeout. Status code: %s. Request body: %s".formatted(
                             response.getStatusCode(),
                             new String(timeoutNotification.getBody())),
                     logTimeoutNotificationSamplingRate);
@@ -80,7 +80,7 @@ public class BidderErrorNotifier {
 
         if (logTimeoutNotificationResult) {
             conditionalLogger.warn(
-                    "Error occurred while notifying bidder about timeout. Error message: %s. Request body: %s"
+                    () -> "Error occurred while notifying bidder about timeout. Error message: %s. Request body: %s"
                             .formatted(exception.getMessage(), new String(timeoutNotification.getBody())),
                     logTimeoutNotificationSamplingRate);
         }
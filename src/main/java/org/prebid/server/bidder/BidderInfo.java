@@ -20,6 +20,8 @@ public class BidderInfo {
 
     boolean usesHttps;
 
+    String endpoint;
+
     String aliasOf;
 
     MaintainerInfo maintainer;
@@ -65,6 +67,7 @@ public class BidderInfo {
                 ortbVersion,
                 debugAllowed,
                 StringUtils.startsWith(endpoint, "https://"),
+                endpoint,
                 aliasOf,
                 new MaintainerInfo(maintainerEmail),
                 new CapabilitiesInfo(
@@ -13,7 +13,7 @@ import org.prebid.server.bidder.model.Result;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.util.BidderUtil;
-import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.EndpointTemplate;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -25,29 +25,35 @@ import java.util.stream.Collectors;
 
 public class GenericBidder implements Bidder<BidRequest> {
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
 
-    public GenericBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+    public GenericBidder(EndpointTemplate endpointTemplate, JacksonMapper mapper) {
+        this.endpointTemplate = Objects.requireNonNull(endpointTemplate);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
     @Override
     public final Result<List<HttpRequest<BidRequest>>> makeHttpRequests(BidRequest bidRequest) {
-        return Result.withValue(BidderUtil.defaultRequest(bidRequest, endpointUrl, mapper));
+        return Result.withValue(BidderUtil.defaultRequest(bidRequest, endpointTemplate.expand(), mapper));
     }
 
     @Override
     public final Result<List<BidderBid>> makeBids(BidderCall<BidRequest> httpCall, BidRequest bidRequest) {
         try {
-            final BidResponse bidResponse = mapper.decodeValue(httpCall.getResponse().getBody(), BidResponse.class);
+            final BidResponse bidResponse = BidderUtil.decodeResponseBody(
+                    httpCall.getResponse(), BidResponse.class, mapper);
             return Result.withValues(extractBids(httpCall.getRequest().getPayload(), bidResponse));
         } catch (DecodeException e) {
             return Result.withError(BidderError.badServerResponse(e.getMessage()));
         }
     }
 
+    @Override
+    public final boolean decodesJsonTokens() {
+        return true;
+    }
+
     private static List<BidderBid> extractBids(BidRequest bidRequest, BidResponse bidResponse) {
         if (bidResponse == null || CollectionUtils.isEmpty(bidResponse.getSeatbid())) {
             return Collections.emptyList();
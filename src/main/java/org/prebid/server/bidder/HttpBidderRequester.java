@@ -7,6 +7,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.BidderAliases;
@@ -36,6 +37,7 @@ import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -47,6 +49,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -99,6 +102,23 @@ public class HttpBidderRequester {
                                                  BidderAliases aliases,
                                                  boolean debugEnabled) {
 
+        return requestBids(
+                bidder, bidderRequest, bidRejectionTracker, timeout, requestHeaders, aliases, debugEnabled, null);
+    }
+
+    /**
+     * Executes given request to a given bidder, HTTP requests still in flight are reset
+     * once the given cancellation future completes.
+     */
+    public <T> Future<BidderSeatBid> requestBids(Bidder<T> bidder,
+                                                 BidderRequest bidderRequest,
+                                                 BidRejectionTracker bidRejectionTracker,
+                                                 Timeout timeout,
+                                                 CaseInsensitiveMultiMap requestHeaders,
+                                                 BidderAliases aliases,
+                                                 boolean debugEnabled,
+                                                 Future<Void> cancellation) {
+
         final String bidderName = bidderRequest.getBidder();
         final BidRequest bidRequest = bidderRequest.getBidRequest();
 
@@ -118,7 +138,8 @@ public class HttpBidderRequester {
         // stored response available only for single request interaction for the moment.
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.getFirst(), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
+                : httpRequests.stream().map(httpRequest ->
+                        doRequest(httpRequest, timeout, cancellation, bidder.decodesJsonTokens()));
 
         // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
@@ -200,27 +221,48 @@ public class HttpBidderRequester {
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest,
+                                                Timeout timeout,
+                                                Future<Void> cancellation,
+                                                boolean parseJsonIncrementally) {
+
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        return createRequest(httpRequest, remainingTimeout, cancellation, parseJsonIncrementally)
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
+    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest,
+                                                         long remainingTimeout,
+                                                         Future<Void> cancellation,
+                                                         boolean parseJsonIncrementally) {
+
         final MultiMap requestHeaders = httpRequest.getHeaders();
         final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
 
-        return httpClient.request(
-                httpRequest.getMethod(),
-                httpRequest.getUri(),
-                requestHeaders,
-                preparedBody,
-                remainingTimeout);
+        final HttpMethod method = httpRequest.getMethod();
+        final String uri = httpRequest.getUri();
+
+        // target is outdated if request uri was changed after it had been built
+        final HttpTarget target = httpRequest.getTarget();
+        final boolean isTargetActual = target != null && target.getUrl().equals(uri);
+
+        // plain requests are made the same way as before cancellation and incremental parsing support
+        if (cancellation == null && !parseJsonIncrementally) {
+            return isTargetActual
+                    ? httpClient.request(method, target, requestHeaders, preparedBody, remainingTimeout)
+                    : httpClient.request(method, uri, requestHeaders, preparedBody, remainingTimeout);
+        }
+
+        return isTargetActual
+                ? httpClient.request(method, target, requestHeaders, preparedBody, remainingTimeout,
+                cancellation, parseJsonIncrementally)
+                : httpClient.request(method, uri, requestHeaders, preparedBody, remainingTimeout,
+                cancellation, parseJsonIncrementally);
     }
 
     private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
@@ -248,10 +290,15 @@ public class HttpBidderRequester {
      * Produces {@link Future} with {@link BidderCall} containing request and error description.
      */
     private <T> Future<BidderCall<T>> failResponse(Throwable exception, HttpRequest<T> httpRequest) {
-        conditionalLogger.warn("Error occurred while sending HTTP request to a bidder url: %s with message: %s"
-                .formatted(httpRequest.getUri(), exception.getMessage()), logSamplingRate);
-        logger.debug("Error occurred while sending HTTP request to a bidder url: {}",
-                exception, httpRequest.getUri());
+        // cancelled request is not an error, auction just doesn't need its response anymore
+        if (!(exception instanceof CancellationException)) {
+            conditionalLogger.warn(
+                    () -> "Error occurred while sending HTTP request to a bidder url: %s with message: %s"
+                            .formatted(httpRequest.getUri(), exception.getMessage()),
+                    logSamplingRate);
+            logger.debug("Error occurred while sending HTTP request to a bidder url: {}",
+                    exception, httpRequest.getUri());
+        }
 
         final BidderError.Type errorType =
                 exception instanceof TimeoutException || exception instanceof ConnectTimeoutException
@@ -270,7 +317,8 @@ public class HttpBidderRequester {
                                                              HttpRequest<T> httpRequest) {
 
         final int statusCode = response.getStatusCode();
-        final HttpResponse httpResponse = HttpResponse.of(statusCode, response.getHeaders(), response.getBody());
+        final HttpResponse httpResponse = HttpResponse.of(
+                statusCode, response.getHeaders(), response.getBody(), response.getJsonTokens());
         return Future.succeededFuture(BidderCall.succeededHttp(httpRequest, httpResponse, errorOrNull(statusCode)));
     }
 
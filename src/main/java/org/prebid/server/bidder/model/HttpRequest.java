@@ -4,6 +4,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import lombok.Builder;
 import lombok.Value;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 import java.util.Set;
 
@@ -18,6 +19,11 @@ public class HttpRequest<T> {
 
     String uri;
 
+    /**
+     * Already parsed {@link #uri}, if known, so http client doesn't need to parse it.
+     */
+    HttpTarget target;
+
     MultiMap headers;
 
     Set<String> impIds;
@@ -1,5 +1,6 @@
 package org.prebid.server.bidder.model;
 
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.vertx.core.MultiMap;
 import lombok.AllArgsConstructor;
 import lombok.Value;
@@ -16,4 +17,13 @@ public class HttpResponse {
     MultiMap headers;
 
     String body;
+
+    /**
+     * Tokens of JSON body collected while it was being received, or null if body was not parsed incrementally.
+     */
+    TokenBuffer jsonTokens;
+
+    public static HttpResponse of(int statusCode, MultiMap headers, String body) {
+        return of(statusCode, headers, body, null);
+    }
 }
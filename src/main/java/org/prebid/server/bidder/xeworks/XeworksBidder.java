@@ -22,12 +22,14 @@ import org.prebid.server.proto.openrtb.ext.request.ExtImpPrebid;
 import org.prebid.server.proto.openrtb.ext.request.xeworks.ExtImpXeworks;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.util.BidderUtil;
-import org.prebid.server.util.HttpUtil;
+import org.prebid.server.util.EndpointTemplate;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -39,11 +41,11 @@ public class XeworksBidder implements Bidder<BidRequest> {
     private static final String HOST_MACRO = "{{Host}}";
     private static final String SOURCE_ID_MACRO = "{{SourceId}}";
 
-    private final String endpointUrl;
+    private final EndpointTemplate endpointTemplate;
     private final JacksonMapper mapper;
 
-    public XeworksBidder(String endpointUrl, JacksonMapper mapper) {
-        this.endpointUrl = HttpUtil.validateUrl(Objects.requireNonNull(endpointUrl));
+    public XeworksBidder(EndpointTemplate endpointTemplate, JacksonMapper mapper) {
+        this.endpointTemplate = Objects.requireNonNull(endpointTemplate);
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -57,7 +59,7 @@ public class XeworksBidder implements Bidder<BidRequest> {
                 final ExtImpXeworks extImpXeworks = parseImpExt(imp);
                 httpRequests.add(BidderUtil.defaultRequest(
                         request,
-                        buildEndpointUrl(extImpXeworks),
+                        resolveEndpoint(extImpXeworks),
                         mapper));
             } catch (PreBidException e) {
                 errors.add(BidderError.badInput(e.getMessage()));
@@ -75,9 +77,10 @@ public class XeworksBidder implements Bidder<BidRequest> {
         }
     }
 
-    private String buildEndpointUrl(ExtImpXeworks extImpXeworks) {
-        return endpointUrl.replace(HOST_MACRO, extImpXeworks.getEnv())
-                .replace(SOURCE_ID_MACRO, extImpXeworks.getPid());
+    private HttpTarget resolveEndpoint(ExtImpXeworks extImpXeworks) {
+        return endpointTemplate.expand(Map.of(
+                HOST_MACRO, extImpXeworks.getEnv(),
+                SOURCE_ID_MACRO, extImpXeworks.getPid()));
     }
 
     @Override
@@ -0,0 +1,81 @@
+package org.prebid.server.cookie;
+
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.Usersyncer;
+import org.prebid.server.cookie.model.RejectionReason;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bidder capabilities relevant for cookie sync, resolved from {@link BidderCatalog} once on creation.
+ * <p>
+ * Each bidder is described by a bit mask, so checking whether a bidder is eligible for sync is a single lookup
+ * followed by bitwise operations instead of several catalog lookups per filtering step.
+ * Bidders unknown at creation time are resolved through the catalog on every call.
+ */
+class CookieSyncBidderCapabilities {
+
+    private static final int VALID = 1;
+    private static final int ACTIVE = 1 << 1;
+    private static final int USERSYNC_CONFIGURED = 1 << 2;
+    private static final int USERSYNC_ENABLED = 1 << 3;
+    private static final int ELIGIBLE = VALID | ACTIVE | USERSYNC_CONFIGURED | USERSYNC_ENABLED;
+
+    private final BidderCatalog bidderCatalog;
+    private final Map<String, Integer> bidderToCapabilities;
+
+    CookieSyncBidderCapabilities(BidderCatalog bidderCatalog) {
+        this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+
+        final Map<String, Integer> capabilities = new CaseInsensitiveMap<>();
+        for (String bidder : bidderCatalog.names()) {
+            capabilities.put(bidder, resolveCapabilities(bidder));
+        }
+        bidderToCapabilities = Collections.unmodifiableMap(capabilities);
+    }
+
+    /**
+     * Returns reason to reject bidder from cookie sync according to its configuration
+     * or null if bidder is eligible for sync.
+     */
+    RejectionReason rejectionReason(String bidder) {
+        final Integer knownCapabilities = bidderToCapabilities.get(bidder);
+        final int capabilities = knownCapabilities != null ? knownCapabilities : resolveCapabilities(bidder);
+
+        if ((capabilities & ELIGIBLE) == ELIGIBLE) {
+            return null;
+        } else if ((capabilities & VALID) == 0) {
+            return RejectionReason.INVALID_BIDDER;
+        } else if ((capabilities & ACTIVE) == 0) {
+            return RejectionReason.DISABLED_BIDDER;
+        } else if ((capabilities & USERSYNC_CONFIGURED) == 0) {
+            return RejectionReason.UNCONFIGURED_USERSYNC;
+        }
+        return RejectionReason.DISABLED_USERSYNC;
+    }
+
+    private int resolveCapabilities(String bidder) {
+        if (!bidderCatalog.isValidName(bidder)) {
+            return 0;
+        }
+
+        int capabilities = VALID;
+        if (bidderCatalog.isActive(bidder)) {
+            capabilities |= ACTIVE;
+        }
+
+        final Optional<Usersyncer> usersyncer = bidderCatalog.usersyncerByName(bidder);
+        if (usersyncer.isPresent()) {
+            capabilities |= USERSYNC_CONFIGURED;
+            if (usersyncer.get().isEnabled()) {
+                capabilities |= USERSYNC_ENABLED;
+            }
+        }
+
+        return capabilities;
+    }
+}
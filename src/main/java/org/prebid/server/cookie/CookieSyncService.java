@@ -48,6 +48,7 @@ import org.prebid.server.util.StreamUtil;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -65,6 +66,7 @@ public class CookieSyncService {
     private final int maxLimit;
 
     private final BidderCatalog bidderCatalog;
+    private final CookieSyncBidderCapabilities bidderCapabilities;
     private final HostVendorTcfDefinerService tcfDefinerService;
     private final CcpaEnforcement ccpaEnforcement;
     private final UidsCookieService uidsCookieService;
@@ -87,6 +89,7 @@ public class CookieSyncService {
         this.maxLimit = maxLimit;
 
         this.bidderCatalog = Objects.requireNonNull(bidderCatalog);
+        this.bidderCapabilities = new CookieSyncBidderCapabilities(bidderCatalog);
         this.tcfDefinerService = Objects.requireNonNull(tcfDefinerService);
         this.ccpaEnforcement = Objects.requireNonNull(ccpaEnforcement);
         this.uidsCookieService = Objects.requireNonNull(uidsCookieService);
@@ -107,10 +110,7 @@ public class CookieSyncService {
                 .map(this::validateCookieSyncContext)
                 .map(this::resolveLimit)
                 .map(this::resolveBiddersToSync)
-                .map(this::filterInvalidBidders)
-                .map(this::filterDisabledBidders)
-                .map(this::filterBiddersWithoutUsersync)
-                .map(this::filterBiddersWithDisabledUsersync)
+                .map(this::filterIneligibleBidders)
                 .map(this::applyRequestFilterSettings)
                 .compose(this::applyPrivacyFilteringRules)
                 .map(this::filterInSyncBidders);
@@ -174,32 +174,31 @@ public class CookieSyncService {
         return cookieSyncContext.with(updatedContext);
     }
 
-    private CookieSyncContext filterInvalidBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isValidName(bidder),
-                RejectionReason.INVALID_BIDDER);
-    }
+    /**
+     * Rejects invalid and disabled bidders along with bidders without configured or enabled usersync
+     * in a single pass over precomputed bidder capabilities.
+     */
+    private CookieSyncContext filterIneligibleBidders(CookieSyncContext cookieSyncContext) {
+        final BiddersContext biddersContext = cookieSyncContext.getBiddersContext();
 
-    private CookieSyncContext filterDisabledBidders(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.isActive(bidder),
-                RejectionReason.DISABLED_BIDDER);
-    }
+        final Map<RejectionReason, Set<String>> reasonToBidders = new EnumMap<>(RejectionReason.class);
+        for (String bidder : biddersContext.allowedBidders()) {
+            final RejectionReason reason = bidderCapabilities.rejectionReason(bidder);
+            if (reason != null) {
+                reasonToBidders.computeIfAbsent(reason, ignored -> new HashSet<>()).add(bidder);
+            }
+        }
 
-    private CookieSyncContext filterBiddersWithoutUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> bidderCatalog.usersyncerByName(bidder).isEmpty(),
-                RejectionReason.UNCONFIGURED_USERSYNC);
-    }
+        if (reasonToBidders.isEmpty()) {
+            return cookieSyncContext;
+        }
 
-    private CookieSyncContext filterBiddersWithDisabledUsersync(CookieSyncContext cookieSyncContext) {
-        return filterBidders(
-                cookieSyncContext,
-                bidder -> !bidderCatalog.usersyncerByName(bidder).orElseThrow().isEnabled(),
-                RejectionReason.DISABLED_USERSYNC);
+        BiddersContext updatedBiddersContext = biddersContext;
+        for (Map.Entry<RejectionReason, Set<String>> entry : reasonToBidders.entrySet()) {
+            updatedBiddersContext = updatedBiddersContext.withRejectedBidders(entry.getValue(), entry.getKey());
+        }
+
+        return cookieSyncContext.with(updatedBiddersContext);
     }
 
     /**
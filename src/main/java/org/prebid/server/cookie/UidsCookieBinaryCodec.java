@@ -0,0 +1,206 @@
+package org.prebid.server.cookie;
+
+import org.prebid.server.cookie.model.UidWithExpiry;
+import org.prebid.server.cookie.proto.Uids;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class consists of {@code static} utility methods for compact binary representation of {@link Uids}.
+ * <p>
+ * Layout (before base64 encoding):
+ * <pre>
+ * version(1 byte) flags(1 byte) count(varint) [familyLength(varint) family uidLength(varint) uid expires(varint)]*
+ * </pre>
+ * Strings are UTF-8 encoded, expiration is stored as epoch seconds. Version byte never clashes with legacy JSON
+ * format, so both representations can be told apart by the first decoded byte.
+ */
+public final class UidsCookieBinaryCodec {
+
+    private static final byte VERSION = 1;
+
+    // epoch seconds fit into 5 varint bytes until the year 3058
+    private static final int MAX_EXPIRES_BYTES = 5;
+    private static final long MAX_EXPIRES_EPOCH_SECONDS = 1L << (7 * MAX_EXPIRES_BYTES);
+
+    private static final int OPTOUT_PRESENT_FLAG = 1;
+    private static final int OPTOUT_VALUE_FLAG = 1 << 1;
+
+    private UidsCookieBinaryCodec() {
+    }
+
+    public static boolean isBinary(byte[] value) {
+        return value.length > 0 && value[0] == VERSION;
+    }
+
+    public static byte[] encode(Uids uids) {
+        final Map<String, UidWithExpiry> uidsMap = uids.getUids() != null ? uids.getUids() : Map.of();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(
+                headerSize(uidsMap.size()) + uidsMap.size() * 32);
+
+        output.write(VERSION);
+        output.write(flags(uids.getOptout()));
+        writeVarint(output, uidsMap.size());
+
+        for (Map.Entry<String, UidWithExpiry> entry : uidsMap.entrySet()) {
+            final UidWithExpiry uidWithExpiry = entry.getValue();
+            writeString(output, entry.getKey());
+            writeString(output, uidWithExpiry.getUid());
+            writeVarint(output, Math.max(0L, uidWithExpiry.getExpires().toEpochSecond()));
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes {@link Uids} from binary value.
+     *
+     * @throws IllegalArgumentException if value is malformed or has unsupported version
+     */
+    public static Uids decode(byte[] value) {
+        if (!isBinary(value) || value.length < 2) {
+            throw new IllegalArgumentException("Unsupported uids cookie binary format");
+        }
+
+        final Reader reader = new Reader(value, 2);
+        final long count = reader.readVarint();
+        if (count > value.length) {
+            throw new IllegalArgumentException("Malformed uids count in uids cookie");
+        }
+
+        final Map<String, UidWithExpiry> uids = new HashMap<>((int) count * 2);
+        for (int i = 0; i < count; i++) {
+            final String family = reader.readString();
+            final String uid = reader.readString();
+            uids.put(family, new UidWithExpiry(uid, reader.readExpires()));
+        }
+
+        return Uids.builder().uids(uids).optout(optout(value[1])).build();
+    }
+
+    /**
+     * Returns number of bytes taken by version, flags and count of uids in binary representation.
+     */
+    public static int headerSize(int count) {
+        return 2 + varintSize(count);
+    }
+
+    /**
+     * Returns number of bytes uid entry takes in binary representation, assuming the longest expiration value.
+     */
+    public static int entrySize(String family, String uid) {
+        final int familyLength = utf8Length(family);
+        final int uidLength = utf8Length(uid);
+        return varintSize(familyLength) + familyLength + varintSize(uidLength) + uidLength + MAX_EXPIRES_BYTES;
+    }
+
+    private static int flags(Boolean optout) {
+        if (optout == null) {
+            return 0;
+        }
+        return optout ? OPTOUT_PRESENT_FLAG | OPTOUT_VALUE_FLAG : OPTOUT_PRESENT_FLAG;
+    }
+
+    private static Boolean optout(byte flags) {
+        return (flags & OPTOUT_PRESENT_FLAG) != 0 ? (flags & OPTOUT_VALUE_FLAG) != 0 : null;
+    }
+
+    private static void writeString(ByteArrayOutputStream output, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.writeBytes(bytes);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream output, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            output.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        output.write((int) remaining);
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        long remaining = value >>> 7;
+        while (remaining != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            if (character < 0x80) {
+                length++;
+            } else if (character < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(character)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static class Reader {
+
+        private final byte[] value;
+        private int position;
+
+        Reader(byte[] value, int position) {
+            this.value = value;
+            this.position = position;
+        }
+
+        long readVarint() {
+            long result = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                final byte current = next();
+                result |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in uids cookie");
+        }
+
+        String readString() {
+            final long length = readVarint();
+            if (length < 0 || length > value.length - position) {
+                throw new IllegalArgumentException("Malformed string in uids cookie");
+            }
+
+            final String result = new String(value, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return result;
+        }
+
+        ZonedDateTime readExpires() {
+            final long epochSeconds = readVarint();
+            if (epochSeconds < 0 || epochSeconds >= MAX_EXPIRES_EPOCH_SECONDS) {
+                throw new IllegalArgumentException("Malformed expiration in uids cookie");
+            }
+
+            return Instant.ofEpochSecond(epochSeconds).atZone(ZoneOffset.UTC);
+        }
+
+        private byte next() {
+            if (position >= value.length) {
+                throw new IllegalArgumentException("Unexpected end of uids cookie");
+            }
+            return value[position++];
+        }
+    }
+}
@@ -51,6 +51,7 @@ public class UidsCookieService {
 
     private final int maxCookieSizeBytes;
     private final int numberOfUidCookies;
+    private final boolean binaryFormatEnabled;
 
     private final PrioritizedCoopSyncProvider prioritizedCoopSyncProvider;
     private final Metrics metrics;
@@ -64,6 +65,7 @@ public class UidsCookieService {
                              int ttlDays,
                              int maxCookieSizeBytes,
                              int numberOfUidCookies,
+                             boolean binaryFormatEnabled,
                              PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
                              Metrics metrics,
                              JacksonMapper mapper) {
@@ -87,6 +89,7 @@ public class UidsCookieService {
         this.ttlSeconds = Duration.ofDays(ttlDays).getSeconds();
         this.maxCookieSizeBytes = maxCookieSizeBytes;
         this.numberOfUidCookies = numberOfUidCookies;
+        this.binaryFormatEnabled = binaryFormatEnabled;
         this.prioritizedCoopSyncProvider = Objects.requireNonNull(prioritizedCoopSyncProvider);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
@@ -133,6 +136,8 @@ public class UidsCookieService {
 
     /**
      * Parses cookies {@link Map} and composes {@link Uids} model.
+     * <p>
+     * Both compact binary and legacy JSON cookie values are supported regardless of configured format.
      */
     private Uids parseUids(Map<String, String> cookies) {
         final Map<String, UidWithExpiry> uids = new HashMap<>();
@@ -144,8 +149,7 @@ public class UidsCookieService {
             }
 
             try {
-                final Uids parsedUids = mapper.decodeValue(
-                        Buffer.buffer(Base64.getUrlDecoder().decode(cookie.getValue())), Uids.class);
+                final Uids parsedUids = decodeUids(Base64.getUrlDecoder().decode(cookie.getValue()));
                 if (parsedUids != null && parsedUids.getUids() != null) {
                     parsedUids.getUids().forEach((key, value) -> uids.merge(key, value, (newValue, oldValue) ->
                             newValue.getExpires().compareTo(oldValue.getExpires()) > 0 ? newValue : oldValue));
@@ -158,13 +162,21 @@ public class UidsCookieService {
         return Uids.builder().uids(uids).build();
     }
 
+    private Uids decodeUids(byte[] value) {
+        return UidsCookieBinaryCodec.isBinary(value)
+                ? UidsCookieBinaryCodec.decode(value)
+                : mapper.decodeValue(Buffer.buffer(value), Uids.class);
+    }
+
     /**
-     * Creates a {@link Cookie} with 'uids' as a name and encoded JSON string representing supplied {@link UidsCookie}
-     * as a value.
+     * Creates a {@link Cookie} with 'uids' as a name and encoded value representing supplied {@link UidsCookie}.
+     * Value is either compact binary or JSON depending on configuration.
      */
     public Cookie aliveCookie(String cookieName, UidsCookie uidsCookie) {
-        final String value = Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes());
-        return makeCookie(cookieName, value, ttlSeconds);
+        final byte[] value = binaryFormatEnabled
+                ? UidsCookieBinaryCodec.encode(uidsCookie.getCookieUids())
+                : uidsCookie.toJson().getBytes();
+        return makeCookie(cookieName, Base64.getUrlEncoder().encodeToString(value), ttlSeconds);
     }
 
     public Cookie aliveCookie(UidsCookie uidsCookie) {
@@ -285,7 +297,8 @@ public class UidsCookieService {
         String nextCookieFamily = null;
         for (int i = 0; i < numberOfUidCookies; i++) {
             final int digits = i < 10 ? Integer.signum(i) : 2;
-            final UidsCookieSize uidsCookieSize = new UidsCookieSize(cookieSchemaSize + digits, maxCookieSizeBytes);
+            final UidsCookieSize uidsCookieSize = new UidsCookieSize(
+                    cookieSchemaSize + digits, maxCookieSizeBytes, binaryFormatEnabled);
 
             final Map<String, UidWithExpiry> tempUids = new HashMap<>();
             while (nextCookieFamily != null || cookieFamilies.hasNext()) {
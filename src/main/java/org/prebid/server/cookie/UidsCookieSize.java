@@ -28,13 +28,23 @@ public class UidsCookieSize {
 
     private final int cookieSchemaSize;
     private final int maxSize;
+    private final boolean binaryFormat;
     private int encodedUidsSize;
+    private int binaryUidsSize;
+    private int uidsCount;
 
     public UidsCookieSize(int cookieSchemaSize, int maxSize) {
+        this(cookieSchemaSize, maxSize, false);
+    }
+
+    public UidsCookieSize(int cookieSchemaSize, int maxSize, boolean binaryFormat) {
         this.cookieSchemaSize = cookieSchemaSize;
         this.maxSize = maxSize;
+        this.binaryFormat = binaryFormat;
 
         encodedUidsSize = 0;
+        binaryUidsSize = 0;
+        uidsCount = 0;
     }
 
     public static int schemaSize(Cookie cookieSchema) {
@@ -46,12 +56,24 @@ public class UidsCookieSize {
     }
 
     public int totalSize() {
+        if (binaryFormat) {
+            return cookieSchemaSize
+                    + Base64Size.base64Size(Base64Size.encodeSize(
+                    UidsCookieBinaryCodec.headerSize(uidsCount) + binaryUidsSize));
+        }
+
         return cookieSchemaSize
                 + TEMP_UIDS_BASE64_BYTES
                 + Base64Size.base64Size(encodedUidsSize);
     }
 
     public void addUid(String cookieFamily, String uid) {
+        if (binaryFormat) {
+            binaryUidsSize += UidsCookieBinaryCodec.entrySize(cookieFamily, uid);
+            uidsCount++;
+            return;
+        }
+
         final int uidSize = UID_TEMPLATE_BYTES + cookieFamily.length() + uid.length();
         encodedUidsSize = Base64Size.encodeSize(Base64Size.decodeSize(encodedUidsSize) + uidSize);
     }
@@ -28,9 +28,12 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Service for price currency conversion between currencies.
@@ -47,7 +50,7 @@ public class CurrencyConversionService implements Initializable {
     private final ExternalConversionProperties externalConversionProperties;
     private final JacksonMapper mapper;
 
-    private Map<String, Map<String, BigDecimal>> externalCurrencyRates;
+    private ExternalCurrencyRates externalCurrencyRates;
     private ZonedDateTime lastUpdated;
 
     public CurrencyConversionService(ExternalConversionProperties externalConversionProperties) {
@@ -119,7 +122,7 @@ public class CurrencyConversionService implements Initializable {
     private Void updateCurrencyRates(CurrencyConversionRates currencyConversionRates) {
         final Map<String, Map<String, BigDecimal>> receivedCurrencyRates = currencyConversionRates.getConversions();
         if (receivedCurrencyRates != null) {
-            externalCurrencyRates = receivedCurrencyRates;
+            externalCurrencyRates = ExternalCurrencyRates.of(receivedCurrencyRates);
             lastUpdated = now();
         }
 
@@ -166,7 +169,8 @@ public class CurrencyConversionService implements Initializable {
     }
 
     public Map<String, Map<String, BigDecimal>> getExternalCurrencyRates() {
-        return externalCurrencyRates;
+        final ExternalCurrencyRates currentRates = externalCurrencyRates;
+        return currentRates != null ? currentRates.getRates() : null;
     }
 
     /**
@@ -190,37 +194,64 @@ public class CurrencyConversionService implements Initializable {
                                       String fromCurrency,
                                       String toCurrency,
                                       Boolean usepbsrates) {
+
+        return convertCurrency(price, conversionRate(requestCurrencyRates, fromCurrency, toCurrency, usepbsrates));
+    }
+
+    /**
+     * Converts price with the rate previously resolved by {@link #conversionRate(BidRequest, String, String)}.
+     */
+    public static BigDecimal convertCurrency(BigDecimal price, BigDecimal conversionRate) {
+        return conversionRate != null
+                ? price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN)
+                : price;
+    }
+
+    /**
+     * Resolves conversion rate from one currency to another the same way as
+     * {@link #convertCurrency(BigDecimal, BidRequest, String, String)} does, so the rate could be resolved once
+     * and applied to many prices.
+     * Returns null if currencies are the same and no conversion is needed.
+     * Throws {@link PreBidException} in case conversion is not possible.
+     */
+    public BigDecimal conversionRate(BidRequest bidRequest, String fromCurrency, String toCurrency) {
+        return conversionRate(currencyRates(bidRequest), fromCurrency, toCurrency, usepbsrates(bidRequest));
+    }
+
+    private BigDecimal conversionRate(Map<String, Map<String, BigDecimal>> requestCurrencyRates,
+                                      String fromCurrency,
+                                      String toCurrency,
+                                      Boolean usepbsrates) {
+
         // use Default USD currency if bidder left this field empty. After, when bidder will implement multi currency
         // support it will be changed to throwing PrebidException.
         final String effectiveFromCurrency = fromCurrency != null ? fromCurrency : DEFAULT_BID_CURRENCY;
         final String effectiveToCurrency = toCurrency != null ? toCurrency : DEFAULT_BID_CURRENCY;
 
         if (Objects.equals(effectiveToCurrency, effectiveFromCurrency)) {
-            return price;
+            return null;
         }
 
-        final Map<String, Map<String, BigDecimal>> firstPriorityRates;
-        final Map<String, Map<String, BigDecimal>> secondPriorityRates;
-
+        final ExternalCurrencyRates currentExternalRates = externalCurrencyRates;
+        final BigDecimal conversionRate;
         if (BooleanUtils.isFalse(usepbsrates)) {
-            firstPriorityRates = requestCurrencyRates;
-            secondPriorityRates = externalCurrencyRates;
+            conversionRate = ObjectUtils.firstNonNull(
+                    getConversionRate(requestCurrencyRates, effectiveFromCurrency, effectiveToCurrency),
+                    externalConversionRate(currentExternalRates, effectiveFromCurrency, effectiveToCurrency));
         } else {
-            firstPriorityRates = externalCurrencyRates;
-            secondPriorityRates = requestCurrencyRates;
+            final BigDecimal externalConversionRate =
+                    externalConversionRate(currentExternalRates, effectiveFromCurrency, effectiveToCurrency);
+            conversionRate = externalConversionRate != null
+                    ? externalConversionRate
+                    : getConversionRate(requestCurrencyRates, effectiveFromCurrency, effectiveToCurrency);
         }
 
-        final BigDecimal conversionRate = getConversionRateByPriority(firstPriorityRates,
-                secondPriorityRates,
-                effectiveFromCurrency,
-                effectiveToCurrency);
-
         if (conversionRate == null) {
             throw new PreBidException("Unable to convert from currency %s to desired ad server currency %s"
                     .formatted(effectiveFromCurrency, effectiveToCurrency));
         }
 
-        return price.multiply(conversionRate).setScale(DEFAULT_PRICE_PRECISION, RoundingMode.HALF_EVEN);
+        return conversionRate;
     }
 
     private static Map<String, Map<String, BigDecimal>> currencyRates(BidRequest bidRequest) {
@@ -240,17 +271,11 @@ public class CurrencyConversionService implements Initializable {
         return currency != null ? currency.getUsepbsrates() : null;
     }
 
-    /**
-     * Returns conversion rate from the given currency rates according to priority.
-     */
-    private static BigDecimal getConversionRateByPriority(Map<String, Map<String, BigDecimal>> firstPriorityRates,
-                                                          Map<String, Map<String, BigDecimal>> secondPriorityRates,
-                                                          String fromCurrency,
-                                                          String toCurrency) {
-
-        return ObjectUtils.defaultIfNull(
-                getConversionRate(firstPriorityRates, fromCurrency, toCurrency),
-                getConversionRate(secondPriorityRates, fromCurrency, toCurrency));
+    private static BigDecimal externalConversionRate(ExternalCurrencyRates externalRates,
+                                                     String fromCurrency,
+                                                     String toCurrency) {
+
+        return externalRates != null ? externalRates.rate(fromCurrency, toCurrency) : null;
     }
 
     /**
@@ -365,4 +390,65 @@ public class CurrencyConversionService implements Initializable {
 
         return lastUpdated.isBefore(stalenessBoundary);
     }
+
+    /**
+     * External currency rates with all conversion rates between known currencies resolved in advance.
+     * <p>
+     * Each currency met in the received rates gets an index, and rates for every pair of them are resolved once
+     * (straight, reverse, intermediate or cross) when rates are refreshed, so a conversion becomes
+     * two index lookups and an array read instead of walking the nested maps and dividing rates.
+     */
+    private static class ExternalCurrencyRates {
+
+        private final Map<String, Map<String, BigDecimal>> rates;
+        private final Map<String, Integer> currencyIndexes;
+        private final BigDecimal[] conversionRates;
+
+        private ExternalCurrencyRates(Map<String, Map<String, BigDecimal>> rates,
+                                      Map<String, Integer> currencyIndexes,
+                                      BigDecimal[] conversionRates) {
+
+            this.rates = rates;
+            this.currencyIndexes = currencyIndexes;
+            this.conversionRates = conversionRates;
+        }
+
+        static ExternalCurrencyRates of(Map<String, Map<String, BigDecimal>> rates) {
+            final Set<String> currencies = new LinkedHashSet<>(rates.keySet());
+            rates.values().stream()
+                    .filter(Objects::nonNull)
+                    .map(Map::keySet)
+                    .forEach(currencies::addAll);
+
+            final Map<String, Integer> currencyIndexes = new HashMap<>(currencies.size() * 2);
+            for (final String currency : currencies) {
+                currencyIndexes.put(currency, currencyIndexes.size());
+            }
+
+            final int size = currencies.size();
+            final BigDecimal[] conversionRates = new BigDecimal[size * size];
+            for (final String fromCurrency : currencies) {
+                final int fromIndex = currencyIndexes.get(fromCurrency);
+                for (final String toCurrency : currencies) {
+                    if (!fromCurrency.equals(toCurrency)) {
+                        conversionRates[fromIndex * size + currencyIndexes.get(toCurrency)] =
+                                getConversionRate(rates, fromCurrency, toCurrency);
+                    }
+                }
+            }
+
+            return new ExternalCurrencyRates(rates, currencyIndexes, conversionRates);
+        }
+
+        Map<String, Map<String, BigDecimal>> getRates() {
+            return rates;
+        }
+
+        BigDecimal rate(String fromCurrency, String toCurrency) {
+            final Integer fromIndex = currencyIndexes.get(fromCurrency);
+            final Integer toIndex = fromIndex != null ? currencyIndexes.get(toCurrency) : null;
+
+            return toIndex != null ? conversionRates[fromIndex * currencyIndexes.size() + toIndex] : null;
+        }
+    }
 }
@@ -16,6 +16,7 @@ import org.prebid.server.execution.retry.RetryPolicy;
 import org.prebid.server.spring.config.model.ExponentialBackoffProperties;
 import org.prebid.server.spring.config.model.FileSyncerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.vertx.ContextRunner;
 
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
@@ -47,7 +48,8 @@ public class FileUtil {
 
     public static FileSyncer fileSyncerFor(FileProcessor fileProcessor,
                                            FileSyncerProperties properties,
-                                           Vertx vertx) {
+                                           Vertx vertx,
+                                           ContextRunner contextRunner) {
 
         return switch (properties.getType()) {
             case LOCAL -> new LocalFileSyncer(
@@ -55,14 +57,16 @@ public class FileUtil {
                     properties.getSaveFilepath(),
                     properties.getUpdateIntervalMs(),
                     toRetryPolicy(properties),
-                    vertx);
-            case REMOTE -> remoteFileSyncer(fileProcessor, properties, vertx);
+                    vertx,
+                    contextRunner);
+            case REMOTE -> remoteFileSyncer(fileProcessor, properties, vertx, contextRunner);
         };
     }
 
     private static RemoteFileSyncerV2 remoteFileSyncer(FileProcessor fileProcessor,
                                                        FileSyncerProperties properties,
-                                                       Vertx vertx) {
+                                                       Vertx vertx,
+                                                       ContextRunner contextRunner) {
 
         final HttpClientProperties httpClientProperties = properties.getHttpClient();
         final HttpClientOptions httpClientOptions = new HttpClientOptions()
@@ -79,7 +83,8 @@ public class FileUtil {
                 properties.isCheckSize(),
                 properties.getUpdateIntervalMs(),
                 toRetryPolicy(properties),
-                vertx);
+                vertx,
+                contextRunner);
     }
 
     // TODO: remove after transition period
@@ -7,6 +7,7 @@ import org.prebid.server.execution.retry.RetryPolicy;
 import org.prebid.server.execution.retry.Retryable;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.vertx.ContextRunner;
 
 import java.util.Objects;
 import java.util.function.Function;
@@ -15,20 +16,25 @@ public abstract class FileSyncer {
 
     private static final Logger logger = LoggerFactory.getLogger(FileSyncer.class);
 
+    private static final String BLOCKING_EXECUTOR_NAME = "file-sync";
+
     private final FileProcessor fileProcessor;
     private final long updatePeriod;
     private final RetryPolicy retryPolicy;
     private final Vertx vertx;
+    private final ContextRunner contextRunner;
 
     protected FileSyncer(FileProcessor fileProcessor,
                          long updatePeriod,
                          RetryPolicy retryPolicy,
-                         Vertx vertx) {
+                         Vertx vertx,
+                         ContextRunner contextRunner) {
 
         this.fileProcessor = Objects.requireNonNull(fileProcessor);
         this.updatePeriod = updatePeriod;
         this.retryPolicy = Objects.requireNonNull(retryPolicy);
         this.vertx = Objects.requireNonNull(vertx);
+        this.contextRunner = Objects.requireNonNull(contextRunner);
     }
 
     public void sync() {
@@ -46,7 +52,7 @@ public abstract class FileSyncer {
 
     private Future<?> processFile(String filePath) {
         return filePath != null
-                ? vertx.executeBlocking(() -> fileProcessor.setDataPath(filePath))
+                ? contextRunner.executeBlocking(BLOCKING_EXECUTOR_NAME, () -> fileProcessor.setDataPath(filePath))
                 .compose(Function.identity())
                 .onFailure(error -> logger.error("Can't process saved file: " + filePath))
                 : Future.succeededFuture();
@@ -5,6 +5,7 @@ import io.vertx.core.Vertx;
 import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.file.supplier.LocalFileSupplier;
 import org.prebid.server.execution.retry.RetryPolicy;
+import org.prebid.server.vertx.ContextRunner;
 
 public class LocalFileSyncer extends FileSyncer {
 
@@ -14,9 +15,10 @@ public class LocalFileSyncer extends FileSyncer {
                            String localFile,
                            long updatePeriod,
                            RetryPolicy retryPolicy,
-                           Vertx vertx) {
+                           Vertx vertx,
+                           ContextRunner contextRunner) {
 
-        super(fileProcessor, updatePeriod, retryPolicy, vertx);
+        super(fileProcessor, updatePeriod, retryPolicy, vertx, contextRunner);
 
         localFileSupplier = new LocalFileSupplier(localFile, vertx.fileSystem());
     }
@@ -8,6 +8,7 @@ import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.file.supplier.LocalFileSupplier;
 import org.prebid.server.execution.file.supplier.RemoteFileSupplier;
 import org.prebid.server.execution.retry.RetryPolicy;
+import org.prebid.server.vertx.ContextRunner;
 
 public class RemoteFileSyncerV2 extends FileSyncer {
 
@@ -23,9 +24,10 @@ public class RemoteFileSyncerV2 extends FileSyncer {
                               boolean checkSize,
                               long updatePeriod,
                               RetryPolicy retryPolicy,
-                              Vertx vertx) {
+                              Vertx vertx,
+                              ContextRunner contextRunner) {
 
-        super(fileProcessor, updatePeriod, retryPolicy, vertx);
+        super(fileProcessor, updatePeriod, retryPolicy, vertx, contextRunner);
 
         final FileSystem fileSystem = vertx.fileSystem();
         localFileSupplier = new LocalFileSupplier(saveFilePath, fileSystem);
@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
 
@@ -236,9 +237,11 @@ public class BasicPriceFloorEnforcer implements PriceFloorEnforcer {
                     correctedImpFloor.getCurrency(),
                     bidRequestCurrency);
         } catch (PreBidException e) {
-            final String logMessage = "Price floors enforcement failed for request id: %s, reason: %s"
+            final Supplier<String> logMessage = () -> "Price floors enforcement failed for request id: %s, reason: %s"
                     .formatted(bidRequest.getId(), e.getMessage());
-            logger.debug(logMessage);
+            if (logger.isDebugEnabled()) {
+                logger.debug(logMessage.get());
+            }
             conditionalLogger.error(logMessage, 0.01d);
             metrics.updatePriceFloorGeneralAlertsMetric(MetricName.err);
             errors.add(BidderError.badServerResponse("Price floors enforcement failed: " + e.getMessage()));
@@ -153,7 +153,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
             } catch (PreBidException e) {
                 errors.add("Failed to parse price floors from request, with a reason: %s".formatted(e.getMessage()));
                 conditionalLogger.error(
-                        "Failed to parse price floors from request with id: '%s', with a reason: %s"
+                        () -> "Failed to parse price floors from request with id: '%s', with a reason: %s"
                                 .formatted(bidRequest.getId(), e.getMessage()),
                         0.01d);
             }
@@ -64,6 +64,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 public class BasicPriceFloorResolver implements PriceFloorResolver {
@@ -155,12 +156,14 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         try {
             return resolveResult(floor, rule, floorForRule, imp, bidRequest, floorCurrency, warnings);
         } catch (PreBidException e) {
-            final String logMessage = "Error occurred while resolving floor for imp: %s, cause: %s"
+            final Supplier<String> logMessage = () -> "Error occurred while resolving floor for imp: %s, cause: %s"
                     .formatted(imp.getId(), e.getMessage());
             if (warnings != null) {
-                warnings.add(logMessage);
+                warnings.add(logMessage.get());
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug(logMessage.get());
             }
-            logger.debug(logMessage);
             conditionalLogger.error(logMessage, 0.01d);
             metrics.updatePriceFloorGeneralAlertsMetric(MetricName.err);
         }
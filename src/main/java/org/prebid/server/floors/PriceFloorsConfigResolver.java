@@ -48,13 +48,13 @@ public class PriceFloorsConfigResolver {
             validatePriceFloorConfig(account);
             return account;
         } catch (PreBidException e) {
-            final String message = "Account with id '%s' has invalid config: %s"
-                    .formatted(account.getId(), e.getMessage());
             final String accountId = ObjectUtil.getIfNotNull(account, Account::getId);
             if (StringUtils.isNotBlank(accountId)) {
                 metrics.updateAlertsConfigFailed(account.getId(), MetricName.price_floors);
             }
-            conditionalLogger.error(message, 0.01d);
+            conditionalLogger.error(
+                    () -> "Account with id '%s' has invalid config: %s".formatted(account.getId(), e.getMessage()),
+                    0.01d);
         }
 
         return account.toBuilder()
@@ -78,7 +78,7 @@ public class NotificationEventHandler implements ApplicationResource {
             throw new IllegalArgumentException(
                     "Failed to load pixel image at " + TRACKING_PIXEL_PNG, e);
         }
-        return TrackingPixel.of(PNG_CONTENT_TYPE, bytes);
+        return TrackingPixel.of(PNG_CONTENT_TYPE, Buffer.buffer(bytes));
     }
 
     @Override
@@ -108,6 +108,12 @@ public class NotificationEventHandler implements ApplicationResource {
         }
 
         final EventRequest eventRequest = EventUtil.from(routingContext);
+        if (eventRequest.getAnalytics() != EventRequest.Analytics.enabled) {
+            // nothing to report, so there is no need to wait for account
+            respondWithOk(routingContext, eventRequest.getFormat() == EventRequest.Format.image);
+            return;
+        }
+
         getAccountById(eventRequest.getAccountId())
                 .onComplete(async -> handleEvent(async, eventRequest, routingContext));
     }
@@ -142,30 +148,28 @@ public class NotificationEventHandler implements ApplicationResource {
         }
 
         final Account account = async.result();
-        final boolean eventsEnabledForAccount = Objects.equals(accountEventsEnabled(account), true);
-        final boolean eventsEnabledForRequest = eventRequest.getAnalytics() == EventRequest.Analytics.enabled;
-
-        if (!eventsEnabledForAccount && eventsEnabledForRequest) {
+        if (!Objects.equals(accountEventsEnabled(account), true)) {
             respondWithUnauthorized(routingContext, "Account '%s' doesn't support events".formatted(account.getId()));
             return;
         }
 
-        final EventRequest.Type eventType = eventRequest.getType();
-        if (eventsEnabledForRequest) {
-            final NotificationEvent notificationEvent = NotificationEvent.builder()
-                    .type(eventType == EventRequest.Type.win ? NotificationEvent.Type.win : NotificationEvent.Type.imp)
-                    .bidId(eventRequest.getBidId())
-                    .account(account)
-                    .bidder(eventRequest.getBidder())
-                    .timestamp(eventRequest.getTimestamp())
-                    .integration(eventRequest.getIntegration())
-                    .httpContext(HttpRequestContext.from(routingContext))
-                    .activityInfrastructure(activityInfrastructure(account))
-                    .build();
-
-            analyticsDelegator.processEvent(notificationEvent);
-        }
+        // respond before building notification event, analytics reporters process it asynchronously anyway
+        final HttpRequestContext httpContext = HttpRequestContext.from(routingContext);
         respondWithOk(routingContext, eventRequest.getFormat() == EventRequest.Format.image);
+
+        final EventRequest.Type eventType = eventRequest.getType();
+        final NotificationEvent notificationEvent = NotificationEvent.builder()
+                .type(eventType == EventRequest.Type.win ? NotificationEvent.Type.win : NotificationEvent.Type.imp)
+                .bidId(eventRequest.getBidId())
+                .account(account)
+                .bidder(eventRequest.getBidder())
+                .timestamp(eventRequest.getTimestamp())
+                .integration(eventRequest.getIntegration())
+                .httpContext(httpContext)
+                .activityInfrastructure(activityInfrastructure(account))
+                .build();
+
+        analyticsDelegator.processEvent(notificationEvent);
     }
 
     private static Boolean accountEventsEnabled(Account account) {
@@ -177,10 +181,9 @@ public class NotificationEventHandler implements ApplicationResource {
     }
 
     private ActivityInfrastructure activityInfrastructure(Account account) {
-        return activityInfrastructureCreator.create(
+        return activityInfrastructureCreator.getOrCreate(
                 account,
-                GppContextCreator.from(null, null).build().getGppContext(),
-                null);
+                GppContextCreator.from(null, null).build().getGppContext());
     }
 
     private void respondWithOk(RoutingContext routingContext, boolean respondWithPixel) {
@@ -190,7 +193,7 @@ public class NotificationEventHandler implements ApplicationResource {
                     Endpoint.event,
                     response -> response
                             .putHeader(HttpHeaders.CONTENT_TYPE, trackingPixel.getContentType())
-                            .end(Buffer.buffer(trackingPixel.getContent())));
+                            .end(trackingPixel.getContent()));
         } else {
             HttpUtil.executeSafely(routingContext, Endpoint.event, HttpServerResponse::end);
         }
@@ -221,12 +224,14 @@ public class NotificationEventHandler implements ApplicationResource {
 
     /**
      * Internal class for holding pixels content type to its value.
+     * <p>
+     * Content is allocated once and shared by all responses, since writing a {@link Buffer} doesn't consume it.
      */
     @Value(staticConstructor = "of")
     private static class TrackingPixel {
 
         String contentType;
 
-        byte[] content;
+        Buffer content;
     }
 }
@@ -211,10 +211,9 @@ public class SetuidHandler implements ApplicationResource {
 
     private SetuidContext fillWithActivityInfrastructure(SetuidContext setuidContext) {
         return setuidContext.toBuilder()
-                .activityInfrastructure(activityInfrastructureCreator.create(
+                .activityInfrastructure(activityInfrastructureCreator.getOrCreate(
                         setuidContext.getAccount(),
-                        setuidContext.getGppContext(),
-                        null))
+                        setuidContext.getGppContext()))
                 .build();
     }
 
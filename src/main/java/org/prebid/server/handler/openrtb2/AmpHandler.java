@@ -81,6 +81,8 @@ public class AmpHandler implements ApplicationResource {
 
     public static final String PREBID_EXT = "prebid";
     private static final MetricName REQUEST_TYPE_METRIC = MetricName.amp;
+    private static final String INVALID_REQUEST_LOG_KEY = "amp-invalid-request";
+    private static final String UNAUTHORIZED_ACCOUNT_LOG_KEY = "amp-unauthorized-account";
 
     private final AmpRequestFactory ampRequestFactory;
     private final ExchangeService exchangeService;
@@ -367,8 +369,9 @@ public class AmpHandler implements ApplicationResource {
                         .toList();
                 final String message = String.join("\n", errorMessages);
 
-                conditionalLogger.info(
-                        "%s, Referer: %s"
+                conditionalLogger.infoWithKey(
+                        INVALID_REQUEST_LOG_KEY,
+                        () -> "%s, Referer: %s"
                                 .formatted(message, routingContext.request().headers().get(HttpUtil.REFERER_HEADER)),
                         100);
 
@@ -377,7 +380,7 @@ public class AmpHandler implements ApplicationResource {
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String message = exception.getMessage();
-                conditionalLogger.info(message, 100);
+                conditionalLogger.infoWithKey(UNAUTHORIZED_ACCOUNT_LOG_KEY, () -> message, 100);
 
                 errorMessages = Collections.singletonList(message);
 
@@ -0,0 +1,51 @@
+package org.prebid.server.hooks.execution;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares single hashed wheel timer across all hook invocations instead of creating Vert.x timer per invocation.
+ * <p>
+ * Expired timeouts are handed back to the Vert.x context they were scheduled from, so timeout handling stays on the
+ * same event loop as the hook execution itself. Timeouts are fired with the precision of a wheel tick.
+ */
+public class HashedWheelHookTimeoutScheduler implements HookTimeoutScheduler {
+
+    private final HashedWheelTimer timer;
+
+    public HashedWheelHookTimeoutScheduler(long tickDurationMs, int ticksPerWheel) {
+        timer = new HashedWheelTimer(
+                new DefaultThreadFactory("hook-timeout-wheel", true),
+                tickDurationMs,
+                TimeUnit.MILLISECONDS,
+                ticksPerWheel);
+    }
+
+    @Override
+    public ScheduledTimeout schedule(long timeout, Runnable onTimeout) {
+        final Context context = Vertx.currentContext();
+        final Timeout scheduled = timer.newTimeout(
+                ignored -> runOnContext(context, onTimeout),
+                timeout,
+                TimeUnit.MILLISECONDS);
+
+        return scheduled::cancel;
+    }
+
+    private static void runOnContext(Context context, Runnable action) {
+        if (context != null) {
+            context.runOnContext(ignored -> action.run());
+        } else {
+            action.run();
+        }
+    }
+
+    public void close() {
+        timer.stop();
+    }
+}
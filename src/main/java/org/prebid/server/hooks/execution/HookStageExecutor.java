@@ -6,7 +6,6 @@ import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
-import io.vertx.core.Vertx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.map.DefaultedMap;
@@ -53,6 +52,8 @@ import org.prebid.server.hooks.v1.entrypoint.EntrypointPayload;
 import org.prebid.server.hooks.v1.exitpoint.ExitpointPayload;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.log.ConditionalLogger;
+import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.model.Endpoint;
 import org.prebid.server.settings.model.Account;
@@ -68,10 +69,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public class HookStageExecutor {
 
+    private static final ConditionalLogger conditionalLogger =
+            new ConditionalLogger(LoggerFactory.getLogger(HookStageExecutor.class));
+    private static final double LOG_SAMPLING_RATE = 0.01d;
+
     private static final String ENTITY_HTTP_REQUEST = "http-request";
     private static final String ENTITY_HTTP_RESPONSE = "http-response";
     private static final String ENTITY_AUCTION_REQUEST = "auction-request";
@@ -84,29 +90,32 @@ public class HookStageExecutor {
     private final Map<String, Boolean> hostModuleExecution;
     private final HookCatalog hookCatalog;
     private final TimeoutFactory timeoutFactory;
-    private final Vertx vertx;
+    private final HookTimeoutScheduler timeoutScheduler;
     private final Clock clock;
     private final ObjectMapper mapper;
     private final boolean isConfigToInvokeRequired;
+    private final boolean isParallelReadOnlyGroupsEnabled;
 
     private HookStageExecutor(ExecutionPlan hostExecutionPlan,
                               ExecutionPlan defaultAccountExecutionPlan,
                               Map<String, Boolean> hostModuleExecution,
                               HookCatalog hookCatalog,
                               TimeoutFactory timeoutFactory,
-                              Vertx vertx,
+                              HookTimeoutScheduler timeoutScheduler,
                               Clock clock,
                               ObjectMapper mapper,
-                              boolean isConfigToInvokeRequired) {
+                              boolean isConfigToInvokeRequired,
+                              boolean isParallelReadOnlyGroupsEnabled) {
 
         this.hostExecutionPlan = hostExecutionPlan;
         this.defaultAccountExecutionPlan = defaultAccountExecutionPlan;
         this.hookCatalog = hookCatalog;
         this.timeoutFactory = timeoutFactory;
-        this.vertx = vertx;
+        this.timeoutScheduler = timeoutScheduler;
         this.clock = clock;
         this.mapper = mapper;
         this.isConfigToInvokeRequired = isConfigToInvokeRequired;
+        this.isParallelReadOnlyGroupsEnabled = isParallelReadOnlyGroupsEnabled;
         this.hostModuleExecution = hostModuleExecution;
     }
 
@@ -115,10 +124,11 @@ public class HookStageExecutor {
                                            Map<String, Boolean> hostModuleExecution,
                                            HookCatalog hookCatalog,
                                            TimeoutFactory timeoutFactory,
-                                           Vertx vertx,
+                                           HookTimeoutScheduler timeoutScheduler,
                                            Clock clock,
                                            JacksonMapper mapper,
-                                           boolean isConfigToInvokeRequired) {
+                                           boolean isConfigToInvokeRequired,
+                                           boolean isParallelReadOnlyGroupsEnabled) {
 
         Objects.requireNonNull(hookCatalog);
         Objects.requireNonNull(mapper);
@@ -129,10 +139,11 @@ public class HookStageExecutor {
                 hostModuleExecution,
                 hookCatalog,
                 Objects.requireNonNull(timeoutFactory),
-                Objects.requireNonNull(vertx),
+                Objects.requireNonNull(timeoutScheduler),
                 Objects.requireNonNull(clock),
                 mapper.mapper(),
-                isConfigToInvokeRequired);
+                isConfigToInvokeRequired,
+                isParallelReadOnlyGroupsEnabled);
     }
 
     private static ExecutionPlan parseAndValidateExecutionPlan(String executionPlan,
@@ -343,10 +354,33 @@ public class HookStageExecutor {
             String entity,
             HookExecutionContext context) {
 
-        return StageExecutor.<PAYLOAD, CONTEXT>create(vertx, clock)
+        return StageExecutor.<PAYLOAD, CONTEXT>create(timeoutScheduler, clock)
                 .withStage(stage)
                 .withEntity(entity)
-                .withHookExecutionContext(context);
+                .withHookExecutionContext(context)
+                .withReadOnlyHookPredicate(readOnlyHookPredicate(stage));
+    }
+
+    private <PAYLOAD, CONTEXT extends InvocationContext> Predicate<HookId> readOnlyHookPredicate(
+            StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
+
+        return isParallelReadOnlyGroupsEnabled
+                ? hookId -> isReadOnlyHook(hookId, stage)
+                : hookId -> false;
+    }
+
+    private <PAYLOAD, CONTEXT extends InvocationContext> boolean isReadOnlyHook(
+            HookId hookId,
+            StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
+
+        try {
+            return hookCatalog.hookById(hookId, stage).readOnly();
+        } catch (IllegalArgumentException e) {
+            // group is executed sequentially, where the absent hook is reported as failed
+            conditionalLogger.warn(
+                    "Hook %s is not considered read-only: %s".formatted(hookId, e.getMessage()), LOG_SAMPLING_RATE);
+            return false;
+        }
     }
 
     private <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> stageExecutor(
@@ -0,0 +1,18 @@
+package org.prebid.server.hooks.execution;
+
+/**
+ * Schedules timeout actions for hook invocations.
+ */
+public interface HookTimeoutScheduler {
+
+    /**
+     * Schedules the given action to be run after the given timeout in milliseconds. The action is run on the
+     * Vert.x context the scheduling was made from.
+     */
+    ScheduledTimeout schedule(long timeout, Runnable onTimeout);
+
+    interface ScheduledTimeout {
+
+        void cancel();
+    }
+}
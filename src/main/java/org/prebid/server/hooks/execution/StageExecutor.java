@@ -1,9 +1,9 @@
 package org.prebid.server.hooks.execution;
 
 import io.vertx.core.Future;
-import io.vertx.core.Vertx;
 import org.prebid.server.hooks.execution.model.ExecutionGroup;
 import org.prebid.server.hooks.execution.model.HookExecutionContext;
+import org.prebid.server.hooks.execution.model.HookId;
 import org.prebid.server.hooks.execution.model.HookStageExecutionResult;
 import org.prebid.server.hooks.execution.model.StageExecutionPlan;
 import org.prebid.server.hooks.execution.model.StageWithHookType;
@@ -13,11 +13,13 @@ import org.prebid.server.hooks.v1.InvocationContext;
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
 
-    private final Vertx vertx;
+    private final HookTimeoutScheduler timeoutScheduler;
     private final Clock clock;
 
     private StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage;
@@ -29,17 +31,18 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
     private HookExecutionContext hookExecutionContext;
     private boolean rejectAllowed;
     private Map<String, Boolean> modulesExecution;
+    private Predicate<HookId> readOnlyHookPredicate = hookId -> false;
 
-    private StageExecutor(Vertx vertx, Clock clock) {
-        this.vertx = vertx;
+    private StageExecutor(HookTimeoutScheduler timeoutScheduler, Clock clock) {
+        this.timeoutScheduler = timeoutScheduler;
         this.clock = clock;
     }
 
     public static <PAYLOAD, CONTEXT extends InvocationContext> StageExecutor<PAYLOAD, CONTEXT> create(
-            Vertx vertx,
+            HookTimeoutScheduler timeoutScheduler,
             Clock clock) {
 
-        return new StageExecutor<>(vertx, clock);
+        return new StageExecutor<>(timeoutScheduler, clock);
     }
 
     public StageExecutor<PAYLOAD, CONTEXT> withStage(StageWithHookType<? extends Hook<PAYLOAD, CONTEXT>> stage) {
@@ -89,29 +92,83 @@ class StageExecutor<PAYLOAD, CONTEXT extends InvocationContext> {
         return this;
     }
 
+    public StageExecutor<PAYLOAD, CONTEXT> withReadOnlyHookPredicate(Predicate<HookId> readOnlyHookPredicate) {
+        this.readOnlyHookPredicate = readOnlyHookPredicate;
+        return this;
+    }
+
     public Future<HookStageExecutionResult<PAYLOAD>> execute() {
+        final long startTime = clock.millis();
         Future<StageResult<PAYLOAD>> stageFuture = Future.succeededFuture(StageResult.of(initialPayload, entity));
 
-        for (final ExecutionGroup group : executionPlan.getGroups()) {
-            stageFuture = stageFuture.compose(stageResult ->
-                    executeGroup(group, stageResult.payload())
-                            .map(stageResult::applyGroupResult)
-                            .compose(StageExecutor::propagateRejection));
+        for (final List<ExecutionGroup> groups : groupsToExecuteTogether()) {
+            stageFuture = stageFuture.compose(stageResult -> executeGroups(groups, stageResult));
         }
 
         return stageFuture
                 .recover(StageExecutor::restoreResultFromRejection)
+                .map(stageResult -> stageResult.withExecutionTime(clock.millis() - startTime))
                 .map(this::toHookStageExecutionResult);
     }
 
-    private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group, PAYLOAD initialPayload) {
-        return GroupExecutor.<PAYLOAD, CONTEXT>create(vertx, clock, modulesExecution)
+    /**
+     * Splits execution plan groups into batches which could be executed at the same time: each consecutive run of
+     * groups consisting of read-only hooks only forms single batch, any other group forms a batch on its own.
+     */
+    private List<List<ExecutionGroup>> groupsToExecuteTogether() {
+        final List<List<ExecutionGroup>> batches = new ArrayList<>();
+
+        List<ExecutionGroup> readOnlyBatch = null;
+        for (final ExecutionGroup group : executionPlan.getGroups()) {
+            if (!isReadOnly(group)) {
+                readOnlyBatch = null;
+                batches.add(List.of(group));
+                continue;
+            }
+
+            if (readOnlyBatch == null) {
+                readOnlyBatch = new ArrayList<>();
+                batches.add(readOnlyBatch);
+            }
+            readOnlyBatch.add(group);
+        }
+
+        return batches;
+    }
+
+    private boolean isReadOnly(ExecutionGroup group) {
+        return group.getHookSequence().stream().allMatch(readOnlyHookPredicate);
+    }
+
+    private Future<StageResult<PAYLOAD>> executeGroups(List<ExecutionGroup> groups, StageResult<PAYLOAD> stageResult) {
+        // all groups in the batch are started with the same payload, since none of them is allowed to change it;
+        // rejection is disallowed for groups started together, so no group is left running after a rejected one
+        final boolean groupRejectAllowed = rejectAllowed && groups.size() == 1;
+        final List<Future<GroupResult<PAYLOAD>>> groupResults = groups.stream()
+                .map(group -> executeGroup(group, stageResult.payload(), groupRejectAllowed))
+                .toList();
+
+        Future<StageResult<PAYLOAD>> groupsFuture = Future.succeededFuture(stageResult);
+        for (final Future<GroupResult<PAYLOAD>> groupResult : groupResults) {
+            groupsFuture = groupsFuture.compose(result -> groupResult
+                    .map(result::applyGroupResult)
+                    .compose(StageExecutor::propagateRejection));
+        }
+
+        return groupsFuture;
+    }
+
+    private Future<GroupResult<PAYLOAD>> executeGroup(ExecutionGroup group,
+                                                     PAYLOAD initialPayload,
+                                                     boolean groupRejectAllowed) {
+
+        return GroupExecutor.<PAYLOAD, CONTEXT>create(timeoutScheduler, clock, modulesExecution)
                 .withGroup(group)
                 .withInitialPayload(initialPayload)
                 .withHookProvider(hookProvider)
                 .withInvocationContextProvider(invocationContextProvider)
                 .withHookExecutionContext(hookExecutionContext)
-                .withRejectAllowed(rejectAllowed)
+                .withRejectAllowed(groupRejectAllowed)
                 .execute();
     }
 
@@ -17,6 +17,8 @@ class StageResult<T> {
     private T payload;
     private final String entity;
 
+    private long executionTime;
+
     private final List<GroupResult<T>> groupResults = new ArrayList<>();
 
     private StageResult(T payload, String entity) {
@@ -38,8 +40,14 @@ class StageResult<T> {
         return this;
     }
 
+    public StageResult<T> withExecutionTime(long executionTime) {
+        this.executionTime = executionTime;
+
+        return this;
+    }
+
     public StageExecutionOutcome toStageExecutionOutcome() {
-        return StageExecutionOutcome.of(entity, groupExecutionOutcomes());
+        return StageExecutionOutcome.of(entity, groupExecutionOutcomes(), executionTime);
     }
 
     private List<GroupExecutionOutcome> groupExecutionOutcomes() {
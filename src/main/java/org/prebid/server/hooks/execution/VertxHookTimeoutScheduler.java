@@ -0,0 +1,23 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.Vertx;
+
+import java.util.Objects;
+
+/**
+ * Creates separate Vert.x timer for each scheduled timeout.
+ */
+public class VertxHookTimeoutScheduler implements HookTimeoutScheduler {
+
+    private final Vertx vertx;
+
+    public VertxHookTimeoutScheduler(Vertx vertx) {
+        this.vertx = Objects.requireNonNull(vertx);
+    }
+
+    @Override
+    public ScheduledTimeout schedule(long timeout, Runnable onTimeout) {
+        final long timerId = vertx.setTimer(timeout, id -> onTimeout.run());
+        return () -> vertx.cancelTimer(timerId);
+    }
+}
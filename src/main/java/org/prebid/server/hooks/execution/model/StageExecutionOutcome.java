@@ -10,4 +10,10 @@ public class StageExecutionOutcome {
     String entity;
 
     List<GroupExecutionOutcome> groups;
+
+    Long executionTime;
+
+    public static StageExecutionOutcome of(String entity, List<GroupExecutionOutcome> groups) {
+        return of(entity, groups, null);
+    }
 }
@@ -49,6 +49,11 @@ public class ABTestHook<PAYLOAD, CONTEXT extends InvocationContext> implements H
         return hook.code();
     }
 
+    @Override
+    public boolean readOnly() {
+        return hook.readOnly();
+    }
+
     @Override
     public Future<InvocationResult<PAYLOAD>> call(PAYLOAD payload, CONTEXT invocationContext) {
         if (!shouldInvokeHook) {
@@ -7,4 +7,15 @@ public interface Hook<PAYLOAD, CONTEXT extends InvocationContext> {
     Future<InvocationResult<PAYLOAD>> call(PAYLOAD payload, CONTEXT invocationContext);
 
     String code();
+
+    /**
+     * Declares that the hook never updates the payload it is called with and never rejects it.
+     * <p>
+     * Groups consisting of read-only hooks only are allowed to be executed in parallel with each other
+     * when parallel execution is enabled by the host. Rejection requested by such hook while executed in parallel
+     * is not supported, since remaining groups are already started by that time.
+     */
+    default boolean readOnly() {
+        return false;
+    }
 }
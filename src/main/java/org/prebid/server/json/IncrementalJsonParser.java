@@ -0,0 +1,85 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Tokenizes JSON incrementally while its bytes arrive, using Jackson non-blocking parser.
+ * <p>
+ * Tokens are collected into {@link TokenBuffer}, so only data binding is left to do after the last chunk,
+ * instead of scanning the whole document at once. Numbers are bound the same way as when decoding the document
+ * from string, so both ways produce equal values.
+ * <p>
+ * Parser is not thread-safe and is expected to be fed from a single Vert.x context.
+ */
+public class IncrementalJsonParser {
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer tokens;
+
+    private boolean failed;
+
+    IncrementalJsonParser(ObjectMapper mapper) {
+        try {
+            parser = mapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        tokens = new TokenBuffer(parser);
+    }
+
+    /**
+     * Tokenizes next chunk of the document. Malformed document is not reported here, since caller is expected
+     * to fall back to regular parsing, which produces proper error.
+     */
+    public void feed(byte[] chunk) {
+        if (failed) {
+            return;
+        }
+
+        try {
+            feeder.feedInput(chunk, 0, chunk.length);
+            copyAvailableTokens();
+        } catch (IOException e) {
+            failed = true;
+        }
+    }
+
+    /**
+     * Returns tokens of the whole document or null if document is empty or malformed.
+     */
+    public TokenBuffer finish() {
+        if (failed) {
+            return null;
+        }
+
+        final boolean completed;
+        try {
+            feeder.endOfInput();
+            copyAvailableTokens();
+            completed = parser.getParsingContext().inRoot();
+            parser.close();
+        } catch (IOException e) {
+            return null;
+        }
+
+        return completed && tokens.firstToken() != null ? tokens : null;
+    }
+
+    private void copyAvailableTokens() throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token != null && token != JsonToken.NOT_AVAILABLE) {
+            tokens.copyCurrentEvent(parser);
+            token = parser.nextToken();
+        }
+    }
+}
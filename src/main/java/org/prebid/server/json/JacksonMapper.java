@@ -1,8 +1,10 @@
 package org.prebid.server.json;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
@@ -80,6 +82,21 @@ public class JacksonMapper {
         }
     }
 
+    public <T> T decodeValue(TokenBuffer tokens, Class<T> clazz) throws DecodeException {
+        try (JsonParser parser = tokens.asParser(mapper)) {
+            return mapper.readValue(parser, clazz);
+        } catch (IOException e) {
+            throw new DecodeException(FAILED_TO_DECODE.formatted(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Creates parser to tokenize JSON document chunk by chunk.
+     */
+    public IncrementalJsonParser incrementalParser() {
+        return new IncrementalJsonParser(mapper);
+    }
+
     public <T extends FlexibleExtension, S> T fillExtension(T target, S source) {
         target.addProperties(mapper.convertValue(source, FlexibleExtension.PROPERTIES_TYPE_REF));
         return target;
@@ -45,6 +45,28 @@ public class JsonMerger {
         }
     }
 
+    /**
+     * Merges passed json node with json retrieved from stored data map by id, keeping the result as a tree,
+     * so several merges could be applied before converting it to a class only once.
+     * In case of any exception during merging, throws {@link InvalidRequestException} with reason message.
+     */
+    public JsonNode merge(JsonNode originJsonNode, String storedData, String id) {
+        final JsonNode storedRequestJsonNode;
+        try {
+            storedRequestJsonNode = mapper.mapper().readTree(storedData);
+        } catch (IOException e) {
+            throw new InvalidRequestException("Can't parse Json for stored request with id " + id);
+        }
+        try {
+            // Http request fields have higher priority and will override fields from stored requests
+            // in case they have different values
+            return JsonMergePatch.fromJson(originJsonNode).apply(storedRequestJsonNode);
+        } catch (JsonPatchException e) {
+            throw new InvalidRequestException(
+                    "Couldn't create merge patch from origin object node for id %s: %s".formatted(id, e.getMessage()));
+        }
+    }
+
     public <T> T merge(T originalObject, T mergingObject, Class<T> classToCast) {
         if (!ObjectUtils.allNotNull(originalObject, mergingObject)) {
             return ObjectUtils.defaultIfNull(originalObject, mergingObject);
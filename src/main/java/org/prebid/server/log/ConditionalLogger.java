@@ -10,7 +10,15 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-
+import java.util.function.Supplier;
+
+/**
+ * Logger wrapper that drops messages exceeding the given count, time or sampling limits.
+ * <p>
+ * The {@link Supplier} based methods build the message only when it is going to be logged, and the count and time
+ * limits of the keyed methods are tracked per given key instead of per message, so that callers with dynamic messages
+ * should pass a constant call-site key.
+ */
 public class ConditionalLogger {
 
     private static final int CACHE_MAXIMUM_SIZE = 10_000;
@@ -56,11 +64,25 @@ public class ConditionalLogger {
     }
 
     public void info(String message, double samplingRate) {
-        if (samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < samplingRate) {
+        if (isSampled(samplingRate)) {
             logger.warn(message);
         }
     }
 
+    public void infoWithKey(String key, Supplier<String> messageSupplier, int limit) {
+        log(key, limit, logger -> logger.info(messageSupplier.get()));
+    }
+
+    public void infoWithKey(String key, Supplier<String> messageSupplier, long duration, TimeUnit unit) {
+        log(key, duration, unit, logger -> logger.info(messageSupplier.get()));
+    }
+
+    public void info(Supplier<String> messageSupplier, double samplingRate) {
+        if (isSampled(samplingRate)) {
+            logger.info(messageSupplier.get());
+        }
+    }
+
     public void errorWithKey(String key, String message, int limit) {
         log(key, limit, logger -> logger.error(message));
     }
@@ -74,11 +96,25 @@ public class ConditionalLogger {
     }
 
     public void error(String message, double samplingRate) {
-        if (samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < samplingRate) {
+        if (isSampled(samplingRate)) {
             logger.error(message);
         }
     }
 
+    public void errorWithKey(String key, Supplier<String> messageSupplier, int limit) {
+        log(key, limit, logger -> logger.error(messageSupplier.get()));
+    }
+
+    public void errorWithKey(String key, Supplier<String> messageSupplier, long duration, TimeUnit unit) {
+        log(key, duration, unit, logger -> logger.error(messageSupplier.get()));
+    }
+
+    public void error(Supplier<String> messageSupplier, double samplingRate) {
+        if (isSampled(samplingRate)) {
+            logger.error(messageSupplier.get());
+        }
+    }
+
     public void debug(String message, int limit) {
         log(message, limit, logger -> logger.debug(message));
     }
@@ -88,11 +124,25 @@ public class ConditionalLogger {
     }
 
     public void debug(String message, double samplingRate) {
-        if (samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < samplingRate) {
+        if (isSampled(samplingRate)) {
             logger.debug(message);
         }
     }
 
+    public void debugWithKey(String key, Supplier<String> messageSupplier, int limit) {
+        log(key, limit, logger -> logger.debug(messageSupplier.get()));
+    }
+
+    public void debugWithKey(String key, Supplier<String> messageSupplier, long duration, TimeUnit unit) {
+        log(key, duration, unit, logger -> logger.debug(messageSupplier.get()));
+    }
+
+    public void debug(Supplier<String> messageSupplier, double samplingRate) {
+        if (isSampled(samplingRate)) {
+            logger.debug(messageSupplier.get());
+        }
+    }
+
     public void warn(String message, int limit) {
         log(message, limit, logger -> logger.warn(message));
     }
@@ -102,11 +152,29 @@ public class ConditionalLogger {
     }
 
     public void warn(String message, double samplingRate) {
-        if (samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < samplingRate) {
+        if (isSampled(samplingRate)) {
             logger.warn(message);
         }
     }
 
+    public void warnWithKey(String key, Supplier<String> messageSupplier, int limit) {
+        log(key, limit, logger -> logger.warn(messageSupplier.get()));
+    }
+
+    public void warnWithKey(String key, Supplier<String> messageSupplier, long duration, TimeUnit unit) {
+        log(key, duration, unit, logger -> logger.warn(messageSupplier.get()));
+    }
+
+    public void warn(Supplier<String> messageSupplier, double samplingRate) {
+        if (isSampled(samplingRate)) {
+            logger.warn(messageSupplier.get());
+        }
+    }
+
+    private static boolean isSampled(double samplingRate) {
+        return samplingRate >= 1.0d || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
     /**
      * Calls {@link Consumer} if the given limit for specified key is not exceeded.
      */
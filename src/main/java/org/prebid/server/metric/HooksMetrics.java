@@ -1,6 +1,7 @@
 package org.prebid.server.metric;
 
 import com.codahale.metrics.MetricRegistry;
+import org.prebid.server.hooks.execution.model.Stage;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -14,6 +15,8 @@ class HooksMetrics extends UpdatableMetrics {
     // thread-safe
     private final Function<String, ModuleMetrics> moduleMetricsCreator;
     private final Map<String, ModuleMetrics> moduleMetrics;
+    private final Function<Stage, StageMetrics> stageMetricsCreator;
+    private final Map<Stage, StageMetrics> stageMetrics;
 
     HooksMetrics(MetricRegistry metricRegistry, CounterType counterType, String prefix) {
         super(
@@ -24,6 +27,8 @@ class HooksMetrics extends UpdatableMetrics {
         moduleMetricsCreator = moduleCode ->
                 new ModuleMetrics(metricRegistry, counterType, createPrefix(prefix), moduleCode);
         moduleMetrics = new HashMap<>();
+        stageMetricsCreator = stage -> new StageMetrics(metricRegistry, counterType, createPrefix(prefix), stage);
+        stageMetrics = new HashMap<>();
     }
 
     HooksMetrics(MetricRegistry metricRegistry, CounterType counterType) {
@@ -35,6 +40,8 @@ class HooksMetrics extends UpdatableMetrics {
         moduleMetricsCreator = moduleCode ->
                 new ModuleMetrics(metricRegistry, counterType, createPrefix(), moduleCode);
         moduleMetrics = new HashMap<>();
+        stageMetricsCreator = stage -> new StageMetrics(metricRegistry, counterType, createPrefix(), stage);
+        stageMetrics = new HashMap<>();
     }
 
     private static Function<MetricName, String> nameCreator(String prefix) {
@@ -52,4 +59,8 @@ class HooksMetrics extends UpdatableMetrics {
     ModuleMetrics module(String moduleCode) {
         return moduleMetrics.computeIfAbsent(moduleCode, moduleMetricsCreator);
     }
+
+    StageMetrics stage(Stage stage) {
+        return stageMetrics.computeIfAbsent(stage, stageMetricsCreator);
+    }
 }
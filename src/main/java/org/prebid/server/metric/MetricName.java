@@ -14,8 +14,14 @@ public enum MetricName {
     opened,
     existing,
 
+    // blocking executor
+    queued,
+    active,
+    rejected,
+
     // database
     db_query_time,
+    db_batch_size,
 
     // geo location
     geolocation_requests,
@@ -29,12 +35,16 @@ public enum MetricName {
     app_requests,
     no_cookie_requests,
     request_time,
+    bid_validation_time,
+    ortb_types_normalized,
     prices,
     imps_requested,
     imps_banner,
     imps_video,
     imps_native,
     imps_audio,
+    early_completed_auctions,
+    early_completed_auctions_lost_revenue,
     bids_received,
     adm_bids_received,
     nurl_bids_received,
@@ -75,6 +85,8 @@ public enum MetricName {
     err,
     networkerr,
     buyeruid_scrubbed,
+    shed,
+    cold_connection,
 
     // bids validation
     warn,
@@ -137,6 +149,8 @@ public enum MetricName {
     update,
     hit,
     miss,
+    transferred_items,
+    transferred_bytes,
 
     // hooks
     call,
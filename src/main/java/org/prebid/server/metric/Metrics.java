@@ -18,6 +18,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -38,6 +40,7 @@ public class Metrics extends UpdatableMetrics {
     private final Function<String, PriceFloorMetrics> priceFloorsMetricsCreator;
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
+    private final Function<String, BlockingExecutorMetrics> blockingExecutorMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
@@ -54,6 +57,7 @@ public class Metrics extends UpdatableMetrics {
     private final CookieSyncMetrics cookieSyncMetrics;
     private final PrivacyMetrics privacyMetrics;
     private final Map<MetricName, CircuitBreakerMetrics> circuitBreakerMetrics;
+    private final Map<String, BlockingExecutorMetrics> blockingExecutorMetrics;
     private final CacheMetrics cacheMetrics;
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
@@ -78,6 +82,7 @@ public class Metrics extends UpdatableMetrics {
         priceFloorsMetricsCreator = moduleType -> new PriceFloorMetrics(
                 metricRegistry, counterType, moduleType);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
+        blockingExecutorMetricsCreator = name -> new BlockingExecutorMetrics(metricRegistry, counterType, name);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
 
         requestsMetrics = new RequestsMetrics(metricRegistry, counterType);
@@ -92,6 +97,7 @@ public class Metrics extends UpdatableMetrics {
         cookieSyncMetrics = new CookieSyncMetrics(metricRegistry, counterType);
         privacyMetrics = new PrivacyMetrics(metricRegistry, counterType);
         circuitBreakerMetrics = new HashMap<>();
+        blockingExecutorMetrics = new ConcurrentHashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
@@ -151,6 +157,10 @@ public class Metrics extends UpdatableMetrics {
         return circuitBreakerMetrics.computeIfAbsent(type, circuitBreakerMetricsCreator);
     }
 
+    BlockingExecutorMetrics forBlockingExecutor(String name) {
+        return blockingExecutorMetrics.computeIfAbsent(name, blockingExecutorMetricsCreator);
+    }
+
     CacheMetrics cache() {
         return cacheMetrics;
     }
@@ -227,6 +237,14 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(requestType, millis);
     }
 
+    public void updateOrtbTypesNormalizedMetric() {
+        incCounter(MetricName.ortb_types_normalized);
+    }
+
+    public void updateBidValidationTimeMetric(long nanos) {
+        updateTimer(MetricName.bid_validation_time, nanos, TimeUnit.NANOSECONDS);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -336,6 +354,18 @@ public class Metrics extends UpdatableMetrics {
         forAdapter(bidder).request().incCounter(errorMetric);
     }
 
+    public void updateAdapterColdConnectionMetric(String bidder) {
+        forAdapter(bidder).request().incCounter(MetricName.cold_connection);
+    }
+
+    public void updateEarlyCompletedAuctionMetric() {
+        incCounter(MetricName.early_completed_auctions);
+    }
+
+    public void updateEarlyCompletedAuctionLostRevenueMetric(long lostRevenueMicros) {
+        incCounter(MetricName.early_completed_auctions_lost_revenue, lostRevenueMicros);
+    }
+
     public void updateDisabledBidderMetric(Account account) {
         incCounter(MetricName.disabled_bidder);
         if (accountMetricsVerbosityResolver.forAccount(account)
@@ -553,6 +583,10 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(MetricName.db_query_time, millis);
     }
 
+    public void updateDatabaseBatchSizeMetric(int lookups) {
+        updateHistogram(MetricName.db_batch_size, lookups);
+    }
+
     public void createDatabaseCircuitBreakerGauge(BooleanSupplier stateSupplier) {
         forCircuitBreakerType(MetricName.db)
                 .createGauge(MetricName.opened, () -> stateSupplier.getAsBoolean() ? 1 : 0);
@@ -572,6 +606,20 @@ public class Metrics extends UpdatableMetrics {
         forCircuitBreakerType(MetricName.http).createGauge(MetricName.existing, numberSupplier);
     }
 
+    public void createBlockingExecutorGauges(String name, LongSupplier queuedSupplier, LongSupplier activeSupplier) {
+        final BlockingExecutorMetrics executorMetrics = forBlockingExecutor(name);
+        executorMetrics.createGauge(MetricName.queued, queuedSupplier);
+        executorMetrics.createGauge(MetricName.active, activeSupplier);
+    }
+
+    public void updateBlockingExecutorRejectedMetric(String name) {
+        forBlockingExecutor(name).incCounter(MetricName.rejected);
+    }
+
+    public void updateBlockingExecutorTimeoutMetric(String name) {
+        forBlockingExecutor(name).incCounter(MetricName.timeout);
+    }
+
     public void updateGeoLocationMetric(boolean successful) {
         incCounter(MetricName.geolocation_requests);
         if (successful) {
@@ -633,6 +681,17 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).updateTimer(MetricName.db_query_time, timeElapsed);
     }
 
+    public void updateSettingsCacheRefreshTransferMetrics(MetricName cacheType,
+                                                          MetricName refreshType,
+                                                          long transferredItems,
+                                                          long transferredBytes) {
+
+        final SettingsCacheMetrics.RefreshSettingsCacheMetrics refreshMetrics =
+                forSettingsCacheType(cacheType).forRefreshType(refreshType);
+        refreshMetrics.updateHistogram(MetricName.transferred_items, transferredItems);
+        refreshMetrics.updateHistogram(MetricName.transferred_bytes, transferredBytes);
+    }
+
     public void updateSettingsCacheRefreshErrorMetric(MetricName cacheType, MetricName refreshType) {
         forSettingsCacheType(cacheType).forRefreshType(refreshType).incCounter(MetricName.err);
     }
@@ -667,6 +726,10 @@ public class Metrics extends UpdatableMetrics {
 
     }
 
+    public void updateHooksStageDurationMetric(Stage stage, long executionTime) {
+        hooks().stage(stage).updateHistogram(MetricName.duration, executionTime);
+    }
+
     public void updateAccountHooksMetrics(
             Account account,
             String moduleCode,
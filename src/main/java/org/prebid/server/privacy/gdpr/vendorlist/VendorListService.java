@@ -327,7 +327,7 @@ public class VendorListService {
                 promise.complete(vendorListResult);
             } else {
                 conditionalLogger.error(
-                        "Could not create new vendor list for version %s.%s, file: %s, trace: %s".formatted(
+                        () -> "Could not create new vendor list for version %s.%s, file: %s, trace: %s".formatted(
                                 generationVersion, version, filepath, ExceptionUtils.getStackTrace(result.cause())),
                         logSamplingRate);
                 promise.fail(result.cause());
@@ -363,12 +363,12 @@ public class VendorListService {
 
         if (logger.isDebugEnabled()) {
             conditionalLogger.debug(
-                    "Error while obtaining TCF %s vendor list for version %s.%s, trace: %s"
+                    () -> "Error while obtaining TCF %s vendor list for version %s.%s, trace: %s"
                             .formatted(tcf, generationVersion, version, ExceptionUtils.getStackTrace(exception)),
                     logSamplingRate);
         } else {
             conditionalLogger.warn(
-                    "Error while obtaining TCF %s vendor list for version %s.%s: %s"
+                    () -> "Error while obtaining TCF %s vendor list for version %s.%s: %s"
                             .formatted(tcf, generationVersion, version, exception.getMessage()),
                     logSamplingRate);
         }
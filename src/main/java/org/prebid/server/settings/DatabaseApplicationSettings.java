@@ -1,6 +1,7 @@
 package org.prebid.server.settings;
 
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
@@ -10,9 +11,11 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.helper.DatabaseStoredDataResultMapper;
 import org.prebid.server.settings.helper.DatabaseStoredResponseResultMapper;
 import org.prebid.server.settings.helper.ParametrizedQueryHelper;
+import org.prebid.server.settings.helper.StoredDataQueryBatcher;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.settings.model.StoredResponseDataResult;
@@ -22,12 +25,12 @@ import org.prebid.server.vertx.database.DatabaseClient;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 
 /**
  * Implementation of {@link ApplicationSettings}.
@@ -36,6 +39,10 @@ import java.util.stream.IntStream;
  * <p>
  * In order to enable caching and reduce latency for read operations {@link DatabaseApplicationSettings}
  * can be decorated by {@link CachingApplicationSettings}.
+ * <p>
+ * Number of id placeholders in queries is rounded up to the power of two and the rest of parameters is padded
+ * with NULLs, so that queries for different number of ids reuse the same prepared statement.
+ * Stored data lookups of concurrent auctions can be merged into a single query by {@link StoredDataQueryBatcher}.
  */
 public class DatabaseApplicationSettings implements ApplicationSettings {
 
@@ -82,6 +89,8 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
      */
     private final String selectStoredResponsesQuery;
 
+    private final Map<String, StoredDataQueryBatcher> storedDataQueryBatchers;
+
     public DatabaseApplicationSettings(DatabaseClient databaseClient,
                                        JacksonMapper mapper,
                                        ParametrizedQueryHelper parametrizedQueryHelper,
@@ -90,6 +99,35 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
                                        String selectAmpStoredRequestsQuery,
                                        String selectStoredResponsesQuery) {
 
+        this(databaseClient,
+                mapper,
+                parametrizedQueryHelper,
+                selectAccountQuery,
+                selectStoredRequestsQuery,
+                selectAmpStoredRequestsQuery,
+                selectStoredResponsesQuery,
+                null,
+                null,
+                0L,
+                0);
+    }
+
+    /**
+     * Creates settings merging stored data lookups made within the given batch delay into a single query,
+     * no lookups are merged if batch delay is not positive.
+     */
+    public DatabaseApplicationSettings(DatabaseClient databaseClient,
+                                       JacksonMapper mapper,
+                                       ParametrizedQueryHelper parametrizedQueryHelper,
+                                       String selectAccountQuery,
+                                       String selectStoredRequestsQuery,
+                                       String selectAmpStoredRequestsQuery,
+                                       String selectStoredResponsesQuery,
+                                       Vertx vertx,
+                                       Metrics metrics,
+                                       long storedDataBatchDelayMs,
+                                       int storedDataBatchMaxIds) {
+
         this.databaseClient = Objects.requireNonNull(databaseClient);
         this.mapper = Objects.requireNonNull(mapper);
         this.parametrizedQueryHelper = Objects.requireNonNull(parametrizedQueryHelper);
@@ -98,6 +136,28 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         this.selectStoredRequestsQuery = Objects.requireNonNull(selectStoredRequestsQuery);
         this.selectAmpStoredRequestsQuery = Objects.requireNonNull(selectAmpStoredRequestsQuery);
         this.selectStoredResponsesQuery = Objects.requireNonNull(selectStoredResponsesQuery);
+
+        storedDataQueryBatchers = storedDataBatchDelayMs > 0
+                ? createStoredDataQueryBatchers(vertx, metrics, storedDataBatchDelayMs, storedDataBatchMaxIds)
+                : Collections.emptyMap();
+    }
+
+    private Map<String, StoredDataQueryBatcher> createStoredDataQueryBatchers(Vertx vertx,
+                                                                               Metrics metrics,
+                                                                               long batchDelayMs,
+                                                                               int batchMaxIds) {
+
+        final Map<String, StoredDataQueryBatcher> batchers = new HashMap<>();
+        for (String query : List.of(selectStoredRequestsQuery, selectAmpStoredRequestsQuery)) {
+            batchers.computeIfAbsent(query, key -> new StoredDataQueryBatcher(
+                    vertx,
+                    batchDelayMs,
+                    batchMaxIds,
+                    metrics,
+                    (accountId, requestIds, impIds, timeout) -> fetchStoredDataRows(key, requestIds, impIds, timeout)));
+        }
+
+        return Collections.unmodifiableMap(batchers);
     }
 
     /**
@@ -187,16 +247,18 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
+        final int responseIdsParametersCount = parametersCount(responseIds);
         final String queryResolvedWithParameters = parametrizedQueryHelper.replaceStoredResponseIdPlaceholders(
                 selectStoredResponsesQuery,
-                responseIds.size());
+                responseIdsParametersCount);
 
         final List<Object> idsQueryParameters = new ArrayList<>();
-        final int responseIdPlaceholderCount = StringUtils.countMatches(
+        addIdsParameters(
+                idsQueryParameters,
                 selectStoredResponsesQuery,
-                ParametrizedQueryHelper.RESPONSE_ID_PLACEHOLDER);
-        IntStream.rangeClosed(1, responseIdPlaceholderCount)
-                .forEach(i -> idsQueryParameters.addAll(responseIds));
+                ParametrizedQueryHelper.RESPONSE_ID_PLACEHOLDER,
+                responseIds,
+                responseIdsParametersCount);
 
         return databaseClient.executeQuery(queryResolvedWithParameters, idsQueryParameters,
                 result -> DatabaseStoredResponseResultMapper.map(result, responseIds), timeout);
@@ -212,23 +274,71 @@ public class DatabaseApplicationSettings implements ApplicationSettings {
         if (CollectionUtils.isEmpty(requestIds) && CollectionUtils.isEmpty(impIds)) {
             future = Future.succeededFuture(
                     StoredDataResult.of(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList()));
+        } else if (storedDataQueryBatchers.containsKey(query)) {
+            future = storedDataQueryBatchers.get(query).fetch(accountId, requestIds, impIds, timeout);
         } else {
-            final List<Object> idsQueryParameters = new ArrayList<>();
-            IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.REQUEST_ID_PLACEHOLDER))
-                    .forEach(i -> idsQueryParameters.addAll(requestIds));
-            IntStream.rangeClosed(1, StringUtils.countMatches(query, ParametrizedQueryHelper.IMP_ID_PLACEHOLDER))
-                    .forEach(i -> idsQueryParameters.addAll(impIds));
-
-            final String parametrizedQuery = parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(
-                    query,
-                    requestIds.size(),
-                    impIds.size());
-
-            future = databaseClient.executeQuery(parametrizedQuery, idsQueryParameters,
-                    result -> DatabaseStoredDataResultMapper.map(result, accountId, requestIds, impIds),
-                    timeout);
+            future = executeStoredDataQuery(query, requestIds, impIds, timeout,
+                    result -> DatabaseStoredDataResultMapper.map(result, accountId, requestIds, impIds));
         }
 
         return future;
     }
+
+    private Future<List<Row>> fetchStoredDataRows(String query, Set<String> requestIds, Set<String> impIds,
+                                                  Timeout timeout) {
+
+        return executeStoredDataQuery(query, requestIds, impIds, timeout, DatabaseApplicationSettings::toRows);
+    }
+
+    private <T> Future<T> executeStoredDataQuery(String query, Set<String> requestIds, Set<String> impIds,
+                                                 Timeout timeout, Function<RowSet<Row>, T> resultMapper) {
+
+        final int requestIdsParametersCount = parametersCount(requestIds);
+        final int impIdsParametersCount = parametersCount(impIds);
+
+        final List<Object> idsQueryParameters = new ArrayList<>();
+        addIdsParameters(idsQueryParameters, query, ParametrizedQueryHelper.REQUEST_ID_PLACEHOLDER,
+                requestIds, requestIdsParametersCount);
+        addIdsParameters(idsQueryParameters, query, ParametrizedQueryHelper.IMP_ID_PLACEHOLDER,
+                impIds, impIdsParametersCount);
+
+        final String parametrizedQuery = parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(
+                query,
+                requestIdsParametersCount,
+                impIdsParametersCount);
+
+        return databaseClient.executeQuery(parametrizedQuery, idsQueryParameters, resultMapper, timeout);
+    }
+
+    private static List<Row> toRows(RowSet<Row> rowSet) {
+        final List<Row> rows = new ArrayList<>();
+        if (rowSet != null) {
+            rowSet.forEach(rows::add);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns number of parameters for the given ids rounded up to the power of two.
+     */
+    private static int parametersCount(Set<String> ids) {
+        final int idsCount = CollectionUtils.size(ids);
+        return idsCount > 1 ? Integer.highestOneBit(idsCount - 1) << 1 : idsCount;
+    }
+
+    /**
+     * Adds ids padded with NULLs to the given number of parameters for each occurrence of placeholder in query.
+     */
+    private static void addIdsParameters(List<Object> parameters,
+                                         String query,
+                                         String placeholder,
+                                         Set<String> ids,
+                                         int parametersCount) {
+
+        final int placeholdersCount = StringUtils.countMatches(query, placeholder);
+        for (int i = 0; i < placeholdersCount; i++) {
+            parameters.addAll(ids);
+            parameters.addAll(Collections.nCopies(parametersCount - ids.size(), null));
+        }
+    }
 }
@@ -94,6 +94,16 @@ public class SettingsCache implements CacheNotificationListener {
         imps.forEach(impCache.keySet()::remove);
     }
 
+    @Override
+    public boolean containsRequest(String id) {
+        return requestCache.containsKey(id);
+    }
+
+    @Override
+    public boolean containsImp(String id) {
+        return impCache.containsKey(id);
+    }
+
     private static class StaticExpiry<K, V> implements Expiry<K, V> {
 
         private final long expireAfterNanos;
@@ -1,7 +1,6 @@
 package org.prebid.server.settings.helper;
 
 import io.vertx.sqlclient.Row;
-import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.log.Logger;
@@ -16,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,12 +46,31 @@ public class DatabaseStoredDataResultMapper {
                                        String accountId,
                                        Set<String> requestIds,
                                        Set<String> impIds) {
+
+        return map(rowSet != null ? rowSet.iterator() : null, accountId, requestIds, impIds);
+    }
+
+    /**
+     * Maps rows selected from {@link RowSet} to {@link StoredDataResult} the same way as
+     * {@link #map(RowSet, String, Set, Set)}.
+     */
+    public static StoredDataResult map(List<Row> rows,
+                                       String accountId,
+                                       Set<String> requestIds,
+                                       Set<String> impIds) {
+
+        return map(rows.iterator(), accountId, requestIds, impIds);
+    }
+
+    private static StoredDataResult map(Iterator<Row> rowIterator,
+                                        String accountId,
+                                        Set<String> requestIds,
+                                        Set<String> impIds) {
+
         final Map<String, String> storedIdToRequest;
         final Map<String, String> storedIdToImp;
         final List<String> errors = new ArrayList<>();
 
-        final RowIterator<Row> rowIterator = rowSet != null ? rowSet.iterator() : null;
-
         if (rowIterator == null || !rowIterator.hasNext()) {
             storedIdToRequest = Collections.emptyMap();
             storedIdToImp = Collections.emptyMap();
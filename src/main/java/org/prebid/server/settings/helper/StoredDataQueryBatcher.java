@@ -0,0 +1,122 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.sqlclient.Row;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredDataType;
+import org.prebid.server.util.ObjectUtil;
+import org.prebid.server.vertx.MicroBatcher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Merges stored data lookups of concurrent auctions into a single database query.
+ * <p>
+ * Lookups are accumulated by {@link MicroBatcher} until either the configured delay since the first lookup has passed
+ * or the number of requested ids reaches the configured maximum. Then all ids are fetched by one query, and the rows
+ * are split back so that every lookup gets the same {@link StoredDataResult} it would get from its own query.
+ */
+public class StoredDataQueryBatcher {
+
+    private final Metrics metrics;
+    private final StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<List<Row>>> rowsFetcher;
+
+    private final MicroBatcher<Lookup, StoredDataResult> batcher;
+
+    public StoredDataQueryBatcher(Vertx vertx,
+                                  long batchDelayMs,
+                                  int maxBatchIds,
+                                  Metrics metrics,
+                                  StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<List<Row>>>
+                                          rowsFetcher) {
+
+        this.metrics = Objects.requireNonNull(metrics);
+        this.rowsFetcher = Objects.requireNonNull(rowsFetcher);
+
+        batcher = new MicroBatcher<>(vertx, batchDelayMs, maxBatchIds, Lookup::idsCount, this::query);
+    }
+
+    public Future<StoredDataResult> fetch(String accountId, Set<String> requestIds, Set<String> impIds,
+                                          Timeout timeout) {
+
+        if (timeout.remaining() <= 0) {
+            return Future.failedFuture(timeoutException());
+        }
+
+        return batcher.submit(new Lookup(accountId, requestIds, impIds, timeout))
+                .timeout(timeout.remaining(), TimeUnit.MILLISECONDS)
+                .recover(StoredDataQueryBatcher::handleFailure);
+    }
+
+    private Future<List<StoredDataResult>> query(List<Lookup> lookups) {
+        metrics.updateDatabaseBatchSizeMetric(lookups.size());
+
+        final Set<String> requestIds = new HashSet<>();
+        final Set<String> impIds = new HashSet<>();
+        Timeout longestTimeout = null;
+        for (Lookup lookup : lookups) {
+            requestIds.addAll(lookup.requestIds());
+            impIds.addAll(lookup.impIds());
+            if (longestTimeout == null || lookup.timeout().remaining() > longestTimeout.remaining()) {
+                longestTimeout = lookup.timeout();
+            }
+        }
+
+        return rowsFetcher.apply(null, requestIds, impIds, longestTimeout)
+                .map(rows -> lookups.stream()
+                        .map(lookup -> DatabaseStoredDataResultMapper.map(
+                                rowsOf(lookup, rows),
+                                lookup.accountId(),
+                                lookup.requestIds(),
+                                lookup.impIds()))
+                        .toList());
+    }
+
+    /**
+     * Selects rows requested by the given lookup, keeps malformed rows to report them as the single query would do.
+     */
+    private static List<Row> rowsOf(Lookup lookup, List<Row> rows) {
+        final List<Row> lookupRows = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.size() < 4 || isRequestedBy(lookup, row)) {
+                lookupRows.add(row);
+            }
+        }
+        return lookupRows;
+    }
+
+    private static boolean isRequestedBy(Lookup lookup, Row row) {
+        final String id = ObjectUtil.getIfNotNull(row.getValue(1), Object::toString);
+        final String type = ObjectUtil.getIfNotNull(row.getValue(3), Object::toString);
+
+        return StoredDataType.request.name().equals(type)
+                ? lookup.requestIds().contains(id)
+                : StoredDataType.imp.name().equals(type) && lookup.impIds().contains(id);
+    }
+
+    private static Future<StoredDataResult> handleFailure(Throwable throwable) {
+        return Future.failedFuture(throwable instanceof TimeoutException
+                ? timeoutException()
+                : throwable);
+    }
+
+    private static TimeoutException timeoutException() {
+        return new TimeoutException("Timed out while executing SQL query");
+    }
+
+    private record Lookup(String accountId, Set<String> requestIds, Set<String> impIds, Timeout timeout) {
+
+        int idsCount() {
+            return requestIds.size() + impIds.size();
+        }
+    }
+}
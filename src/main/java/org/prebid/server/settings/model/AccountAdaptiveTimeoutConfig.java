@@ -0,0 +1,13 @@
+package org.prebid.server.settings.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.Value;
+
+@Value(staticConstructor = "of")
+public class AccountAdaptiveTimeoutConfig {
+
+    Boolean enabled;
+
+    @JsonAlias("shed-late-bidders")
+    Boolean shedLateBidders;
+}
@@ -40,6 +40,9 @@ public class AccountAuctionConfig {
 
     AccountEventsConfig events;
 
+    @JsonAlias("adaptive-timeout")
+    AccountAdaptiveTimeoutConfig adaptiveTimeout;
+
     @JsonAlias("price-floors")
     AccountPriceFloorsConfig priceFloors;
 
@@ -1,36 +1,53 @@
 package org.prebid.server.settings.service;
 
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import org.prebid.server.auction.model.Tuple2;
+import lombok.Value;
+import org.apache.commons.lang3.BooleanUtils;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.CacheNotificationListener;
-import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.vertx.Initializable;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /**
  * <p>
  * Service that periodically calls s3 for stored request updates.
  * If refreshRate is negative, then the data will never be refreshed.
  * <p>
- * Fetches all files from the specified folders/prefixes in s3 and downloads all files.
+ * Lists all files from the specified folders/prefixes in s3 and compares their ETag and last modified date
+ * with the ones seen on the previous refresh. Only new and changed files are downloaded and saved to cache,
+ * with at most maxConcurrentDownloads downloads in flight, and files that disappeared from s3 are invalidated
+ * in cache.
+ * <p>
+ * Only versions of the listed files are kept between refreshes, so unchanged files evicted from cache by its ttl
+ * or size limit are downloaded again to bring them back. A periodic refresh is skipped while the previous one
+ * is still in progress.
  */
 public class S3PeriodicRefreshService implements Initializable {
 
@@ -43,28 +60,40 @@ public class S3PeriodicRefreshService implements Initializable {
     private final String storedRequestsDirectory;
     private final String storedImpressionsDirectory;
     private final long refreshPeriod;
+    private final int maxConcurrentDownloads;
     private final CacheNotificationListener cacheNotificationListener;
     private final MetricName cacheType;
     private final Clock clock;
     private final Metrics metrics;
     private final Vertx vertx;
 
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+
+    private Map<String, S3ObjectVersion> storedRequestsVersions = Collections.emptyMap();
+    private Map<String, S3ObjectVersion> storedImpressionsVersions = Collections.emptyMap();
+
     public S3PeriodicRefreshService(S3AsyncClient asyncClient,
                                     String bucket,
                                     String storedRequestsDirectory,
                                     String storedImpressionsDirectory,
                                     long refreshPeriod,
+                                    int maxConcurrentDownloads,
                                     CacheNotificationListener cacheNotificationListener,
                                     MetricName cacheType,
                                     Clock clock,
                                     Metrics metrics,
                                     Vertx vertx) {
 
+        if (maxConcurrentDownloads <= 0) {
+            throw new IllegalArgumentException("maxConcurrentDownloads must be positive");
+        }
+
         this.asyncClient = Objects.requireNonNull(asyncClient);
         this.bucket = Objects.requireNonNull(bucket);
         this.storedRequestsDirectory = Objects.requireNonNull(storedRequestsDirectory);
         this.storedImpressionsDirectory = Objects.requireNonNull(storedImpressionsDirectory);
         this.refreshPeriod = refreshPeriod;
+        this.maxConcurrentDownloads = maxConcurrentDownloads;
         this.cacheNotificationListener = Objects.requireNonNull(cacheNotificationListener);
         this.cacheType = Objects.requireNonNull(cacheType);
         this.clock = Objects.requireNonNull(clock);
@@ -74,56 +103,149 @@ public class S3PeriodicRefreshService implements Initializable {
 
     @Override
     public void initialize(Promise<Void> initializePromise) {
-        fetchStoredDataResult(clock.millis(), MetricName.initialize)
-                .<Void>mapEmpty()
+        refresh(clock.millis(), MetricName.initialize)
                 .onComplete(initializePromise);
 
         if (refreshPeriod > 0) {
             logger.info("Starting s3 periodic refresh for " + cacheType + " every " + refreshPeriod + " s");
-            vertx.setPeriodic(refreshPeriod, ignored -> fetchStoredDataResult(clock.millis(), MetricName.update));
+            vertx.setPeriodic(refreshPeriod, ignored -> refresh(clock.millis(), MetricName.update));
         }
     }
 
-    private Future<StoredDataResult> fetchStoredDataResult(long startTime, MetricName metricName) {
+    private Future<Void> refresh(long startTime, MetricName refreshType) {
+        if (!refreshInProgress.compareAndSet(false, true)) {
+            logger.warn("Skipping s3 refresh for " + cacheType + ": previous one is still in progress");
+            return Future.succeededFuture();
+        }
+
+        // all callbacks of a single refresh run on the same context, so its state needs no synchronization
+        final Context context = vertx.getOrCreateContext();
+
         return Future.all(
-                        getFileContentsForDirectory(storedRequestsDirectory),
-                        getFileContentsForDirectory(storedImpressionsDirectory))
-                .map(CompositeFuture::<Map<String, String>>list)
-                .map(results -> StoredDataResult.of(results.getFirst(), results.get(1), Collections.emptyList()))
-                .onSuccess(storedDataResult -> handleResult(storedDataResult, startTime, metricName))
-                .onFailure(exception -> handleFailure(exception, startTime, metricName));
+                        fetchDirectoryChanges(
+                                storedRequestsDirectory,
+                                storedRequestsVersions,
+                                cacheNotificationListener::containsRequest,
+                                context),
+                        fetchDirectoryChanges(
+                                storedImpressionsDirectory,
+                                storedImpressionsVersions,
+                                cacheNotificationListener::containsImp,
+                                context))
+                .map(CompositeFuture::<DirectoryChanges>list)
+                .onSuccess(changes -> handleResult(changes.getFirst(), changes.get(1), startTime, refreshType))
+                .onFailure(exception -> handleFailure(exception, startTime, refreshType))
+                .onComplete(ignored -> refreshInProgress.set(false))
+                .mapEmpty();
     }
 
-    private Future<Map<String, String>> getFileContentsForDirectory(String directory) {
-        return listFiles(directory)
-                .map(files -> files.stream().map(this::downloadFile).toList())
-                .compose(Future::all)
-                .map(CompositeFuture::<Tuple2<String, String>>list)
-                .map(fileNameToContent -> fileNameToContent.stream()
-                        .collect(Collectors.toMap(
-                                entry -> stripFileName(directory, entry.getLeft()),
-                                Tuple2::getRight)));
+    private Future<DirectoryChanges> fetchDirectoryChanges(String directory,
+                                                           Map<String, S3ObjectVersion> knownVersions,
+                                                           Predicate<String> isCached,
+                                                           Context context) {
+
+        return listFiles(directory, null, new ArrayList<>(), context)
+                .compose(files -> fetchChanges(directory, files, knownVersions, isCached, context));
     }
 
-    private Future<List<String>> listFiles(String prefix) {
+    private Future<List<S3Object>> listFiles(String prefix, String marker, List<S3Object> files, Context context) {
         final ListObjectsRequest listObjectsRequest = ListObjectsRequest.builder()
                 .bucket(bucket)
                 .prefix(prefix)
+                .marker(marker)
                 .build();
 
-        return Future.fromCompletionStage(asyncClient.listObjects(listObjectsRequest), vertx.getOrCreateContext())
-                .map(response -> response.contents().stream()
-                        .map(S3Object::key)
-                        .collect(Collectors.toList()));
+        return Future.fromCompletionStage(asyncClient.listObjects(listObjectsRequest), context)
+                .compose(response -> {
+                    files.addAll(response.contents());
+                    return BooleanUtils.isTrue(response.isTruncated()) && !response.contents().isEmpty()
+                            ? listFiles(prefix, nextMarker(response), files, context)
+                            : Future.succeededFuture(files);
+                });
+    }
+
+    private static String nextMarker(ListObjectsResponse response) {
+        return response.nextMarker() != null ? response.nextMarker() : response.contents().getLast().key();
     }
 
-    private Future<Tuple2<String, String>> downloadFile(String key) {
+    private Future<DirectoryChanges> fetchChanges(String directory,
+                                                  List<S3Object> files,
+                                                  Map<String, S3ObjectVersion> knownVersions,
+                                                  Predicate<String> isCached,
+                                                  Context context) {
+
+        final Map<String, S3ObjectVersion> versions = new HashMap<>(files.size() * 2);
+        final List<String> changedKeys = new ArrayList<>();
+        for (final S3Object file : files) {
+            final S3ObjectVersion version = S3ObjectVersion.of(file.eTag(), file.lastModified());
+            versions.put(file.key(), version);
+
+            if (!version.isKnown()
+                    || !version.equals(knownVersions.get(file.key()))
+                    || !isCached.test(stripFileName(directory, file.key()))) {
+
+                changedKeys.add(file.key());
+            }
+        }
+
+        final List<String> deletedIds = knownVersions.keySet().stream()
+                .filter(key -> !versions.containsKey(key))
+                .map(key -> stripFileName(directory, key))
+                .toList();
+
+        final Map<String, ResponseBytes<GetObjectResponse>> downloaded = new HashMap<>();
+        return downloadFiles(changedKeys, downloaded, context)
+                .map(ignored -> toDirectoryChanges(directory, versions, downloaded, deletedIds));
+    }
+
+    /**
+     * Downloads files keeping at most maxConcurrentDownloads requests in flight: each of the workers
+     * takes the next key once its previous download completes.
+     */
+    private Future<Void> downloadFiles(List<String> keys,
+                                       Map<String, ResponseBytes<GetObjectResponse>> downloaded,
+                                       Context context) {
+
+        final Iterator<String> keysIterator = keys.iterator();
+        final List<Future<Void>> workers = IntStream.range(0, Math.min(keys.size(), maxConcurrentDownloads))
+                .mapToObj(ignored -> downloadNext(keysIterator, downloaded, context))
+                .toList();
+
+        return Future.all(workers).mapEmpty();
+    }
+
+    private Future<Void> downloadNext(Iterator<String> keys,
+                                      Map<String, ResponseBytes<GetObjectResponse>> downloaded,
+                                      Context context) {
+
+        if (!keys.hasNext()) {
+            return Future.succeededFuture();
+        }
+
+        final String key = keys.next();
         final GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(key).build();
 
-        return Future.fromCompletionStage(
-                        asyncClient.getObject(request, AsyncResponseTransformer.toBytes()),
-                        vertx.getOrCreateContext())
-                .map(content -> Tuple2.of(key, content.asUtf8String()));
+        return Future.fromCompletionStage(asyncClient.getObject(request, AsyncResponseTransformer.toBytes()), context)
+                .compose(content -> {
+                    downloaded.put(key, content);
+                    return downloadNext(keys, downloaded, context);
+                });
+    }
+
+    private static DirectoryChanges toDirectoryChanges(String directory,
+                                                       Map<String, S3ObjectVersion> versions,
+                                                       Map<String, ResponseBytes<GetObjectResponse>> downloaded,
+                                                       List<String> deletedIds) {
+
+        final Map<String, String> contents = new HashMap<>(downloaded.size() * 2);
+        long transferredBytes = 0;
+        for (final Map.Entry<String, ResponseBytes<GetObjectResponse>> entry : downloaded.entrySet()) {
+            final ResponseBytes<GetObjectResponse> content = entry.getValue();
+            contents.put(stripFileName(directory, entry.getKey()), content.asUtf8String());
+            transferredBytes += content.asByteArrayUnsafe().length;
+        }
+
+        return DirectoryChanges.of(contents, deletedIds, versions, downloaded.size(), transferredBytes);
     }
 
     private static String stripFileName(String directory, String name) {
@@ -132,9 +254,31 @@ public class S3PeriodicRefreshService implements Initializable {
                 .replace(JSON_SUFFIX, "");
     }
 
-    private void handleResult(StoredDataResult storedDataResult, long startTime, MetricName refreshType) {
-        cacheNotificationListener.save(storedDataResult.getStoredIdToRequest(), storedDataResult.getStoredIdToImp());
+    private void handleResult(DirectoryChanges requestsChanges,
+                              DirectoryChanges impsChanges,
+                              long startTime,
+                              MetricName refreshType) {
+
+        final List<String> invalidatedRequests = requestsChanges.getDeleted();
+        final List<String> invalidatedImps = impsChanges.getDeleted();
+        if (!invalidatedRequests.isEmpty() || !invalidatedImps.isEmpty()) {
+            cacheNotificationListener.invalidate(invalidatedRequests, invalidatedImps);
+        }
+        final Map<String, String> changedRequests = requestsChanges.getContents();
+        final Map<String, String> changedImps = impsChanges.getContents();
+        if (!changedRequests.isEmpty() || !changedImps.isEmpty()) {
+            cacheNotificationListener.save(changedRequests, changedImps);
+        }
+
+        storedRequestsVersions = requestsChanges.getVersions();
+        storedImpressionsVersions = impsChanges.getVersions();
+
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
+        metrics.updateSettingsCacheRefreshTransferMetrics(
+                cacheType,
+                refreshType,
+                requestsChanges.getTransferredItems() + impsChanges.getTransferredItems(),
+                requestsChanges.getTransferredBytes() + impsChanges.getTransferredBytes());
     }
 
     private void handleFailure(Throwable exception, long startTime, MetricName refreshType) {
@@ -143,4 +287,33 @@ public class S3PeriodicRefreshService implements Initializable {
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
         metrics.updateSettingsCacheRefreshErrorMetric(cacheType, refreshType);
     }
+
+    @Value(staticConstructor = "of")
+    private static class S3ObjectVersion {
+
+        String eTag;
+
+        Instant lastModified;
+
+        /**
+         * Objects listed without both ETag and last modified date can't be compared and are always downloaded.
+         */
+        boolean isKnown() {
+            return eTag != null || lastModified != null;
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class DirectoryChanges {
+
+        Map<String, String> contents;
+
+        List<String> deleted;
+
+        Map<String, S3ObjectVersion> versions;
+
+        int transferredItems;
+
+        long transferredBytes;
+    }
 }
@@ -15,6 +15,7 @@ import org.prebid.server.geolocation.MaxMindGeoLocationService;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
 import org.prebid.server.spring.config.model.FileSyncerProperties;
+import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -59,29 +60,35 @@ public class GeoLocationConfiguration {
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "false",
                 matchIfMissing = true)
         GeoLocationService basicGeoLocationService(FileSyncerProperties fileSyncerProperties,
-                                                   Vertx vertx) {
+                                                   Vertx vertx,
+                                                   ContextRunner contextRunner) {
 
-            return createGeoLocationService(fileSyncerProperties, vertx);
+            return createGeoLocationService(fileSyncerProperties, vertx, contextRunner);
         }
 
         @Bean
         @ConditionalOnProperty(prefix = "geolocation.circuit-breaker", name = "enabled", havingValue = "true")
         CircuitBreakerSecuredGeoLocationService circuitBreakerSecuredGeoLocationService(
                 Vertx vertx,
+                ContextRunner contextRunner,
                 Metrics metrics,
                 FileSyncerProperties fileSyncerProperties,
                 @Qualifier("maxMindCircuitBreakerProperties") CircuitBreakerProperties circuitBreakerProperties,
                 Clock clock) {
 
             return new CircuitBreakerSecuredGeoLocationService(vertx,
-                    createGeoLocationService(fileSyncerProperties, vertx), metrics,
+                    createGeoLocationService(fileSyncerProperties, vertx, contextRunner), metrics,
                     circuitBreakerProperties.getOpeningThreshold(), circuitBreakerProperties.getOpeningIntervalMs(),
                     circuitBreakerProperties.getClosingIntervalMs(), clock);
         }
 
-        private GeoLocationService createGeoLocationService(FileSyncerProperties properties, Vertx vertx) {
+        private GeoLocationService createGeoLocationService(FileSyncerProperties properties,
+                                                            Vertx vertx,
+                                                            ContextRunner contextRunner) {
+
             final MaxMindGeoLocationService maxMindGeoLocationService = new MaxMindGeoLocationService();
-            final FileSyncer fileSyncer = FileUtil.fileSyncerFor(maxMindGeoLocationService, properties, vertx);
+            final FileSyncer fileSyncer = FileUtil.fileSyncerFor(
+                    maxMindGeoLocationService, properties, vertx, contextRunner);
             fileSyncer.sync();
             return maxMindGeoLocationService;
         }
@@ -4,12 +4,16 @@ import io.vertx.core.Vertx;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.hooks.execution.HashedWheelHookTimeoutScheduler;
 import org.prebid.server.hooks.execution.HookCatalog;
 import org.prebid.server.hooks.execution.HookStageExecutor;
+import org.prebid.server.hooks.execution.HookTimeoutScheduler;
+import org.prebid.server.hooks.execution.VertxHookTimeoutScheduler;
 import org.prebid.server.hooks.v1.Module;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.settings.model.HooksAdminConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -28,11 +32,27 @@ public class HooksConfiguration {
         return new HookCatalog(modules);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "hooks.timeout-wheel", name = "enabled", havingValue = "false",
+            matchIfMissing = true)
+    HookTimeoutScheduler vertxHookTimeoutScheduler(Vertx vertx) {
+        return new VertxHookTimeoutScheduler(vertx);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "hooks.timeout-wheel", name = "enabled", havingValue = "true")
+    HookTimeoutScheduler hashedWheelHookTimeoutScheduler(
+            @Value("${hooks.timeout-wheel.tick-duration-ms:10}") long tickDurationMs,
+            @Value("${hooks.timeout-wheel.ticks-per-wheel:512}") int ticksPerWheel) {
+
+        return new HashedWheelHookTimeoutScheduler(tickDurationMs, ticksPerWheel);
+    }
+
     @Bean
     HookStageExecutor hookStageExecutor(HooksConfigurationProperties hooksConfiguration,
                                         HookCatalog hookCatalog,
                                         TimeoutFactory timeoutFactory,
-                                        Vertx vertx,
+                                        HookTimeoutScheduler hookTimeoutScheduler,
                                         Clock clock,
                                         JacksonMapper mapper,
                                         @Value("${settings.modules.require-config-to-invoke:false}")
@@ -46,10 +66,11 @@ public class HooksConfiguration {
                         .orElseGet(Collections::emptyMap),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                hookTimeoutScheduler,
                 clock,
                 mapper,
-                isConfigToInvokeRequired);
+                isConfigToInvokeRequired,
+                hooksConfiguration.isParallelReadOnlyGroups());
     }
 
     @Bean
@@ -68,5 +89,7 @@ public class HooksConfiguration {
         String defaultAccountExecutionPlan;
 
         HooksAdminConfig admin;
+
+        boolean parallelReadOnlyGroups;
     }
 }
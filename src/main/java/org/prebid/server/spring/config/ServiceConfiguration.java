@@ -6,11 +6,14 @@ import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.net.JksOptions;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.activity.ActivitiesConfigResolver;
 import org.prebid.server.activity.infrastructure.creator.ActivityInfrastructureCreator;
+import org.prebid.server.auction.AdaptiveBidderTimeoutResolver;
 import org.prebid.server.auction.AmpResponsePostProcessor;
+import org.prebid.server.auction.AuctionCompletionPolicy;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
 import org.prebid.server.auction.BidsAdjuster;
@@ -28,6 +31,7 @@ import org.prebid.server.auction.SecBrowsingTopicsResolver;
 import org.prebid.server.auction.SkippedAuctionService;
 import org.prebid.server.auction.StoredRequestProcessor;
 import org.prebid.server.auction.StoredResponseProcessor;
+import org.prebid.server.auction.StoredResponseStore;
 import org.prebid.server.auction.SupplyChainResolver;
 import org.prebid.server.auction.TimeoutResolver;
 import org.prebid.server.auction.UidUpdater;
@@ -112,6 +116,7 @@ import org.prebid.server.spring.config.model.CacheDefaultTtlProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
+import org.prebid.server.spring.config.model.HttpClientWarmUpProperties;
 import org.prebid.server.util.VersionInfo;
 import org.prebid.server.util.system.CpuLoadAverageStats;
 import org.prebid.server.validation.BidderParamValidator;
@@ -124,6 +129,7 @@ import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.httpclient.BasicHttpClient;
 import org.prebid.server.vertx.httpclient.CircuitBreakerSecuredHttpClient;
 import org.prebid.server.vertx.httpclient.HttpClient;
+import org.prebid.server.vertx.httpclient.WarmingHttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -140,8 +146,11 @@ import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -264,8 +273,8 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    OrtbTypesResolver ortbTypesResolver(JacksonMapper jacksonMapper, JsonMerger jsonMerger) {
-        return new OrtbTypesResolver(logSamplingRate, jacksonMapper, jsonMerger);
+    OrtbTypesResolver ortbTypesResolver(JacksonMapper jacksonMapper, JsonMerger jsonMerger, Metrics metrics) {
+        return new OrtbTypesResolver(logSamplingRate, jacksonMapper, jsonMerger, metrics);
     }
 
     @Bean
@@ -285,6 +294,56 @@ public class ServiceConfiguration {
         return new TimeoutResolver(minTimeout, maxTimeout, upstreamResponseTime);
     }
 
+    @Bean
+    AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver(
+            @Value("${auction.adaptive-timeout.enabled:false}") boolean enabled,
+            @Value("${auction.adaptive-timeout.latency-percentile:0.95}") double latencyPercentile,
+            @Value("${auction.adaptive-timeout.latency-multiplier:1.5}") double latencyMultiplier,
+            @Value("${auction.adaptive-timeout.min-timeout-ms:50}") long minTimeout,
+            @Value("${auction.adaptive-timeout.min-samples:100}") long minSamples,
+            @Value("${auction.adaptive-timeout.shed-late-bidders:false}") boolean shedLateBidders,
+            @Value("${auction.adaptive-timeout.shed-timeout-rate:0.5}") double shedTimeoutRate,
+            @Value("${auction.adaptive-timeout.shed-max-bid-rate:0.05}") double shedMaxBidRate,
+            @Value("${auction.adaptive-timeout.shed-probe-rate:0.1}") double shedProbeRate,
+            Metrics metrics,
+            Clock clock) {
+
+        return new AdaptiveBidderTimeoutResolver(
+                enabled,
+                latencyPercentile,
+                latencyMultiplier,
+                minTimeout,
+                minSamples,
+                shedLateBidders,
+                shedTimeoutRate,
+                shedMaxBidRate,
+                shedProbeRate,
+                metrics,
+                clock);
+    }
+
+    @Bean
+    AuctionCompletionPolicy auctionCompletionPolicy(
+            @Value("${auction.early-completion.enabled:false}") boolean enabled,
+            @Value("${auction.early-completion.deal-bids-complete-imps:false}") boolean dealBidsCompleteImps,
+            @Value("${auction.early-completion.max-pending-bid-rate:0}") double maxPendingBidRate,
+            @Value("${auction.early-completion.cancel-pending-requests:true}") boolean cancelPendingRequests,
+            AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver,
+            CurrencyConversionService currencyConversionService,
+            Metrics metrics,
+            Clock clock) {
+
+        return new AuctionCompletionPolicy(
+                enabled,
+                dealBidsCompleteImps,
+                maxPendingBidRate,
+                cancelPendingRequests,
+                adaptiveBidderTimeoutResolver,
+                currencyConversionService,
+                metrics,
+                clock);
+    }
+
     @Bean
     DebugResolver debugResolver(@Value("${debug.override-token:#{null}}") String debugOverrideToken,
                                 BidderCatalog bidderCatalog) {
@@ -585,8 +644,17 @@ public class ServiceConfiguration {
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "false",
             matchIfMissing = true)
-    BasicHttpClient basicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
-        return createBasicHttpClient(vertx, httpClientProperties);
+    HttpClient basicHttpClient(
+            Vertx vertx,
+            HttpClientProperties httpClientProperties,
+            @Autowired(required = false) HttpClientWarmUpProperties warmUpProperties,
+            BidderCatalog bidderCatalog,
+            Metrics metrics,
+            JacksonMapper mapper,
+            Clock clock) {
+
+        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties, mapper);
+        return withWarmUp(vertx, httpClient, warmUpProperties, bidderCatalog, metrics, clock);
     }
 
     @Bean
@@ -599,17 +667,20 @@ public class ServiceConfiguration {
     @Bean
     @Scope(scopeName = VertxContextScope.NAME, proxyMode = ScopedProxyMode.INTERFACES)
     @ConditionalOnProperty(prefix = "http-client.circuit-breaker", name = "enabled", havingValue = "true")
-    CircuitBreakerSecuredHttpClient circuitBreakerSecuredHttpClient(
+    HttpClient circuitBreakerSecuredHttpClient(
             Vertx vertx,
             Metrics metrics,
             HttpClientProperties httpClientProperties,
             @Qualifier("httpClientCircuitBreakerProperties")
             HttpClientCircuitBreakerProperties circuitBreakerProperties,
+            @Autowired(required = false) HttpClientWarmUpProperties warmUpProperties,
+            BidderCatalog bidderCatalog,
+            JacksonMapper mapper,
             Clock clock) {
 
-        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties);
+        final HttpClient httpClient = createBasicHttpClient(vertx, httpClientProperties, mapper);
 
-        return new CircuitBreakerSecuredHttpClient(
+        final HttpClient circuitBreakerSecuredHttpClient = new CircuitBreakerSecuredHttpClient(
                 vertx,
                 httpClient,
                 metrics,
@@ -618,9 +689,52 @@ public class ServiceConfiguration {
                 circuitBreakerProperties.getClosingIntervalMs(),
                 circuitBreakerProperties.getIdleExpireHours(),
                 clock);
+
+        return withWarmUp(vertx, circuitBreakerSecuredHttpClient, warmUpProperties, bidderCatalog, metrics, clock);
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "http-client.warm-up")
+    @ConditionalOnProperty(prefix = "http-client.warm-up", name = "enabled", havingValue = "true")
+    HttpClientWarmUpProperties httpClientWarmUpProperties() {
+        return new HttpClientWarmUpProperties();
     }
 
-    private static BasicHttpClient createBasicHttpClient(Vertx vertx, HttpClientProperties httpClientProperties) {
+    private static HttpClient withWarmUp(Vertx vertx,
+                                         HttpClient httpClient,
+                                         HttpClientWarmUpProperties warmUpProperties,
+                                         BidderCatalog bidderCatalog,
+                                         Metrics metrics,
+                                         Clock clock) {
+
+        if (warmUpProperties == null) {
+            return httpClient;
+        }
+
+        // bidders go first, so cold connections to a host shared with aliases are attributed to the bidder
+        final Map<String, String> bidderToEndpoint = new LinkedHashMap<>();
+        bidderCatalog.names().stream()
+                .filter(bidderCatalog::isActive)
+                .sorted(Comparator.comparing((String bidder) -> bidderCatalog.isAlias(bidder))
+                        .thenComparing(Comparator.naturalOrder()))
+                .forEach(bidder -> bidderToEndpoint.put(
+                        bidder, bidderCatalog.bidderInfoByName(bidder).getEndpoint()));
+
+        return new WarmingHttpClient(
+                vertx,
+                httpClient,
+                bidderToEndpoint,
+                warmUpProperties.getMinConnections(),
+                warmUpProperties.getPeriodMs(),
+                warmUpProperties.getTimeoutMs(),
+                metrics,
+                clock);
+    }
+
+    private static BasicHttpClient createBasicHttpClient(Vertx vertx,
+                                                         HttpClientProperties httpClientProperties,
+                                                         JacksonMapper mapper) {
+
         final HttpClientOptions options = new HttpClientOptions()
                 .setMaxPoolSize(httpClientProperties.getMaxPoolSize())
                 .setIdleTimeoutUnit(TimeUnit.MILLISECONDS)
@@ -642,6 +756,14 @@ public class ServiceConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
+        if (BooleanUtils.isTrue(httpClientProperties.getIncrementalJsonParsing())) {
+            return new BasicHttpClient(
+                    vertx,
+                    vertx.createHttpClient(options),
+                    mapper,
+                    ObjectUtils.defaultIfNull(httpClientProperties.getIncrementalJsonParsingMinSizeBytes(), 0L));
+        }
+
         return new BasicHttpClient(vertx, vertx.createHttpClient(options));
     }
 
@@ -663,6 +785,7 @@ public class ServiceConfiguration {
             @Value("${host-cookie.ttl-days}") Integer ttlDays,
             @Value("${host-cookie.max-cookie-size-bytes}") Integer maxCookieSizeBytes,
             @Value("${setuid.number-of-uid-cookies:1}") int numberOfUidCookies,
+            @Value("${host-cookie.binary-format-enabled:false}") boolean binaryFormatEnabled,
             PrioritizedCoopSyncProvider prioritizedCoopSyncProvider,
             Metrics metrics,
             JacksonMapper mapper) {
@@ -676,6 +799,7 @@ public class ServiceConfiguration {
                 ttlDays,
                 maxCookieSizeBytes,
                 numberOfUidCookies,
+                binaryFormatEnabled,
                 prioritizedCoopSyncProvider,
                 metrics,
                 mapper);
@@ -864,6 +988,8 @@ public class ServiceConfiguration {
             UidUpdater uidUpdater,
             TimeoutResolver timeoutResolver,
             TimeoutFactory timeoutFactory,
+            AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver,
+            AuctionCompletionPolicy auctionCompletionPolicy,
             BidRequestOrtbVersionConversionManager bidRequestOrtbVersionConversionManager,
             HttpBidderRequester httpBidderRequester,
             BidResponseCreator bidResponseCreator,
@@ -892,6 +1018,8 @@ public class ServiceConfiguration {
                 uidUpdater,
                 timeoutResolver,
                 timeoutFactory,
+                adaptiveBidderTimeoutResolver,
+                auctionCompletionPolicy,
                 bidRequestOrtbVersionConversionManager,
                 httpBidderRequester,
                 bidResponseCreator,
@@ -911,9 +1039,11 @@ public class ServiceConfiguration {
     BidsAdjuster bidsAdjuster(ResponseBidValidator responseBidValidator,
                               PriceFloorEnforcer priceFloorEnforcer,
                               DsaEnforcer dsaEnforcer,
-                              BidAdjustmentsProcessor bidAdjustmentsProcessor) {
+                              BidAdjustmentsProcessor bidAdjustmentsProcessor,
+                              Metrics metrics) {
 
-        return new BidsAdjuster(responseBidValidator, priceFloorEnforcer, bidAdjustmentsProcessor, dsaEnforcer);
+        return new BidsAdjuster(
+                responseBidValidator, priceFloorEnforcer, bidAdjustmentsProcessor, dsaEnforcer, metrics);
     }
 
     @Bean
@@ -921,6 +1051,7 @@ public class ServiceConfiguration {
             @Value("${auction.stored-requests-timeout-ms}") long defaultTimeoutMs,
             @Value("${default-request.file.path:#{null}}") String defaultBidRequestPath,
             @Value("${settings.generate-storedrequest-bidrequest-id}") boolean generateBidRequestId,
+            @Value("${auction.stored-requests-single-tree-merge:false}") boolean singleTreeMerge,
             FileSystem fileSystem,
             ApplicationSettings applicationSettings,
             Metrics metrics,
@@ -932,6 +1063,7 @@ public class ServiceConfiguration {
                 defaultTimeoutMs,
                 defaultBidRequestPath,
                 generateBidRequestId,
+                singleTreeMerge,
                 fileSystem,
                 applicationSettings,
                 new UUIDIdGenerator(),
@@ -947,10 +1079,23 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    StoredResponseProcessor storedResponseProcessor(ApplicationSettings applicationSettings,
-                                                    JacksonMapper mapper) {
+    @ConditionalOnProperty(
+            prefix = "settings.in-memory-cache.stored-responses",
+            name = {"ttl-seconds", "max-size-bytes"})
+    StoredResponseStore storedResponseStore(
+            @Value("${settings.in-memory-cache.stored-responses.ttl-seconds}") int ttlSeconds,
+            @Value("${settings.in-memory-cache.stored-responses.max-size-bytes}") long maxSizeBytes) {
+
+        return new StoredResponseStore(ttlSeconds, maxSizeBytes);
+    }
+
+    @Bean
+    StoredResponseProcessor storedResponseProcessor(
+            ApplicationSettings applicationSettings,
+            JacksonMapper mapper,
+            @Autowired(required = false) StoredResponseStore storedResponseStore) {
 
-        return new StoredResponseProcessor(applicationSettings, mapper);
+        return new StoredResponseProcessor(applicationSettings, mapper, storedResponseStore);
     }
 
     @Bean
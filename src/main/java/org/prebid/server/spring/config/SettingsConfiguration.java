@@ -88,9 +88,13 @@ public class SettingsConfiguration {
                 @Value("${settings.database.stored-requests-query}") String storedRequestsQuery,
                 @Value("${settings.database.amp-stored-requests-query}") String ampStoredRequestsQuery,
                 @Value("${settings.database.stored-responses-query}") String storedResponsesQuery,
+                @Value("${settings.database.stored-data-batch.delay-ms:0}") long storedDataBatchDelayMs,
+                @Value("${settings.database.stored-data-batch.max-ids:128}") int storedDataBatchMaxIds,
                 ParametrizedQueryHelper parametrizedQueryHelper,
                 DatabaseClient databaseClient,
-                JacksonMapper jacksonMapper) {
+                JacksonMapper jacksonMapper,
+                Vertx vertx,
+                Metrics metrics) {
 
             return new DatabaseApplicationSettings(
                     databaseClient,
@@ -99,7 +103,11 @@ public class SettingsConfiguration {
                     accountQuery,
                     storedRequestsQuery,
                     ampStoredRequestsQuery,
-                    storedResponsesQuery);
+                    storedResponsesQuery,
+                    vertx,
+                    metrics,
+                    storedDataBatchDelayMs,
+                    storedDataBatchMaxIds);
         }
     }
 
@@ -317,6 +325,7 @@ public class SettingsConfiguration {
                 S3AsyncClient s3AsyncClient,
                 S3SettingsConfiguration.S3ConfigurationProperties s3ConfigurationProperties,
                 @Value("${settings.in-memory-cache.s3-update.refresh-rate}") long refreshPeriod,
+                @Value("${settings.in-memory-cache.s3-update.max-concurrent-downloads:16}") int maxConcurrentDownloads,
                 SettingsCache settingsCache,
                 Clock clock,
                 Metrics metrics,
@@ -328,6 +337,7 @@ public class SettingsConfiguration {
                     s3ConfigurationProperties.getStoredRequestsDir(),
                     s3ConfigurationProperties.getStoredImpsDir(),
                     refreshPeriod,
+                    maxConcurrentDownloads,
                     settingsCache,
                     MetricName.stored_request,
                     clock,
@@ -2,18 +2,31 @@ package org.prebid.server.spring.config;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.dns.AddressResolverOptions;
 import io.vertx.core.file.FileSystem;
 import io.vertx.ext.dropwizard.DropwizardMetricsOptions;
 import io.vertx.ext.dropwizard.Match;
 import io.vertx.ext.dropwizard.MatchType;
 import io.vertx.ext.web.handler.BodyHandler;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.prebid.server.log.Logger;
 import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.spring.config.metrics.MetricsConfiguration;
+import org.prebid.server.spring.config.model.BlockingExecutorProperties;
+import org.prebid.server.vertx.BlockingExecutor;
 import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 public class VertxConfiguration {
@@ -23,7 +36,11 @@ public class VertxConfiguration {
     @Bean
     Vertx vertx(@Value("${vertx.worker-pool-size}") int workerPoolSize,
                 @Value("${vertx.enable-per-client-endpoint-metrics}") boolean enablePerClientEndpointMetrics,
-                @Value("${metrics.jmx.enabled}") boolean jmxEnabled) {
+                @Value("${metrics.jmx.enabled}") boolean jmxEnabled,
+                @Value("${vertx.dns.cache-min-ttl-seconds:#{null}}") Integer dnsCacheMinTtlSeconds,
+                @Value("${vertx.dns.cache-max-ttl-seconds:#{null}}") Integer dnsCacheMaxTtlSeconds,
+                @Value("${vertx.dns.cache-negative-ttl-seconds:#{null}}") Integer dnsCacheNegativeTtlSeconds) {
+
         final DropwizardMetricsOptions metricsOptions = new DropwizardMetricsOptions()
                 .setEnabled(true)
                 .setJmxEnabled(jmxEnabled)
@@ -32,9 +49,22 @@ public class VertxConfiguration {
             metricsOptions.addMonitoredHttpClientEndpoint(new Match().setValue(".*").setType(MatchType.REGEX));
         }
 
+        // Vert.x defaults are kept for settings which are not configured
+        final AddressResolverOptions addressResolverOptions = new AddressResolverOptions();
+        if (dnsCacheMinTtlSeconds != null) {
+            addressResolverOptions.setCacheMinTimeToLive(dnsCacheMinTtlSeconds);
+        }
+        if (dnsCacheMaxTtlSeconds != null) {
+            addressResolverOptions.setCacheMaxTimeToLive(dnsCacheMaxTtlSeconds);
+        }
+        if (dnsCacheNegativeTtlSeconds != null) {
+            addressResolverOptions.setCacheNegativeTimeToLive(dnsCacheNegativeTtlSeconds);
+        }
+
         final VertxOptions vertxOptions = new VertxOptions()
                 .setPreferNativeTransport(true)
                 .setWorkerPoolSize(workerPoolSize)
+                .setAddressResolverOptions(addressResolverOptions)
                 .setMetricsOptions(metricsOptions);
 
         final Vertx vertx = Vertx.vertx(vertxOptions);
@@ -53,7 +83,46 @@ public class VertxConfiguration {
     }
 
     @Bean
-    ContextRunner contextRunner(Vertx vertx, @Value("${vertx.init-timeout-ms}") long initTimeoutMs) {
-        return new ContextRunner(vertx, initTimeoutMs);
+    @ConfigurationProperties(prefix = "vertx")
+    BlockingExecutorsProperties blockingExecutorsProperties() {
+        return new BlockingExecutorsProperties();
+    }
+
+    @Bean
+    ContextRunner contextRunner(Vertx vertx,
+                                @Value("${vertx.init-timeout-ms}") long initTimeoutMs,
+                                BlockingExecutorsProperties blockingExecutorsProperties,
+                                Metrics metrics) {
+
+        final List<BlockingExecutor> blockingExecutors = blockingExecutorsProperties.getBlockingExecutors()
+                .entrySet().stream()
+                .map(entry -> blockingExecutor(entry.getKey(), entry.getValue(), vertx, metrics))
+                .toList();
+
+        return new ContextRunner(vertx, initTimeoutMs, blockingExecutors);
+    }
+
+    private static BlockingExecutor blockingExecutor(String name,
+                                                     BlockingExecutorProperties properties,
+                                                     Vertx vertx,
+                                                     Metrics metrics) {
+
+        return new BlockingExecutor(
+                name,
+                vertx,
+                properties.getPoolSize(),
+                properties.getMaxQueueSize(),
+                properties.getTimeoutMs(),
+                properties.getRejectionPolicy(),
+                metrics);
+    }
+
+    @Validated
+    @Data
+    @NoArgsConstructor
+    static class BlockingExecutorsProperties {
+
+        @Valid
+        private Map<String, BlockingExecutorProperties> blockingExecutors = new HashMap<>();
     }
 }
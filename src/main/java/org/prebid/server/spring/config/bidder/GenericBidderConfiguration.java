@@ -7,6 +7,7 @@ import org.prebid.server.spring.config.bidder.model.BidderConfigurationPropertie
 import org.prebid.server.spring.config.bidder.util.BidderDepsAssembler;
 import org.prebid.server.spring.config.bidder.util.UsersyncerCreator;
 import org.prebid.server.spring.env.YamlPropertySourceFactory;
+import org.prebid.server.util.EndpointTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -35,7 +36,7 @@ public class GenericBidderConfiguration {
         return BidderDepsAssembler.forBidder(BIDDER_NAME)
                 .withConfig(genericConfigurationProperties)
                 .usersyncerCreator(UsersyncerCreator.create(externalUrl))
-                .bidderCreator(config -> new GenericBidder(config.getEndpoint(), mapper))
+                .bidderCreator(config -> new GenericBidder(EndpointTemplate.compile(config.getEndpoint()), mapper))
                 .assemble();
     }
 }
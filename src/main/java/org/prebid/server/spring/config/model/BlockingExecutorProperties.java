@@ -0,0 +1,30 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.prebid.server.vertx.BlockingExecutor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class BlockingExecutorProperties {
+
+    @NotNull
+    @Min(1)
+    private Integer poolSize;
+
+    @NotNull
+    @Min(0)
+    private Integer maxQueueSize;
+
+    @NotNull
+    @Min(1)
+    private Long timeoutMs;
+
+    @NotNull
+    private BlockingExecutor.RejectionPolicy rejectionPolicy;
+}
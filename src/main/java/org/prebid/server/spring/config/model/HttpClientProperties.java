@@ -33,4 +33,9 @@ public class HttpClientProperties {
     private String jksPath;
 
     private String jksPassword;
+
+    private Boolean incrementalJsonParsing;
+
+    @Min(0)
+    private Long incrementalJsonParsingMinSizeBytes;
 }
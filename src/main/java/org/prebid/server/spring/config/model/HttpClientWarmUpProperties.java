@@ -0,0 +1,26 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class HttpClientWarmUpProperties {
+
+    @NotNull
+    @Min(1)
+    private Integer minConnections;
+
+    @NotNull
+    @Min(1)
+    private Long periodMs;
+
+    @NotNull
+    @Min(1)
+    private Long timeoutMs;
+}
@@ -8,10 +8,13 @@ import io.vertx.core.http.HttpMethod;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Price;
 import org.prebid.server.bidder.model.PriceFloorInfo;
+import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -47,6 +50,41 @@ public class BidderUtil {
                 .build();
     }
 
+    public static HttpRequest<BidRequest> defaultRequest(BidRequest bidRequest,
+                                                         HttpTarget target,
+                                                         JacksonMapper mapper) {
+
+        return defaultRequest(bidRequest, HttpUtil.headers(), target, mapper);
+    }
+
+    public static HttpRequest<BidRequest> defaultRequest(BidRequest bidRequest,
+                                                         MultiMap headers,
+                                                         HttpTarget target,
+                                                         JacksonMapper mapper) {
+
+        return HttpRequest.<BidRequest>builder()
+                .method(HttpMethod.POST)
+                .uri(target.getUrl())
+                .target(target)
+                .headers(headers)
+                .impIds(impIds(bidRequest))
+                .body(mapper.encodeToBytes(bidRequest))
+                .payload(bidRequest)
+                .build();
+    }
+
+    /**
+     * Decodes body of the given response, using tokens collected while response was being received if present.
+     */
+    public static <T> T decodeResponseBody(HttpResponse response,
+                                           Class<T> clazz,
+                                           JacksonMapper mapper) throws DecodeException {
+
+        return response.getJsonTokens() != null
+                ? mapper.decodeValue(response.getJsonTokens(), clazz)
+                : mapper.decodeValue(response.getBody(), clazz);
+    }
+
     public static Set<String> impIds(BidRequest bidRequest) {
         return bidRequest.getImp().stream()
                 .map(Imp::getId)
@@ -0,0 +1,183 @@
+package org.prebid.server.util;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Endpoint url with macros (like {@code {{Host}}}), compiled once at bidder configuration time.
+ * <p>
+ * Template is split into literal and macro segments, so expanding it is a single pass over segments instead of
+ * a chain of {@link String#replace}. When protocol, host and port contain no macros, they are parsed at compile time
+ * and expanded endpoint is turned into {@link HttpTarget} without any url parsing.
+ * <p>
+ * Macro values are substituted as is, so they should be encoded by the caller if needed.
+ */
+public class EndpointTemplate {
+
+    private static final String MACRO_OPEN = "{{";
+    private static final String MACRO_CLOSE = "}}";
+    private static final String SCHEME_DELIMITER = "://";
+    private static final String MACRO_PLACEHOLDER = "macro";
+
+    private final String endpoint;
+    private final List<Segment> segments;
+    private final int originLength;
+    private final HttpTarget originTarget;
+    private final HttpTarget staticTarget;
+
+    private EndpointTemplate(String endpoint) {
+        this.endpoint = endpoint;
+
+        segments = parseSegments(endpoint);
+
+        final URL url = parseUrl(substitute(segments, Map.of(), MACRO_PLACEHOLDER));
+        final int authorityEnd = authorityEnd(endpoint);
+        final boolean staticOrigin = !endpoint.substring(0, authorityEnd).contains(MACRO_OPEN);
+
+        originLength = staticOrigin ? authorityEnd : -1;
+        originTarget = staticOrigin ? toTarget(url) : null;
+        staticTarget = segments.size() == 1 && !segments.getFirst().macro() ? toTarget(url) : null;
+    }
+
+    /**
+     * Compiles template of the given endpoint url.
+     *
+     * @throws IllegalArgumentException if endpoint is not a valid url after macros substitution
+     */
+    public static EndpointTemplate compile(String endpoint) {
+        return new EndpointTemplate(Objects.requireNonNull(endpoint));
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns target of the endpoint without macros substitution.
+     */
+    public HttpTarget expand() {
+        return staticTarget != null ? staticTarget : expand(Map.of());
+    }
+
+    /**
+     * Returns target of the endpoint with macros substituted by the given values. Macros without values are left
+     * in the url as is.
+     *
+     * @throws IllegalArgumentException if protocol, host or port of the endpoint contain macros
+     *                                  and expanded url is not valid
+     */
+    public HttpTarget expand(Map<String, String> macroToValue) {
+        if (staticTarget != null) {
+            return staticTarget;
+        }
+
+        final String url = substitute(segments, macroToValue, null);
+        if (originTarget == null) {
+            return toTarget(parseUrl(url));
+        }
+
+        return HttpTarget.of(
+                url,
+                originTarget.getOrigin(),
+                originTarget.isSsl(),
+                originTarget.getHost(),
+                originTarget.getPort(),
+                requestUri(url, originLength));
+    }
+
+    private static List<Segment> parseSegments(String endpoint) {
+        final List<Segment> segments = new ArrayList<>();
+
+        int position = 0;
+        while (position < endpoint.length()) {
+            final int macroStart = endpoint.indexOf(MACRO_OPEN, position);
+            final int macroEnd = macroStart >= 0 ? endpoint.indexOf(MACRO_CLOSE, macroStart) : -1;
+            if (macroEnd < 0) {
+                segments.add(new Segment(endpoint.substring(position), false));
+                break;
+            }
+
+            if (macroStart > position) {
+                segments.add(new Segment(endpoint.substring(position, macroStart), false));
+            }
+            position = macroEnd + MACRO_CLOSE.length();
+            segments.add(new Segment(endpoint.substring(macroStart, position), true));
+        }
+
+        return segments;
+    }
+
+    private static String substitute(List<Segment> segments,
+                                     Map<String, String> macroToValue,
+                                     String defaultValue) {
+
+        final StringBuilder result = new StringBuilder();
+        for (Segment segment : segments) {
+            if (!segment.macro()) {
+                result.append(segment.value());
+                continue;
+            }
+
+            final String value = ObjectUtils.firstNonNull(
+                    macroToValue.get(segment.value()), defaultValue, segment.value());
+            result.append(value);
+        }
+
+        return result.toString();
+    }
+
+    private static int authorityEnd(String url) {
+        final int schemeEnd = url.indexOf(SCHEME_DELIMITER);
+        int authorityEnd = schemeEnd >= 0 ? schemeEnd + SCHEME_DELIMITER.length() : 0;
+        while (authorityEnd < url.length() && "/?#".indexOf(url.charAt(authorityEnd)) < 0) {
+            authorityEnd++;
+        }
+
+        return authorityEnd;
+    }
+
+    private static URL parseUrl(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("URL supplied is not valid: " + url, e);
+        }
+    }
+
+    private static HttpTarget toTarget(URL url) {
+        final String urlAsString = url.toString();
+        final String origin = url.getProtocol() + SCHEME_DELIMITER + url.getHost()
+                + (url.getPort() != -1 ? ":" + url.getPort() : "");
+
+        return HttpTarget.of(
+                urlAsString,
+                origin,
+                "https".equals(url.getProtocol()),
+                url.getHost(),
+                url.getPort() != -1 ? url.getPort() : url.getDefaultPort(),
+                requestUri(urlAsString, authorityEnd(urlAsString)));
+    }
+
+    /**
+     * Returns path and query of the url, starting from the given position, without fragment.
+     */
+    private static String requestUri(String url, int from) {
+        final int fragmentStart = url.indexOf('#', from);
+        final String uri = fragmentStart >= 0 ? url.substring(from, fragmentStart) : url.substring(from);
+
+        if (uri.isEmpty()) {
+            return "/";
+        }
+        return uri.charAt(0) == '/' ? uri : "/" + uri;
+    }
+
+    private record Segment(String value, boolean macro) {
+    }
+}
@@ -0,0 +1,196 @@
+package org.prebid.server.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Finds all registered markers in creative markup in a single pass.
+ * <p>
+ * Markers are compiled into Aho-Corasick automaton over ASCII characters, so markup is scanned once regardless
+ * of the number of markers. Markers are matched ignoring ASCII case by the automaton, case-sensitive markers are
+ * additionally verified at the position they were found.
+ * <p>
+ * {@link #DEFAULT} scanner contains URL scheme markers checked by response validation.
+ */
+public class MarkupScanner {
+
+    public static final Marker INSECURE_SCHEME = Marker.caseSensitive("http:");
+    public static final Marker ENCODED_INSECURE_SCHEME = Marker.caseSensitive("http%3A");
+    public static final Marker SECURE_SCHEME = Marker.caseSensitive("https:");
+    public static final Marker ENCODED_SECURE_SCHEME = Marker.caseSensitive("https%3A");
+
+    public static final MarkupScanner DEFAULT = new MarkupScanner(List.of(
+            INSECURE_SCHEME,
+            ENCODED_INSECURE_SCHEME,
+            SECURE_SCHEME,
+            ENCODED_SECURE_SCHEME));
+
+    private static final int ALPHABET_SIZE = 128;
+    private static final int MAX_MARKERS = Long.SIZE;
+
+    private final List<Marker> markers;
+    private final int[][] transitions;
+    private final long[] outputs;
+    private final long allMarkersMask;
+
+    public MarkupScanner(List<Marker> markers) {
+        if (markers.isEmpty() || markers.size() > MAX_MARKERS) {
+            throw new IllegalArgumentException("Number of markers should be in range from 1 to " + MAX_MARKERS);
+        }
+
+        this.markers = List.copyOf(markers);
+        allMarkersMask = markers.size() == MAX_MARKERS ? -1L : (1L << markers.size()) - 1;
+
+        final List<int[]> gotoTable = new ArrayList<>();
+        final List<Long> outputTable = new ArrayList<>();
+        gotoTable.add(newState());
+        outputTable.add(0L);
+
+        for (int i = 0; i < markers.size(); i++) {
+            int state = 0;
+            for (char character : markers.get(i).value().toCharArray()) {
+                final int symbol = normalize(character);
+                if (gotoTable.get(state)[symbol] < 0) {
+                    gotoTable.get(state)[symbol] = gotoTable.size();
+                    gotoTable.add(newState());
+                    outputTable.add(0L);
+                }
+                state = gotoTable.get(state)[symbol];
+            }
+            outputTable.set(state, outputTable.get(state) | 1L << i);
+        }
+
+        transitions = gotoTable.toArray(new int[0][]);
+        outputs = outputTable.stream().mapToLong(Long::longValue).toArray();
+        buildFailureTransitions();
+    }
+
+    private static int[] newState() {
+        final int[] state = new int[ALPHABET_SIZE];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    /**
+     * Turns goto function into complete transition table following failure links, so scanning
+     * makes exactly one table lookup per character.
+     */
+    private void buildFailureTransitions() {
+        final int[] failures = new int[transitions.length];
+        final Queue<Integer> queue = new ArrayDeque<>();
+
+        for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+            final int next = transitions[0][symbol];
+            if (next < 0) {
+                transitions[0][symbol] = 0;
+            } else {
+                failures[next] = 0;
+                queue.add(next);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            outputs[state] |= outputs[failures[state]];
+
+            for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+                final int next = transitions[state][symbol];
+                if (next < 0) {
+                    transitions[state][symbol] = transitions[failures[state]][symbol];
+                } else {
+                    failures[next] = transitions[failures[state]][symbol];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    public Result scan(String markup) {
+        if (markup == null) {
+            return new Result(this, 0L);
+        }
+
+        long found = 0L;
+        int state = 0;
+        for (int i = 0; i < markup.length() && found != allMarkersMask; i++) {
+            final char character = markup.charAt(i);
+            if (character >= ALPHABET_SIZE) {
+                state = 0;
+                continue;
+            }
+
+            state = transitions[state][normalize(character)];
+            final long candidates = outputs[state] & ~found;
+            if (candidates != 0) {
+                found |= verify(markup, i, candidates);
+            }
+        }
+
+        return new Result(this, found);
+    }
+
+    private long verify(String markup, int end, long candidates) {
+        long verified = 0L;
+        long remaining = candidates;
+        while (remaining != 0) {
+            final int index = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+
+            final Marker marker = markers.get(index);
+            final int start = end - marker.value().length() + 1;
+            if (marker.ignoreCase() || markup.startsWith(marker.value(), start)) {
+                verified |= 1L << index;
+            }
+        }
+        return verified;
+    }
+
+    private static int normalize(char character) {
+        return character >= 'A' && character <= 'Z' ? character + ('a' - 'A') : character;
+    }
+
+    /**
+     * ASCII marker to look for in markup.
+     */
+    public record Marker(String value, boolean ignoreCase) {
+
+        public Marker {
+            if (value.isEmpty() || !value.chars().allMatch(character -> character < ALPHABET_SIZE)) {
+                throw new IllegalArgumentException("Marker should be non-empty ASCII string: " + value);
+            }
+        }
+
+        public static Marker caseSensitive(String value) {
+            return new Marker(value, false);
+        }
+
+        public static Marker ignoreCase(String value) {
+            return new Marker(value, true);
+        }
+    }
+
+    /**
+     * Markers found in particular markup.
+     */
+    public static class Result {
+
+        private final MarkupScanner scanner;
+        private final long found;
+
+        private Result(MarkupScanner scanner, long found) {
+            this.scanner = scanner;
+            this.found = found;
+        }
+
+        public boolean contains(Marker marker) {
+            final int index = scanner.markers.indexOf(marker);
+            if (index < 0) {
+                throw new IllegalArgumentException("Marker is not registered in scanner: " + marker.value());
+            }
+            return (found & 1L << index) != 0;
+        }
+    }
+}
@@ -1,12 +1,10 @@
 package org.prebid.server.validation;
 
-import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Format;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Site;
 import com.iab.openrtb.response.Bid;
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.BidderAliases;
@@ -24,6 +22,8 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountBidValidationConfig;
 import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.util.MarkupScanner;
+import org.prebid.server.validation.model.ResponseBidValidationContext;
 import org.prebid.server.validation.model.ValidationResult;
 
 import java.util.ArrayList;
@@ -45,9 +45,6 @@ public class ResponseBidValidator {
     private static final ConditionalLogger CREATIVE_SIZE_LOGGER = new ConditionalLogger("creative_size_validation",
             logger);
 
-    private static final String[] INSECURE_MARKUP_MARKERS = {"http:", "http%3A"};
-    private static final String[] SECURE_MARKUP_MARKERS = {"https:", "https%3A"};
-
     private final BidValidationEnforcement bannerMaxSizeEnforcement;
     private final BidValidationEnforcement secureMarkupEnforcement;
     private final Metrics metrics;
@@ -71,6 +68,24 @@ public class ResponseBidValidator {
                                      AuctionContext auctionContext,
                                      BidderAliases aliases) {
 
+        return validate(
+                bidderBid,
+                bidder,
+                ResponseBidValidationContext.of(auctionContext.getBidRequest()),
+                auctionContext,
+                aliases);
+    }
+
+    /**
+     * Validates bid using {@link ResponseBidValidationContext} which is expected to be created once
+     * per bidder response and shared between all its bids.
+     */
+    public ValidationResult validate(BidderBid bidderBid,
+                                     String bidder,
+                                     ResponseBidValidationContext validationContext,
+                                     AuctionContext auctionContext,
+                                     BidderAliases aliases) {
+
         final Bid bid = bidderBid.getBid();
         final BidRequest bidRequest = auctionContext.getBidRequest();
         final Account account = auctionContext.getAccount();
@@ -82,7 +97,7 @@ public class ResponseBidValidator {
             validateTypeSpecific(bidderBid, bidder);
             validateCurrency(bidderBid.getBidCurrency());
 
-            final Imp correspondingImp = findCorrespondingImp(bid, bidRequest);
+            final Imp correspondingImp = findCorrespondingImp(bid, validationContext);
             if (bidderBid.getType() == BidType.banner) {
                 warnings.addAll(validateBannerFields(
                         bidderBid,
@@ -90,6 +105,7 @@ public class ResponseBidValidator {
                         bidRequest,
                         account,
                         correspondingImp,
+                        validationContext,
                         aliases,
                         bidRejectionTracker));
             }
@@ -148,12 +164,14 @@ public class ResponseBidValidator {
         }
     }
 
-    private Imp findCorrespondingImp(Bid bid, BidRequest bidRequest) throws ValidationException {
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), bid.getImpid()))
-                .findFirst()
-                .orElseThrow(() -> exceptionAndLogOnePercent(
-                        "Bid \"%s\" has no corresponding imp in request".formatted(bid.getId())));
+    private Imp findCorrespondingImp(Bid bid, ResponseBidValidationContext validationContext)
+            throws ValidationException {
+
+        final Imp imp = validationContext.imp(bid.getImpid());
+        if (imp == null) {
+            throw exceptionAndLogOnePercent("Bid \"%s\" has no corresponding imp in request".formatted(bid.getId()));
+        }
+        return imp;
     }
 
     private ValidationException exceptionAndLogOnePercent(String message) {
@@ -166,12 +184,13 @@ public class ResponseBidValidator {
                                               BidRequest bidRequest,
                                               Account account,
                                               Imp correspondingImp,
+                                              ResponseBidValidationContext validationContext,
                                               BidderAliases aliases,
                                               BidRejectionTracker bidRejectionTracker) throws ValidationException {
 
         final BidValidationEnforcement bannerMaxSizeEnforcement = effectiveBannerMaxSizeEnforcement(account);
         if (bannerMaxSizeEnforcement != BidValidationEnforcement.skip) {
-            final Format maxSize = maxSizeForBanner(correspondingImp);
+            final Format maxSize = validationContext.maxBannerSize(correspondingImp);
             final Bid bid = bidderBid.getBid();
             if (bannerSizeIsNotValid(bid, maxSize)) {
                 final String accountId = account.getId();
@@ -213,22 +232,6 @@ public class ResponseBidValidator {
         return ObjectUtils.defaultIfNull(accountBannerMaxSizeEnforcement, bannerMaxSizeEnforcement);
     }
 
-    private static Format maxSizeForBanner(Imp imp) {
-        int maxW = 0;
-        int maxH = 0;
-        for (final Format size : bannerFormats(imp)) {
-            maxW = Math.max(maxW, size.getW());
-            maxH = Math.max(maxH, size.getH());
-        }
-        return Format.builder().w(maxW).h(maxH).build();
-    }
-
-    private static List<Format> bannerFormats(Imp imp) {
-        final Banner banner = imp.getBanner();
-        final List<Format> formats = banner != null ? banner.getFormat() : null;
-        return ListUtils.emptyIfNull(formats);
-    }
-
     private static boolean bannerSizeIsNotValid(Bid bid, Format maxSize) {
         final Integer bidW = bid.getW();
         final Integer bidH = bid.getH();
@@ -253,7 +256,7 @@ public class ResponseBidValidator {
         final Bid bid = bidderBid.getBid();
         final String adm = bid.getAdm();
 
-        if (isImpSecure(correspondingImp) && markupIsNotSecure(adm)) {
+        if (isImpSecure(correspondingImp) && markupIsNotSecure(bidderBid)) {
             final String message = """
                     BidResponse validation `%s`: bidder `%s` response triggers secure \
                     creative validation for bid %s, account=%s, referrer=%s, adm=%s"""
@@ -277,9 +280,21 @@ public class ResponseBidValidator {
         return Objects.equals(imp.getSecure(), 1);
     }
 
-    private static boolean markupIsNotSecure(String adm) {
-        return StringUtils.containsAny(adm, INSECURE_MARKUP_MARKERS)
-                || !StringUtils.containsAny(adm, SECURE_MARKUP_MARKERS);
+    /**
+     * Markup is not secure if it contains at least one insecure marker ("http:", "http%3A")
+     * or no secure markers ("https:", "https%3A") at all.
+     */
+    private static boolean markupIsNotSecure(BidderBid bidderBid) {
+        final String adm = bidderBid.getBid().getAdm();
+        if (adm == null) {
+            return true;
+        }
+
+        final MarkupScanner.Result scanResult = MarkupScanner.DEFAULT.scan(adm);
+        return scanResult.contains(MarkupScanner.INSECURE_SCHEME)
+                || scanResult.contains(MarkupScanner.ENCODED_INSECURE_SCHEME)
+                || !(scanResult.contains(MarkupScanner.SECURE_SCHEME)
+                || scanResult.contains(MarkupScanner.ENCODED_SECURE_SCHEME));
     }
 
     private List<String> singleWarningOrValidationException(
@@ -0,0 +1,60 @@
+package org.prebid.server.validation.model;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import org.apache.commons.collections4.ListUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request data shared by validation of all bids of a single bidder response.
+ * <p>
+ * Imps are indexed by id once and max banner size is calculated at most once per imp,
+ * so validation of each bid does not need to scan the whole request.
+ */
+public class ResponseBidValidationContext {
+
+    private final Map<String, Imp> impsById;
+    private final Map<String, Format> maxBannerSizes;
+
+    private ResponseBidValidationContext(Map<String, Imp> impsById) {
+        this.impsById = impsById;
+        this.maxBannerSizes = new HashMap<>();
+    }
+
+    public static ResponseBidValidationContext of(BidRequest bidRequest) {
+        final List<Imp> imps = ListUtils.emptyIfNull(bidRequest.getImp());
+        final Map<String, Imp> impsById = new HashMap<>(imps.size() * 2);
+        for (final Imp imp : imps) {
+            // first imp wins for duplicated ids, as the bid would be matched to it by the request order
+            impsById.putIfAbsent(imp.getId(), imp);
+        }
+
+        return new ResponseBidValidationContext(impsById);
+    }
+
+    public Imp imp(String impId) {
+        return impsById.get(impId);
+    }
+
+    public Format maxBannerSize(Imp imp) {
+        return maxBannerSizes.computeIfAbsent(imp.getId(), ignored -> calculateMaxBannerSize(imp));
+    }
+
+    private static Format calculateMaxBannerSize(Imp imp) {
+        final Banner banner = imp.getBanner();
+        final List<Format> formats = banner != null ? ListUtils.emptyIfNull(banner.getFormat()) : List.of();
+
+        int maxW = 0;
+        int maxH = 0;
+        for (final Format size : formats) {
+            maxW = Math.max(maxW, size.getW());
+            maxH = Math.max(maxH, size.getH());
+        }
+        return Format.builder().w(maxW).h(maxH).build();
+    }
+}
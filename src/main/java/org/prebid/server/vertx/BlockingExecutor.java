@@ -0,0 +1,136 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Named worker pool dedicated to blocking calls of a single subsystem.
+ * <p>
+ * Unlike the shared Vert.x worker pool, the number of queued actions is bounded: when the queue is full
+ * new actions are handled according to {@link RejectionPolicy}. Actions not completed within the configured
+ * timeout are failed with {@link TimeoutException}, although the worker thread stays busy until the action ends.
+ */
+public class BlockingExecutor {
+
+    private final String name;
+    private final Vertx vertx;
+    private final int maxQueueSize;
+    private final int maxPending;
+    private final long timeoutMs;
+    private final RejectionPolicy rejectionPolicy;
+    private final Metrics metrics;
+
+    private final WorkerExecutor workerExecutor;
+    private final AtomicInteger pending;
+    private final AtomicInteger queued;
+    private final AtomicInteger active;
+
+    public BlockingExecutor(String name,
+                            Vertx vertx,
+                            int poolSize,
+                            int maxQueueSize,
+                            long timeoutMs,
+                            RejectionPolicy rejectionPolicy,
+                            Metrics metrics) {
+
+        if (poolSize < 1 || maxQueueSize < 0 || timeoutMs < 1) {
+            throw new IllegalArgumentException(
+                    "Pool size and timeout must be positive, max queue size must not be negative");
+        }
+
+        this.name = Objects.requireNonNull(name);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.maxQueueSize = maxQueueSize;
+        this.maxPending = poolSize + maxQueueSize;
+        this.timeoutMs = timeoutMs;
+        this.rejectionPolicy = Objects.requireNonNull(rejectionPolicy);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        workerExecutor = vertx.createSharedWorkerExecutor(
+                "blocking-executor-" + name, poolSize, timeoutMs, TimeUnit.MILLISECONDS);
+        pending = new AtomicInteger();
+        queued = new AtomicInteger();
+        active = new AtomicInteger();
+
+        metrics.createBlockingExecutorGauges(name, queued::get, active::get);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public <T> Future<T> execute(Callable<T> action) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            return reject(action);
+        }
+        queued.incrementAndGet();
+
+        final Promise<T> promise = Promise.promise();
+        final long timerId = vertx.setTimer(timeoutMs, ignored -> failWithTimeout(promise));
+
+        workerExecutor.<T>executeBlocking(() -> call(action), false)
+                .onComplete(result -> {
+                    vertx.cancelTimer(timerId);
+                    if (result.succeeded()) {
+                        promise.tryComplete(result.result());
+                    } else {
+                        promise.tryFail(result.cause());
+                    }
+                });
+
+        return promise.future();
+    }
+
+    private <T> T call(Callable<T> action) throws Exception {
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            return action.call();
+        } finally {
+            active.decrementAndGet();
+            pending.decrementAndGet();
+        }
+    }
+
+    private <T> Future<T> reject(Callable<T> action) {
+        metrics.updateBlockingExecutorRejectedMetric(name);
+
+        return switch (rejectionPolicy) {
+            case fail -> Future.failedFuture(new RejectedExecutionException(
+                    "Blocking executor %s queue is full, max size: %d".formatted(name, maxQueueSize)));
+            case shared_pool -> vertx.executeBlocking(action, false);
+        };
+    }
+
+    private <T> void failWithTimeout(Promise<T> promise) {
+        if (promise.tryFail(new TimeoutException(
+                "Blocking action in executor %s has not completed within %d ms".formatted(name, timeoutMs)))) {
+
+            metrics.updateBlockingExecutorTimeoutMetric(name);
+        }
+    }
+
+    public enum RejectionPolicy {
+
+        /**
+         * Action is failed with {@link RejectedExecutionException}.
+         */
+        fail,
+
+        /**
+         * Action is executed on the shared Vert.x worker pool.
+         */
+        shared_pool
+    }
+}
@@ -5,17 +5,31 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class ContextRunner {
 
     private final Vertx vertx;
     private final long timeoutMs;
+    private final Map<String, BlockingExecutor> blockingExecutors;
 
     public ContextRunner(Vertx vertx, long timeoutMs) {
+        this(vertx, timeoutMs, Collections.emptyList());
+    }
+
+    public ContextRunner(Vertx vertx, long timeoutMs, List<BlockingExecutor> blockingExecutors) {
         this.vertx = vertx;
         this.timeoutMs = timeoutMs;
+        this.blockingExecutors = Objects.requireNonNull(blockingExecutors).stream()
+                .collect(Collectors.toUnmodifiableMap(BlockingExecutor::getName, Function.identity()));
     }
 
     public <T> void runBlocking(Handler<Promise<T>> action) {
@@ -46,4 +60,15 @@ public class ContextRunner {
             throw new RuntimeException(future.cause());
         }
     }
+
+    /**
+     * Executes blocking action on the worker pool configured for the given subsystem,
+     * falls back to the shared Vert.x worker pool if there is no such pool.
+     */
+    public <T> Future<T> executeBlocking(String executorName, Callable<T> action) {
+        final BlockingExecutor blockingExecutor = blockingExecutors.get(executorName);
+        return blockingExecutor != null
+                ? blockingExecutor.execute(action)
+                : vertx.executeBlocking(action);
+    }
 }
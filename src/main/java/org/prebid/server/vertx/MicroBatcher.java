@@ -0,0 +1,148 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Collects items submitted by concurrent callers and processes them in batches.
+ * <p>
+ * Items are accumulated until either the total weight of the batch reaches the maximum or the maximum delay
+ * since the first item has passed. Each batch is processed by a single call of the batch processor, which returns
+ * results in the order of items, then every caller is completed on the context it submitted its item from.
+ */
+public class MicroBatcher<I, R> {
+
+    private final Vertx vertx;
+    private final long maxDelayMs;
+    private final int maxWeight;
+    private final ToIntFunction<I> weigher;
+    private final Function<List<I>, Future<List<R>>> batchProcessor;
+
+    private Batch<I, R> pendingBatch;
+
+    public MicroBatcher(Vertx vertx,
+                        long maxDelayMs,
+                        int maxWeight,
+                        ToIntFunction<I> weigher,
+                        Function<List<I>, Future<List<R>>> batchProcessor) {
+
+        if (maxDelayMs < 1 || maxWeight < 1) {
+            throw new IllegalArgumentException("Max batch delay and max batch weight must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.maxDelayMs = maxDelayMs;
+        this.maxWeight = maxWeight;
+        this.weigher = Objects.requireNonNull(weigher);
+        this.batchProcessor = Objects.requireNonNull(batchProcessor);
+    }
+
+    /**
+     * Adds the given item to the pending batch and returns result of its processing.
+     */
+    public Future<R> submit(I item) {
+        final Submission<I, R> submission = new Submission<>(item, vertx.getOrCreateContext(), Promise.promise());
+
+        final Batch<I, R> fullBatch;
+        synchronized (this) {
+            if (pendingBatch == null) {
+                pendingBatch = newBatch();
+            }
+            pendingBatch.add(submission, weigher.applyAsInt(item));
+
+            fullBatch = pendingBatch.weight >= maxWeight ? pendingBatch : null;
+            if (fullBatch != null) {
+                pendingBatch = null;
+                vertx.cancelTimer(fullBatch.timerId);
+            }
+        }
+
+        if (fullBatch != null) {
+            process(fullBatch);
+        }
+
+        return submission.promise().future();
+    }
+
+    private Batch<I, R> newBatch() {
+        final Batch<I, R> batch = new Batch<>();
+        batch.timerId = vertx.setTimer(maxDelayMs, ignored -> onBatchDelayExpired(batch));
+        return batch;
+    }
+
+    private void onBatchDelayExpired(Batch<I, R> batch) {
+        final boolean expired;
+        synchronized (this) {
+            expired = pendingBatch == batch;
+            if (expired) {
+                pendingBatch = null;
+            }
+        }
+
+        if (expired) {
+            process(batch);
+        }
+    }
+
+    private void process(Batch<I, R> batch) {
+        final List<I> items = batch.submissions.stream().map(Submission::item).toList();
+
+        processItems(items).onComplete(result -> {
+            if (result.failed()) {
+                batch.submissions.forEach(submission -> submission.fail(result.cause()));
+                return;
+            }
+
+            final List<R> results = result.result();
+            if (results == null || results.size() != items.size()) {
+                final IllegalStateException exception = new IllegalStateException(
+                        "Batch processor returned results not matching %d items".formatted(items.size()));
+                batch.submissions.forEach(submission -> submission.fail(exception));
+                return;
+            }
+
+            for (int i = 0; i < items.size(); i++) {
+                batch.submissions.get(i).complete(results.get(i));
+            }
+        });
+    }
+
+    private Future<List<R>> processItems(List<I> items) {
+        try {
+            return batchProcessor.apply(items);
+        } catch (Throwable e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    private static class Batch<I, R> {
+
+        private final List<Submission<I, R>> submissions = new ArrayList<>();
+        private int weight;
+        private long timerId;
+
+        void add(Submission<I, R> submission, int itemWeight) {
+            submissions.add(submission);
+            weight += itemWeight;
+        }
+    }
+
+    private record Submission<I, R>(I item, Context context, Promise<R> promise) {
+
+        void complete(R result) {
+            context.runOnContext(ignored -> promise.tryComplete(result));
+        }
+
+        void fail(Throwable throwable) {
+            context.runOnContext(ignored -> promise.tryFail(throwable));
+        }
+    }
+}
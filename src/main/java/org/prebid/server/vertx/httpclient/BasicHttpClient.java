@@ -1,5 +1,6 @@
 package org.prebid.server.vertx.httpclient;
 
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
@@ -9,44 +10,109 @@ import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
+import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.IncrementalJsonParser;
+import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeoutException;
 
 /**
  * Simple wrapper around {@link HttpClient} with general functionality.
+ * <p>
+ * When {@link JacksonMapper} is given and caller requests it, JSON response bodies of at least the configured size
+ * are tokenized chunk by chunk while being received, so decoding them does not need another pass over the whole body.
  */
 public class BasicHttpClient implements HttpClient {
 
     private final Vertx vertx;
     private final io.vertx.core.http.HttpClient httpClient;
+    private final JacksonMapper mapper;
+    private final long incrementalJsonParsingMinSize;
 
     public BasicHttpClient(Vertx vertx, io.vertx.core.http.HttpClient httpClient) {
+        this(vertx, httpClient, null, 0L);
+    }
+
+    public BasicHttpClient(Vertx vertx,
+                           io.vertx.core.http.HttpClient httpClient,
+                           JacksonMapper mapper,
+                           long incrementalJsonParsingMinSize) {
+
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
+        this.mapper = mapper;
+        this.incrementalJsonParsingMinSize = incrementalJsonParsingMinSize;
     }
 
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                               String body, long timeoutMs, long maxResponseSize) {
 
-        return request(method, url, headers, timeoutMs, maxResponseSize, body != null ? body.getBytes() : null);
+        return request(method, url, headers, timeoutMs, maxResponseSize,
+                body != null ? body.getBytes() : null, null, false);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              byte[] body, long timeoutMs, long maxResponseSize) {
+
+        return request(method, url, headers, timeoutMs, maxResponseSize, body, null, false);
     }
 
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                              byte[] body, long timeoutMs, Future<Void> cancellation,
+                                              boolean parseJsonIncrementally) {
+
+        return request(
+                method, url, headers, timeoutMs, Long.MAX_VALUE, body, cancellation, parseJsonIncrementally);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, HttpTarget target, MultiMap headers,
                                               byte[] body, long timeoutMs, long maxResponseSize) {
 
-        return request(method, url, headers, timeoutMs, maxResponseSize, body);
+        return request(method, target, headers, timeoutMs, maxResponseSize, body, null, false);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, HttpTarget target, MultiMap headers,
+                                              byte[] body, long timeoutMs, Future<Void> cancellation,
+                                              boolean parseJsonIncrementally) {
+
+        return request(
+                method, target, headers, timeoutMs, Long.MAX_VALUE, body, cancellation, parseJsonIncrementally);
+    }
+
+    private Future<HttpClientResponse> request(HttpMethod method, HttpTarget target, MultiMap headers,
+                                               long timeoutMs, long maxResponseSize, byte[] body,
+                                               Future<Void> cancellation, boolean parseJsonIncrementally) {
+
+        if (timeoutMs <= 0) {
+            return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
+        }
+
+        final RequestOptions options = new RequestOptions()
+                .setSsl(target.isSsl())
+                .setHost(target.getHost())
+                .setPort(target.getPort())
+                .setURI(target.getUri());
+
+        return send(
+                method, options, headers, timeoutMs, maxResponseSize, body, cancellation, parseJsonIncrementally);
     }
 
     private Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
-                                               long timeoutMs, long maxResponseSize, byte[] body) {
+                                               long timeoutMs, long maxResponseSize, byte[] body,
+                                               Future<Void> cancellation, boolean parseJsonIncrementally) {
 
         if (timeoutMs <= 0) {
             return Future.failedFuture(new TimeoutException("Timeout has been exceeded"));
@@ -59,29 +125,46 @@ public class BasicHttpClient implements HttpClient {
             return Future.failedFuture(e);
         }
 
+        final RequestOptions options = new RequestOptions().setAbsoluteURI(absoluteUrl);
+        return send(
+                method, options, headers, timeoutMs, maxResponseSize, body, cancellation, parseJsonIncrementally);
+    }
+
+    private Future<HttpClientResponse> send(HttpMethod method, RequestOptions options, MultiMap headers,
+                                            long timeoutMs, long maxResponseSize, byte[] body,
+                                            Future<Void> cancellation, boolean parseJsonIncrementally) {
+
         final Promise<HttpClientResponse> responsePromise = Promise.promise();
         final long timerId = vertx.setTimer(timeoutMs, ignored ->
                 responsePromise.tryFail(
                         new TimeoutException("Timeout period of %dms has been exceeded".formatted(timeoutMs))));
+        if (cancellation != null) {
+            cancellation.onComplete(ignored ->
+                    responsePromise.tryFail(new CancellationException("Request has been cancelled")));
+        }
 
-        final RequestOptions options = new RequestOptions()
+        options
                 .setFollowRedirects(true)
                 .setConnectTimeout(timeoutMs)
                 .setMethod(method)
-                .setAbsoluteURI(absoluteUrl)
                 .setHeaders(headers);
 
         final Future<HttpClientRequest> requestFuture = makeRequest(options);
 
         requestFuture
                 .compose(request -> body != null ? request.send(Buffer.buffer(body)) : request.send())
-                .compose(response -> toInternalResponse(response, maxResponseSize))
+                .compose(response -> toInternalResponse(response, maxResponseSize, parseJsonIncrementally))
                 .onSuccess(responsePromise::tryComplete)
                 .onFailure(responsePromise::tryFail);
 
         return responsePromise.future()
                 .onComplete(ignored -> vertx.cancelTimer(timerId))
-                .onFailure(ignored -> requestFuture.onSuccess(HttpClientRequest::reset));
+                .onFailure(throwable -> {
+                    // only cancelled requests are reset, others keep the connection reusable
+                    if (throwable instanceof CancellationException) {
+                        requestFuture.onSuccess(HttpClientRequest::reset);
+                    }
+                });
     }
 
     private Future<HttpClientRequest> makeRequest(RequestOptions options) {
@@ -93,7 +176,8 @@ public class BasicHttpClient implements HttpClient {
     }
 
     private Future<HttpClientResponse> toInternalResponse(io.vertx.core.http.HttpClientResponse response,
-                                                          long maxResponseSize) {
+                                                          long maxResponseSize,
+                                                          boolean parseJsonIncrementally) {
 
         final String contentLength = response.getHeader(HttpHeaders.CONTENT_LENGTH);
         final long responseBodySize = contentLength != null ? Long.parseLong(contentLength) : 0;
@@ -102,6 +186,10 @@ public class BasicHttpClient implements HttpClient {
                     "Response size %d exceeded %d bytes limit".formatted(responseBodySize, maxResponseSize)));
         }
 
+        if (parseJsonIncrementally && shouldParseIncrementally(response, contentLength)) {
+            return parseIncrementally(response);
+        }
+
         return response.body()
                 .map(body -> HttpClientResponse.of(
                         response.statusCode(),
@@ -109,4 +197,34 @@ public class BasicHttpClient implements HttpClient {
                         body.toString(StandardCharsets.UTF_8)));
 
     }
+
+    /**
+     * Chunked responses (without content length) are parsed incrementally, since their size is not known upfront.
+     */
+    private boolean shouldParseIncrementally(io.vertx.core.http.HttpClientResponse response, String contentLength) {
+        return mapper != null
+                && StringUtils.startsWithIgnoreCase(
+                        response.getHeader(HttpHeaders.CONTENT_TYPE), HttpHeaderValues.APPLICATION_JSON)
+                && (contentLength == null || Long.parseLong(contentLength) >= incrementalJsonParsingMinSize);
+    }
+
+    private Future<HttpClientResponse> parseIncrementally(io.vertx.core.http.HttpClientResponse response) {
+        final Promise<HttpClientResponse> promise = Promise.promise();
+        final IncrementalJsonParser parser = mapper.incrementalParser();
+        final Buffer body = Buffer.buffer();
+
+        response
+                .handler(chunk -> {
+                    body.appendBuffer(chunk);
+                    parser.feed(chunk.getBytes());
+                })
+                .exceptionHandler(promise::tryFail)
+                .endHandler(ignored -> promise.tryComplete(HttpClientResponse.of(
+                        response.statusCode(),
+                        response.headers(),
+                        body.toString(StandardCharsets.UTF_8),
+                        parser.finish())));
+
+        return promise.future();
+    }
 }
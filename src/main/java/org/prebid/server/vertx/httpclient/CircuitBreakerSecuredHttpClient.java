@@ -3,6 +3,7 @@ package org.prebid.server.vertx.httpclient;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.exception.PreBidException;
@@ -12,14 +13,17 @@ import org.prebid.server.log.LoggerFactory;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.CircuitBreaker;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Clock;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Wrapper over {@link HttpClient} with circuit breaker functionality.
@@ -87,6 +91,72 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                 .onComplete(promise));
     }
 
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              HttpTarget target,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+        return circuitBreakerByName.computeIfAbsent(target.getOrigin(), circuitBreakerCreator)
+                .execute(promise ->
+                        httpClient.request(method, target, headers, body, timeoutMs, maxResponseSize)
+                                .onComplete(promise));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              Future<Void> cancellation,
+                                              boolean parseJsonIncrementally) {
+
+        return executeCancellable(
+                circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator),
+                () -> httpClient.request(
+                        method, url, headers, body, timeoutMs, cancellation, parseJsonIncrementally));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              HttpTarget target,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              Future<Void> cancellation,
+                                              boolean parseJsonIncrementally) {
+
+        return executeCancellable(
+                circuitBreakerByName.computeIfAbsent(target.getOrigin(), circuitBreakerCreator),
+                () -> httpClient.request(
+                        method, target, headers, body, timeoutMs, cancellation, parseJsonIncrementally));
+    }
+
+    /**
+     * Cancelled request tells nothing about the target availability, so it is reported to the circuit breaker
+     * as succeeded, while the caller still receives cancellation failure.
+     */
+    private static Future<HttpClientResponse> executeCancellable(
+            CircuitBreaker circuitBreaker,
+            Supplier<Future<HttpClientResponse>> requestSupplier) {
+
+        final Promise<HttpClientResponse> cancelledPromise = Promise.promise();
+        return circuitBreaker.<HttpClientResponse>execute(promise -> requestSupplier.get()
+                        .onComplete(result -> {
+                            if (result.failed() && result.cause() instanceof CancellationException) {
+                                cancelledPromise.fail(result.cause());
+                                promise.complete();
+                            } else {
+                                promise.handle(result);
+                            }
+                        }))
+                .compose(response -> cancelledPromise.future().failed()
+                        ? cancelledPromise.future()
+                        : Future.succeededFuture(response));
+    }
+
     private CircuitBreaker createCircuitBreaker(String name,
                                                 Vertx vertx,
                                                 int openingThreshold,
@@ -4,6 +4,7 @@ import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.http.HttpMethod;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 /**
  * Interface describes HTTP interactions.
@@ -26,6 +27,42 @@ public interface HttpClient {
         return request(method, url, headers, body, timeoutMs, Long.MAX_VALUE);
     }
 
+    /**
+     * Makes request to the already parsed url, implementations should avoid parsing it again.
+     */
+    default Future<HttpClientResponse> request(HttpMethod method, HttpTarget target, MultiMap headers,
+                                               byte[] body, long timeoutMs, long maxResponseSize) {
+        return request(method, target.getUrl(), headers, body, timeoutMs, maxResponseSize);
+    }
+
+    default Future<HttpClientResponse> request(HttpMethod method, HttpTarget target,
+                                               MultiMap headers, byte[] body, long timeoutMs) {
+        return request(method, target, headers, body, timeoutMs, Long.MAX_VALUE);
+    }
+
+    /**
+     * Makes request which is reset if the given cancellation future completes before the response is received.
+     * Null cancellation means request can't be cancelled, implementations not supporting cancellation ignore it.
+     * <p>
+     * If parsing JSON incrementally is requested, JSON response body may be tokenized while being received,
+     * implementations not supporting it return body only.
+     */
+    default Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
+                                               byte[] body, long timeoutMs, Future<Void> cancellation,
+                                               boolean parseJsonIncrementally) {
+        return request(method, url, headers, body, timeoutMs);
+    }
+
+    /**
+     * Makes request to the already parsed url, which is reset if the given cancellation future completes
+     * before the response is received.
+     */
+    default Future<HttpClientResponse> request(HttpMethod method, HttpTarget target, MultiMap headers,
+                                               byte[] body, long timeoutMs, Future<Void> cancellation,
+                                               boolean parseJsonIncrementally) {
+        return request(method, target, headers, body, timeoutMs);
+    }
+
     default Future<HttpClientResponse> get(String url, long timeoutMs, long maxResponseSize) {
         return request(HttpMethod.GET, url, null, (String) null, timeoutMs, maxResponseSize);
     }
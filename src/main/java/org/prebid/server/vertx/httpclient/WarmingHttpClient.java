@@ -0,0 +1,224 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.log.Logger;
+import org.prebid.server.log.LoggerFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Wrapper over {@link HttpClient} which keeps connections to bidder hosts warm.
+ * <p>
+ * Periodically sends the configured number of concurrent HEAD requests to each bidder host which was not used
+ * during the last period, so connection pool keeps established (and TLS negotiated) connections and resolver
+ * keeps host address cached. Requests to a bidder host which was not used during the last two periods
+ * are reported as cold connections of the bidder owning the host.
+ * <p>
+ * Instance is expected to be used from a single Vert.x context, so state is not synchronized.
+ */
+public class WarmingHttpClient implements HttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmingHttpClient.class);
+
+    private static final String MACRO_PREFIX = "{{";
+    private static final String HOST_DELIMITERS = "/?#";
+
+    private final HttpClient httpClient;
+    private final int minConnections;
+    private final long periodMs;
+    private final long timeoutMs;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, WarmUpTarget> hostToTarget;
+    private final Map<String, Long> hostToLastUsed;
+
+    public WarmingHttpClient(Vertx vertx,
+                             HttpClient httpClient,
+                             Map<String, String> bidderToEndpoint,
+                             int minConnections,
+                             long periodMs,
+                             long timeoutMs,
+                             Metrics metrics,
+                             Clock clock) {
+
+        if (minConnections < 1 || periodMs < 1 || timeoutMs < 1) {
+            throw new IllegalArgumentException(
+                    "Min connections, period and timeout should be greater than 0: "
+                            + "min connections=%d, period=%d, timeout=%d"
+                            .formatted(minConnections, periodMs, timeoutMs));
+        }
+
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.minConnections = minConnections;
+        this.periodMs = periodMs;
+        this.timeoutMs = timeoutMs;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        hostToTarget = createTargets(Objects.requireNonNull(bidderToEndpoint));
+        hostToLastUsed = new HashMap<>();
+
+        vertx.setPeriodic(1L, periodMs, ignored -> warmUp());
+
+        logger.info("Initialized HTTP client with warm-up of {} bidder hosts", hostToTarget.size());
+    }
+
+    private static Map<String, WarmUpTarget> createTargets(Map<String, String> bidderToEndpoint) {
+        final Map<String, WarmUpTarget> hostToTarget = new HashMap<>();
+        bidderToEndpoint.forEach((bidder, endpoint) -> {
+            final URL url = parseEndpoint(endpoint);
+            if (url != null) {
+                hostToTarget.putIfAbsent(
+                        url.getAuthority(),
+                        new WarmUpTarget(bidder, "%s://%s/".formatted(url.getProtocol(), url.getAuthority())));
+            }
+        });
+
+        return hostToTarget;
+    }
+
+    private static URL parseEndpoint(String endpoint) {
+        // hosts of endpoints with macros are known only at request time
+        if (StringUtils.isBlank(endpoint) || endpoint.contains(MACRO_PREFIX)) {
+            return null;
+        }
+
+        try {
+            return new URL(endpoint);
+        } catch (MalformedURLException e) {
+            logger.warn("Bidder endpoint {} is skipped from warm-up: {}", endpoint, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              String body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return request(url, () -> httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return request(url, () -> httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              HttpTarget target,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        return request(
+                target.getUrl(),
+                () -> httpClient.request(method, target, headers, body, timeoutMs, maxResponseSize));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              Future<Void> cancellation,
+                                              boolean parseJsonIncrementally) {
+
+        return request(
+                url,
+                () -> httpClient.request(
+                        method, url, headers, body, timeoutMs, cancellation, parseJsonIncrementally));
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              HttpTarget target,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              Future<Void> cancellation,
+                                              boolean parseJsonIncrementally) {
+
+        return request(
+                target.getUrl(),
+                () -> httpClient.request(
+                        method, target, headers, body, timeoutMs, cancellation, parseJsonIncrementally));
+    }
+
+    private Future<HttpClientResponse> request(String url, Supplier<Future<HttpClientResponse>> requestSupplier) {
+        final String host = hostOf(url);
+        final WarmUpTarget target = host != null ? hostToTarget.get(host) : null;
+        if (target == null) {
+            return requestSupplier.get();
+        }
+
+        final Long lastUsed = hostToLastUsed.get(host);
+        if (lastUsed == null || clock.millis() - lastUsed >= periodMs * 2) {
+            metrics.updateAdapterColdConnectionMetric(target.bidder());
+        }
+
+        return requestSupplier.get()
+                .onSuccess(ignored -> hostToLastUsed.put(host, clock.millis()));
+    }
+
+    /**
+     * Returns authority part of the given url without parsing it completely, since it is done for every request.
+     */
+    private static String hostOf(String url) {
+        final int schemeEnd = StringUtils.indexOf(url, "://");
+        if (schemeEnd < 0) {
+            return null;
+        }
+
+        final int hostStart = schemeEnd + 3;
+        int hostEnd = hostStart;
+        while (hostEnd < url.length() && HOST_DELIMITERS.indexOf(url.charAt(hostEnd)) < 0) {
+            hostEnd++;
+        }
+
+        return url.substring(hostStart, hostEnd);
+    }
+
+    private void warmUp() {
+        final long now = clock.millis();
+        hostToTarget.forEach((host, target) -> {
+            final Long lastUsed = hostToLastUsed.get(host);
+            if (lastUsed != null && now - lastUsed < periodMs) {
+                return;
+            }
+
+            for (int i = 0; i < minConnections; i++) {
+                httpClient.request(HttpMethod.HEAD, target.url(), null, (String) null, timeoutMs, Long.MAX_VALUE)
+                        .onSuccess(ignored -> hostToLastUsed.put(host, clock.millis()));
+            }
+        });
+    }
+
+    private record WarmUpTarget(String bidder, String url) {
+    }
+}
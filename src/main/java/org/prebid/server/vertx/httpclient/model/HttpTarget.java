@@ -0,0 +1,28 @@
+package org.prebid.server.vertx.httpclient.model;
+
+import lombok.Value;
+
+/**
+ * Holds already parsed and validated absolute url, so http client doesn't need to parse it again.
+ */
+@Value(staticConstructor = "of")
+public class HttpTarget {
+
+    String url;
+
+    /**
+     * Protocol, host and port (if specified) of the url.
+     */
+    String origin;
+
+    boolean ssl;
+
+    String host;
+
+    int port;
+
+    /**
+     * Path and query of the url.
+     */
+    String uri;
+}
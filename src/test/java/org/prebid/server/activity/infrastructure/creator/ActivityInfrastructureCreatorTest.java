@@ -209,4 +209,61 @@ public class ActivityInfrastructureCreatorTest {
         assertThat(controllers.get(Activity.TRANSMIT_UFPD).isAllowed(null)).isEqualTo(false);
         assertThat(controllers.get(Activity.TRANSMIT_EIDS).isAllowed(null)).isEqualTo(false);
     }
+
+    @Test
+    public void getOrCreateShouldReuseActivityInfrastructureForSameAccountPrivacyConfig() {
+        // given
+        final GppContext gppContext = GppContextCreator.from(null, null).build().getGppContext();
+
+        // when
+        final ActivityInfrastructure first = creator.getOrCreate(givenAccount("id", false), gppContext);
+        final ActivityInfrastructure second = creator.getOrCreate(givenAccount("id", false), gppContext);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.isAllowed(Activity.CALL_BIDDER, null)).isFalse();
+    }
+
+    @Test
+    public void getOrCreateShouldRebuildActivityInfrastructureWhenAccountPrivacyConfigChanged() {
+        // given
+        final GppContext gppContext = GppContextCreator.from(null, null).build().getGppContext();
+
+        // when
+        final ActivityInfrastructure first = creator.getOrCreate(givenAccount("id", false), gppContext);
+        final ActivityInfrastructure second = creator.getOrCreate(givenAccount("id", true), gppContext);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.isAllowed(Activity.CALL_BIDDER, null)).isTrue();
+    }
+
+    @Test
+    public void getOrCreateShouldNotReuseActivityInfrastructureIfPrivacyModulesCanBeSkipped() {
+        // given
+        final Account account = Account.builder()
+                .id("id")
+                .privacy(AccountPrivacyConfig.builder()
+                        .modules(singletonList(AccountUSNatModuleConfig.of(null, 50, null)))
+                        .build())
+                .build();
+        final GppContext gppContext = GppContextCreator.from(null, null).build().getGppContext();
+
+        // when
+        final ActivityInfrastructure first = creator.getOrCreate(account, gppContext);
+        final ActivityInfrastructure second = creator.getOrCreate(account, gppContext);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+    }
+
+    private static Account givenAccount(String id, boolean callBidderAllowed) {
+        return Account.builder()
+                .id(id)
+                .privacy(AccountPrivacyConfig.builder()
+                        .activities(Map.of(
+                                Activity.CALL_BIDDER, AccountActivityConfiguration.of(callBidderAllowed, null)))
+                        .build())
+                .build();
+    }
 }
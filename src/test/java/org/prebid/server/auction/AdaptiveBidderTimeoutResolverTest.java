@@ -0,0 +1,160 @@
+package org.prebid.server.auction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.AccountAdaptiveTimeoutConfig;
+import org.prebid.server.settings.model.AccountAuctionConfig;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AdaptiveBidderTimeoutResolverTest {
+
+    private static final Account ACCOUNT = Account.empty("accountId");
+
+    @Mock
+    private Metrics metrics;
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+    @Test
+    public void creationShouldFailOnInvalidLatencyPercentile() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveBidderTimeoutResolver(
+                true, 1.5, 1.5, 50L, 10L, true, 0.5, 0.05, 0.0, metrics, clock));
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidShedRate() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveBidderTimeoutResolver(
+                true, 0.95, 1.5, 50L, 10L, true, -0.5, 0.05, 0.0, metrics, clock));
+    }
+
+    @Test
+    public void resolveTimeoutShouldReturnGivenTimeoutIfNotEnoughSamples() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(true, false);
+        givenResponses(target, 9, 100L, false, true);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", ACCOUNT, 1000L)).isEqualTo(1000L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldLimitTimeoutToLatencyPercentileMultipliedByFactor() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(true, false);
+        givenResponses(target, 10, 100L, false, true);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", ACCOUNT, 1000L)).isEqualTo(150L);
+        assertThat(target.resolveTimeout("bidder", ACCOUNT, 120L)).isEqualTo(120L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldNotReturnLessThanMinTimeout() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(true, false);
+        givenResponses(target, 10, 10L, false, true);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", ACCOUNT, 1000L)).isEqualTo(50L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldReturnGivenTimeoutIfDisabledForAccount() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(true, false);
+        givenResponses(target, 10, 100L, false, true);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", givenAccount(false, null), 1000L)).isEqualTo(1000L);
+    }
+
+    @Test
+    public void resolveTimeoutShouldReturnGivenTimeoutIfDisabled() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(false, false);
+        givenResponses(target, 10, 100L, false, true);
+
+        // when and then
+        assertThat(target.resolveTimeout("bidder", ACCOUNT, 1000L)).isEqualTo(1000L);
+    }
+
+    @Test
+    public void shouldShedShouldReturnTrueForChronicallyLateBidderWithoutBids() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(true, true);
+        givenResponses(target, 10, 1000L, true, false);
+
+        // when and then
+        assertThat(target.shouldShed("bidder", ACCOUNT)).isTrue();
+        verify(metrics).updateAdapterRequestErrorMetric("bidder", MetricName.shed);
+    }
+
+    @Test
+    public void shouldShedShouldReturnFalseForLateBidderWithBids() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(true, true);
+        givenResponses(target, 10, 1000L, true, true);
+
+        // when and then
+        assertThat(target.shouldShed("bidder", ACCOUNT)).isFalse();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void shouldShedShouldReturnFalseForLateBidderIfSheddingIsDisabledForAccount() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(true, true);
+        givenResponses(target, 10, 1000L, true, false);
+
+        // when and then
+        assertThat(target.shouldShed("bidder", givenAccount(null, false))).isFalse();
+    }
+
+    @Test
+    public void shouldShedShouldReturnTrueForLateBidderIfSheddingIsEnabledForAccount() {
+        // given
+        final AdaptiveBidderTimeoutResolver target = givenResolver(true, false);
+        givenResponses(target, 10, 1000L, true, false);
+
+        // when and then
+        assertThat(target.shouldShed("bidder", givenAccount(null, true))).isTrue();
+    }
+
+    private AdaptiveBidderTimeoutResolver givenResolver(boolean enabled, boolean shedLateBidders) {
+        return new AdaptiveBidderTimeoutResolver(
+                enabled, 0.95, 1.5, 50L, 10L, shedLateBidders, 0.5, 0.05, 0.0, metrics, clock);
+    }
+
+    private static void givenResponses(AdaptiveBidderTimeoutResolver target,
+                                       int count,
+                                       long responseTime,
+                                       boolean timedOut,
+                                       boolean hasBids) {
+
+        IntStream.range(0, count).forEach(i -> target.recordResponse("bidder", responseTime, timedOut, hasBids));
+    }
+
+    private static Account givenAccount(Boolean enabled, Boolean shedLateBidders) {
+        return Account.builder()
+                .id("accountId")
+                .auction(AccountAuctionConfig.builder()
+                        .adaptiveTimeout(AccountAdaptiveTimeoutConfig.of(enabled, shedLateBidders))
+                        .build())
+                .build();
+    }
+}
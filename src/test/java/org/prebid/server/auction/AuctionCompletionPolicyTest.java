@@ -0,0 +1,302 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.response.Bid;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidRejectionReason;
+import org.prebid.server.auction.model.BidRejectionTracker;
+import org.prebid.server.auction.model.BidderRequest;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.TimeoutContext;
+import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.currency.CurrencyConversionService;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
+import org.prebid.server.proto.openrtb.ext.request.ExtRequestTargeting;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class AuctionCompletionPolicyTest {
+
+    @Mock
+    private AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private BidderCatalog bidderCatalog;
+    @Mock
+    private CurrencyConversionService currencyConversionService;
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+    private AuctionContext auctionContext;
+
+    private BidderAliases aliases;
+
+    private Map<String, Promise<BidderResponse>> bidderToPromise;
+
+    private Map<String, Future<Void>> bidderToCancellation;
+
+    @BeforeEach
+    public void setUp() {
+        final Map<String, BidRejectionTracker> bidRejectionTrackers = new HashMap<>();
+        bidRejectionTrackers.put("bidder1", new BidRejectionTracker("bidder1", Set.of("impId"), 0));
+        bidRejectionTrackers.put("bidder2", new BidRejectionTracker("bidder2", Set.of("impId"), 0));
+
+        auctionContext = AuctionContext.builder()
+                .bidRequest(givenBidRequest(true))
+                .bidRejectionTrackers(bidRejectionTrackers)
+                .timeoutContext(TimeoutContext.of(clock.millis(), null, 0))
+                .build();
+        aliases = BidderAliases.of(null, null, bidderCatalog);
+        bidderToPromise = new HashMap<>();
+        bidderToCancellation = new HashMap<>();
+    }
+
+    @Test
+    public void requestBidsShouldWaitForAllBiddersIfDisabled() {
+        // given
+        final AuctionCompletionPolicy target = givenPolicy(false);
+
+        // when
+        final Future<List<AuctionParticipation>> result = requestBids(target);
+        complete("bidder1", givenBidderBid("dealId"));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+
+        complete("bidder2");
+        assertThat(result.result())
+                .extracting(AuctionParticipation::getBidder)
+                .containsExactly("bidder1", "bidder2");
+        assertThat(bidderToCancellation.values()).containsOnlyNulls();
+        verifyNoInteractions(adaptiveBidderTimeoutResolver, metrics);
+    }
+
+    @Test
+    public void requestBidsShouldCompleteEarlyWhenAllImpsOfPendingBidderHaveDealBids() {
+        // given
+        given(adaptiveBidderTimeoutResolver.bidRate("bidder2")).willReturn(null);
+        final AuctionCompletionPolicy target = givenPolicy(true);
+
+        // when
+        final Future<List<AuctionParticipation>> result = requestBids(target);
+        complete("bidder1", givenBidderBid("dealId"));
+
+        // then
+        assertThat(result.result()).hasSize(2);
+        assertThat(result.result().get(1).getBidderResponse().getSeatBid().getErrors())
+                .extracting(BidderError::getType)
+                .containsExactly(BidderError.Type.timeout);
+        assertThat(auctionContext.getBidRejectionTrackers().get("bidder2").getRejectedImps())
+                .containsOnly(entry("impId", BidRejectionReason.ERROR_TIMED_OUT));
+        verify(metrics).updateEarlyCompletedAuctionMetric();
+    }
+
+    @Test
+    public void requestBidsShouldNotCompleteEarlyOnDealBidsIfRequestDoesNotPreferDeals() {
+        // given
+        auctionContext = auctionContext.toBuilder().bidRequest(givenBidRequest(false)).build();
+        given(adaptiveBidderTimeoutResolver.bidRate("bidder2")).willReturn(null);
+        final AuctionCompletionPolicy target = givenPolicy(true);
+
+        // when
+        final Future<List<AuctionParticipation>> result = requestBids(target);
+        complete("bidder1", givenBidderBid("dealId"));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void requestBidsShouldCancelRequestsOfPendingBiddersOnEarlyCompletion() {
+        // given
+        given(adaptiveBidderTimeoutResolver.bidRate("bidder2")).willReturn(0.0);
+        final AuctionCompletionPolicy target = givenPolicy(true);
+
+        // when
+        requestBids(target);
+
+        // then
+        final Future<Void> cancellation = bidderToCancellation.get("bidder2");
+        assertThat(cancellation.isComplete()).isFalse();
+
+        complete("bidder1", givenBidderBid(null));
+        assertThat(cancellation.isComplete()).isTrue();
+    }
+
+    @Test
+    public void requestBidsShouldReportRevenueLostByLateBidsBeatingBidsReceivedInTime() {
+        // given
+        given(adaptiveBidderTimeoutResolver.bidRate("bidder2")).willReturn(null);
+        given(currencyConversionService.convertCurrency(any(), any(BidRequest.class), any(), any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        final AuctionCompletionPolicy target = new AuctionCompletionPolicy(
+                true, true, 0.0, false, adaptiveBidderTimeoutResolver, currencyConversionService, metrics, clock);
+
+        // when
+        final Future<List<AuctionParticipation>> result = requestBids(target);
+        complete("bidder1", givenBidderBid("dealId", "1.5"));
+        complete("bidder2", givenBidderBid(null, "2"), givenBidderBid(null, "1.75"));
+
+        // then
+        assertThat(bidderToCancellation.get("bidder2")).isNull();
+        assertThat(result.result().get(1).getBidderResponse().getSeatBid().getBids()).isEmpty();
+        verify(metrics).updateEarlyCompletedAuctionLostRevenueMetric(500_000L);
+    }
+
+    @Test
+    public void requestBidsShouldNotReportLostRevenueForLateBidsNotBeatingBidsReceivedInTime() {
+        // given
+        given(adaptiveBidderTimeoutResolver.bidRate("bidder2")).willReturn(null);
+        given(currencyConversionService.convertCurrency(any(), any(BidRequest.class), any(), any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        final AuctionCompletionPolicy target = new AuctionCompletionPolicy(
+                true, true, 0.0, false, adaptiveBidderTimeoutResolver, currencyConversionService, metrics, clock);
+
+        // when
+        requestBids(target);
+        complete("bidder1", givenBidderBid("dealId", "1.5"));
+        complete("bidder2", givenBidderBid(null, "1"));
+
+        // then
+        verify(metrics, never()).updateEarlyCompletedAuctionLostRevenueMetric(anyLong());
+    }
+
+    @Test
+    public void requestBidsShouldCompleteEarlyWhenPendingBidderRarelyBids() {
+        // given
+        given(adaptiveBidderTimeoutResolver.bidRate("bidder2")).willReturn(0.0);
+        final AuctionCompletionPolicy target = givenPolicy(true);
+
+        // when
+        final Future<List<AuctionParticipation>> result = requestBids(target);
+        complete("bidder1", givenBidderBid(null));
+
+        // then
+        assertThat(result.isComplete()).isTrue();
+        verify(metrics).updateEarlyCompletedAuctionMetric();
+    }
+
+    @Test
+    public void requestBidsShouldNotCompleteEarlyWhenPendingBidderMayChangeResult() {
+        // given
+        given(adaptiveBidderTimeoutResolver.bidRate("bidder2")).willReturn(0.5);
+        final AuctionCompletionPolicy target = givenPolicy(true);
+
+        // when
+        final Future<List<AuctionParticipation>> result = requestBids(target);
+        complete("bidder1", givenBidderBid(null));
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+
+        complete("bidder2");
+        assertThat(result.succeeded()).isTrue();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void requestBidsShouldCompleteImmediatelyWhenThereAreNoParticipations() {
+        // given
+        final AuctionCompletionPolicy target = givenPolicy(true);
+
+        // when
+        final Future<List<AuctionParticipation>> result = target.requestBids(
+                auctionContext,
+                emptyList(),
+                aliases,
+                (auctionParticipation, cancellation) -> Future.failedFuture("Unexpected request"));
+
+        // then
+        assertThat(result.result()).isEmpty();
+        verifyNoInteractions(adaptiveBidderTimeoutResolver, metrics);
+    }
+
+    private AuctionCompletionPolicy givenPolicy(boolean enabled) {
+        return new AuctionCompletionPolicy(
+                enabled, true, 0.0, true, adaptiveBidderTimeoutResolver, currencyConversionService, metrics, clock);
+    }
+
+    private Future<List<AuctionParticipation>> requestBids(AuctionCompletionPolicy target) {
+        return target.requestBids(
+                auctionContext,
+                List.of(givenAuctionParticipation("bidder1"), givenAuctionParticipation("bidder2")),
+                aliases,
+                (auctionParticipation, cancellation) -> {
+                    final Promise<BidderResponse> promise = Promise.promise();
+                    bidderToPromise.put(auctionParticipation.getBidder(), promise);
+                    bidderToCancellation.put(auctionParticipation.getBidder(), cancellation);
+                    return promise.future().map(auctionParticipation::with);
+                });
+    }
+
+    private void complete(String bidder, BidderBid... bids) {
+        bidderToPromise.get(bidder).complete(
+                BidderResponse.of(bidder, BidderSeatBid.builder().bids(List.of(bids)).build(), 10));
+    }
+
+    private static BidRequest givenBidRequest(boolean preferDeals) {
+        return BidRequest.builder()
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .targeting(ExtRequestTargeting.builder().preferdeals(preferDeals).build())
+                        .build()))
+                .build();
+    }
+
+    private static AuctionParticipation givenAuctionParticipation(String bidder) {
+        return AuctionParticipation.builder()
+                .bidder(bidder)
+                .bidderRequest(BidderRequest.builder()
+                        .bidder(bidder)
+                        .bidRequest(BidRequest.builder()
+                                .imp(List.of(Imp.builder().id("impId").build()))
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private static BidderBid givenBidderBid(String dealId) {
+        return givenBidderBid(dealId, "1");
+    }
+
+    private static BidderBid givenBidderBid(String dealId, String price) {
+        return BidderBid.of(
+                Bid.builder().impid("impId").dealid(dealId).price(new BigDecimal(price)).build(),
+                BidType.banner,
+                "USD");
+    }
+}
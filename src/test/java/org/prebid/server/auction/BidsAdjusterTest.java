@@ -6,6 +6,7 @@ import com.iab.openrtb.response.Bid;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
@@ -19,9 +20,11 @@ import org.prebid.server.bidder.model.BidderBid;
 import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.floors.PriceFloorEnforcer;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequest;
 import org.prebid.server.proto.openrtb.ext.request.ExtRequestPrebid;
 import org.prebid.server.validation.ResponseBidValidator;
+import org.prebid.server.validation.model.ResponseBidValidationContext;
 import org.prebid.server.validation.model.ValidationResult;
 
 import java.math.BigDecimal;
@@ -37,8 +40,13 @@ import static java.util.Collections.singletonMap;
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.prebid.server.proto.openrtb.ext.response.BidType.banner;
 
@@ -57,18 +65,22 @@ public class BidsAdjusterTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private BidAdjustmentsProcessor bidAdjustmentsProcessor;
 
+    @Mock
+    private Metrics metrics;
+
     private BidsAdjuster target;
 
     @BeforeEach
     public void setUp() {
-        given(responseBidValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.success());
+        given(responseBidValidator.validate(any(), any(), any(), any(), any())).willReturn(ValidationResult.success());
 
         given(priceFloorEnforcer.enforce(any(), any(), any(), any())).willAnswer(inv -> inv.getArgument(1));
         given(dsaEnforcer.enforce(any(), any(), any())).willAnswer(inv -> inv.getArgument(1));
         given(bidAdjustmentsProcessor.enrichWithAdjustedBids(any(), any(), any()))
                 .willAnswer(inv -> inv.getArgument(0));
 
-        target = new BidsAdjuster(responseBidValidator, priceFloorEnforcer, bidAdjustmentsProcessor, dsaEnforcer);
+        target = new BidsAdjuster(
+                responseBidValidator, priceFloorEnforcer, bidAdjustmentsProcessor, dsaEnforcer, metrics);
     }
 
     @Test
@@ -213,7 +225,7 @@ public class BidsAdjusterTest extends VertxTest {
                         .auctiontimestamp(1000L)
                         .build())));
 
-        when(responseBidValidator.validate(any(), any(), any(), any()))
+        when(responseBidValidator.validate(any(), any(), any(), any(), any()))
                 .thenReturn(ValidationResult.error("Error: bid validation error."));
 
         final List<AuctionParticipation> auctionParticipations = givenAuctionParticipation(bidderResponse, bidRequest);
@@ -256,7 +268,7 @@ public class BidsAdjusterTest extends VertxTest {
                         .auctiontimestamp(1000L)
                         .build())));
 
-        when(responseBidValidator.validate(any(), any(), any(), any()))
+        when(responseBidValidator.validate(any(), any(), any(), any(), any()))
                 .thenReturn(ValidationResult.warning(singletonList("Error: bid validation warning.")));
 
         final List<AuctionParticipation> auctionParticipations = givenAuctionParticipation(bidderResponse, bidRequest);
@@ -313,6 +325,39 @@ public class BidsAdjusterTest extends VertxTest {
         assertThat(firstSeatBid.getWarnings()).containsOnly(expectedWarning);
     }
 
+    @Test
+    public void shouldShareValidationContextBetweenBidsOfBidderResponseAndUpdateValidationTimeMetric() {
+        // given
+        final BidderResponse bidderResponse = BidderResponse.of(
+                "bidder",
+                BidderSeatBid.builder()
+                        .bids(List.of(
+                                givenBidderBid(Bid.builder().id("bidId1").impid("impId1").build()),
+                                givenBidderBid(Bid.builder().id("bidId2").impid("impId1").build())))
+                        .build(),
+                1);
+
+        final BidRequest bidRequest = givenBidRequest(
+                singletonList(givenImp(singletonMap("bidder", 2), builder -> builder.id("impId1"))),
+                identity());
+
+        final List<AuctionParticipation> auctionParticipations = givenAuctionParticipation(bidderResponse, bidRequest);
+        final AuctionContext auctionContext = givenAuctionContext(bidRequest);
+
+        // when
+        target.validateAndAdjustBids(auctionParticipations, auctionContext, null);
+
+        // then
+        final ArgumentCaptor<ResponseBidValidationContext> contextCaptor =
+                ArgumentCaptor.forClass(ResponseBidValidationContext.class);
+        verify(responseBidValidator, times(2))
+                .validate(any(), eq("bidder"), contextCaptor.capture(), same(auctionContext), any());
+        assertThat(contextCaptor.getAllValues()).hasSize(2).doesNotContainNull();
+        assertThat(contextCaptor.getAllValues().get(0)).isSameAs(contextCaptor.getAllValues().get(1));
+
+        verify(metrics).updateBidValidationTimeMetric(anyLong());
+    }
+
     private List<AuctionParticipation> givenAuctionParticipation(
             BidderResponse bidderResponse, BidRequest bidRequest) {
 
@@ -37,6 +37,7 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -126,6 +127,30 @@ public class CurrencyConversionServiceTest extends VertxTest {
         assertThat(convertedPrice).isSameAs(price);
     }
 
+    @Test
+    public void conversionRateShouldReturnNullIfCurrenciesAreEqual() {
+        // when
+        final BigDecimal conversionRate = currencyService.conversionRate(
+                givenBidRequestWithCurrencies(null, false), USD, null);
+
+        // then
+        assertThat(conversionRate).isNull();
+    }
+
+    @Test
+    public void conversionRateShouldReturnRateThatGivesSameResultAsConvertCurrency() {
+        // given
+        final BidRequest bidRequest = givenBidRequestWithCurrencies(null, false);
+        final BigDecimal price = BigDecimal.valueOf(3.33);
+
+        // when
+        final BigDecimal conversionRate = currencyService.conversionRate(bidRequest, EUR, GBP);
+
+        // then
+        assertThat(CurrencyConversionService.convertCurrency(price, conversionRate))
+                .isEqualTo(currencyService.convertCurrency(price, bidRequest, EUR, GBP));
+    }
+
     @Test
     public void convertCurrencyShouldUseUSDByDefaultIfBidCurrencyIsNull() {
         // given
@@ -279,6 +304,35 @@ public class CurrencyConversionServiceTest extends VertxTest {
         assertThat(price).isEqualByComparingTo(BigDecimal.valueOf(4));
     }
 
+    @Test
+    public void convertCurrencyShouldUseIntermediateRateResolvedFromExternalRates() {
+        // when
+        final BigDecimal price = currencyService.convertCurrency(BigDecimal.ONE,
+                givenBidRequestWithCurrencies(null, null), GBP, UAH);
+
+        // then
+        assertThat(price).isEqualByComparingTo(BigDecimal.valueOf(6.5));
+    }
+
+    @Test
+    public void convertCurrencyShouldUseReverseRateResolvedFromExternalRatesForCurrencyWithoutOwnRates() {
+        // when
+        final BigDecimal price = currencyService.convertCurrency(BigDecimal.TEN,
+                givenBidRequestWithCurrencies(null, null), EUR, UAH);
+
+        // then
+        assertThat(price).isEqualByComparingTo(BigDecimal.valueOf(50));
+    }
+
+    @Test
+    public void getExternalCurrencyRatesShouldReturnRatesReceivedFromCurrencyServer() {
+        // when and then
+        assertThat(currencyService.getExternalCurrencyRates())
+                .containsOnly(
+                        entry(GBP, singletonMap(EUR, BigDecimal.valueOf(1.3))),
+                        entry(UAH, singletonMap(EUR, BigDecimal.valueOf(0.2))));
+    }
+
     @Test
     public void convertCurrencyShouldReturnSamePriceIfBidCurrencyIsNullAndServerCurrencyUSD() {
         // when
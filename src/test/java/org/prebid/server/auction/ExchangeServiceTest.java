@@ -68,6 +68,7 @@ import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.bidder.model.Price;
 import org.prebid.server.cookie.UidsCookie;
+import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.timeout.Timeout;
@@ -238,6 +239,12 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock(strictness = LENIENT)
     private TimeoutFactory timeoutFactory;
 
+    @Mock(strictness = LENIENT)
+    private AdaptiveBidderTimeoutResolver adaptiveBidderTimeoutResolver;
+
+    @Mock
+    private CurrencyConversionService currencyService;
+
     @Mock(strictness = LENIENT)
     private BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
 
@@ -388,6 +395,9 @@ public class ExchangeServiceTest extends VertxTest {
         given(timeoutResolver.adjustForRequest(anyLong(), anyLong()))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
+        given(adaptiveBidderTimeoutResolver.resolveTimeout(anyString(), any(), anyLong()))
+                .willAnswer(invocation -> invocation.getArgument(2));
+
         given(timeoutFactory.create(anyLong()))
                 .willReturn(timeout);
 
@@ -580,7 +590,8 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(
+                        same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final BidderRequest capturedBidRequest1 = bidRequest1Captor.getValue();
         assertThat(capturedBidRequest1.getBidRequest().getImp()).hasSize(2)
                 .extracting(imp -> imp.getExt().get("bidder").asInt())
@@ -588,7 +599,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(
+                        same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final BidderRequest capturedBidRequest2 = bidRequest2Captor.getValue();
         assertThat(capturedBidRequest2.getBidRequest().getImp()).hasSize(1)
                 .element(0).returns(2, imp -> imp.getExt().get("bidder").asInt());
@@ -719,7 +731,8 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(
+                        same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean(), any());
 
         final BidderRequest capturedBidRequest1 = bidRequest1Captor.getValue();
         final ExtRequestPrebid prebid1 = capturedBidRequest1.getBidRequest().getExt().getPrebid();
@@ -731,7 +744,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(
+                        same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final BidRequest capturedBidRequest2 = bidRequest2Captor.getValue().getBidRequest();
         final ExtRequestPrebid prebid2 = capturedBidRequest2.getExt().getPrebid();
         assertThat(prebid2).isNotNull();
@@ -785,7 +799,8 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequest1Captor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(
+                        same(bidder1), bidRequest1Captor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final BidRequest capturedBidRequest1 = bidRequest1Captor.getValue().getBidRequest();
         final SupplyChain requestSchain1 = capturedBidRequest1.getSource().getSchain();
         assertThat(requestSchain1).isNotNull();
@@ -794,7 +809,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         final ArgumentCaptor<BidderRequest> bidRequest2Captor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(
+                        same(bidder2), bidRequest2Captor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final BidRequest capturedBidRequest2 = bidRequest2Captor.getValue().getBidRequest();
         final SupplyChain requestSchain2 = capturedBidRequest2.getSource().getSchain();
         assertThat(requestSchain2).isNotNull();
@@ -803,7 +819,8 @@ public class ExchangeServiceTest extends VertxTest {
 
         final ArgumentCaptor<BidderRequest> bidRequest3Captor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder3), bidRequest3Captor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(
+                        same(bidder3), bidRequest3Captor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final BidRequest capturedBidRequest3 = bidRequest3Captor.getValue().getBidRequest();
         final SupplyChain requestSchain3 = capturedBidRequest3.getSource().getSchain();
         assertThat(requestSchain3).isNotNull();
@@ -835,7 +852,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -872,7 +889,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -917,7 +934,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -953,7 +970,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -987,7 +1004,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
 
         final BidRequest capturedBidRequest = bidRequestCaptor.getValue().getBidRequest();
         assertThat(capturedBidRequest)
@@ -1079,7 +1096,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         assertThat(bidRequestCaptor.getValue().getStoredResponse())
                 .contains("test-second-value");
     }
@@ -1105,7 +1122,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         assertThat(bidRequestCaptor.getValue().getBidRequest().getImp()).hasSize(1)
                 .extracting(imp -> imp.getExt().get("bidder").asInt())
                 .contains(1);
@@ -1130,7 +1147,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         assertThat(bidRequestCaptor.getValue().getBidRequest().getImp()).hasSize(1)
                 .extracting(imp -> imp.getExt().get("bidder").asInt())
                 .contains(1);
@@ -1157,7 +1174,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidderRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidderRequests).hasSize(2)
@@ -1187,9 +1204,10 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(same(bidder), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         verify(httpBidderRequester)
-                .requestBids(same(bidderAlias), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(
+                        same(bidderAlias), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
 
         final List<BidderRequest> capturedBidderRequests = bidRequestCaptor.getAllValues();
 
@@ -1215,6 +1233,38 @@ public class ExchangeServiceTest extends VertxTest {
         assertThat(result.getBidResponse().getSeatbid()).isEmpty();
     }
 
+    @Test
+    public void shouldNotCallBidderWhenAdaptiveBidderTimeoutResolverShedsIt() {
+        // given
+        given(adaptiveBidderTimeoutResolver.shouldShed(eq("someBidder"), any())).willReturn(true);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp("impId", singletonMap("someBidder", 1)));
+
+        // when
+        final AuctionContext result = target.holdAuction(givenRequestContext(bidRequest)).result();
+
+        // then
+        verifyNoInteractions(httpBidderRequester);
+        assertThat(result.getBidRejectionTrackers().get("someBidder").getRejectedImps())
+                .containsOnly(entry("impId", BidRejectionReason.REQUEST_BLOCKED_GENERAL));
+    }
+
+    @Test
+    public void shouldCallBidderWithTimeoutResolvedByAdaptiveBidderTimeoutResolver() {
+        // given
+        givenBidder(givenEmptySeatBid());
+        given(adaptiveBidderTimeoutResolver.resolveTimeout(eq("someBidder"), any(), anyLong())).willReturn(100L);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        target.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(timeoutFactory).create(anyLong(), eq(100L));
+        verify(adaptiveBidderTimeoutResolver).recordResponse(eq("someBidder"), anyLong(), eq(false), eq(false));
+    }
+
     @Test
     public void shouldReturnSeparateSeatBidsForTheSameBidderIfBiddersAliasAndBidderWereUsedWithinSingleImp() {
         // given
@@ -1236,7 +1286,8 @@ public class ExchangeServiceTest extends VertxTest {
                 any(),
                 any(),
                 any(),
-                anyBoolean()))
+                anyBoolean(),
+                any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().impid("1").price(BigDecimal.ONE).build())))));
 
@@ -1258,7 +1309,8 @@ public class ExchangeServiceTest extends VertxTest {
                 any(),
                 any(),
                 any(),
-                anyBoolean()))
+                anyBoolean(),
+                any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().impid("1").price(BigDecimal.ONE).build())))));
 
@@ -1281,7 +1333,7 @@ public class ExchangeServiceTest extends VertxTest {
 
         // then
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any());
         assertThat(result.getBidResponse().getSeatbid()).hasSize(2)
                 .extracting(seatBid -> seatBid.getBid().size())
                 .containsOnly(1, 1);
@@ -1291,7 +1343,7 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldPropagateFledgeResponseWithBidderAlias() {
         // given
         final FledgeAuctionConfig fledgeAuctionConfig = givenFledgeAuctionConfig("impId");
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenEmptySeatBid()
                         .toBuilder()
                         .fledgeAuctionConfigs(List.of(fledgeAuctionConfig))
@@ -1312,7 +1364,7 @@ public class ExchangeServiceTest extends VertxTest {
         target.holdAuction(givenRequestContext(bidRequest));
 
         verify(httpBidderRequester, times(1))
-                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any());
 
         // then
         final BidRequest capturedBidRequest = captureBidRequest();
@@ -1345,7 +1397,7 @@ public class ExchangeServiceTest extends VertxTest {
         given(debugResolver.resolveDebugForBidder(any(), eq("bidder")))
                 .willReturn(true);
 
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(true)))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(true), any()))
                 .willReturn(Future.succeededFuture(BidderSeatBid.builder()
                         .httpCalls(singletonList(ExtHttpCall.builder().build()))
                         .build()));
@@ -1362,7 +1414,7 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext result = target.holdAuction(auctionContext).result();
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(true));
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(true), any());
 
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(bidResponseCreator).create(captor.capture(), any(), any(), anyMap());
@@ -1377,7 +1429,7 @@ public class ExchangeServiceTest extends VertxTest {
         final BidderSeatBid bidderSeatBid = BidderSeatBid.builder()
                 .httpCalls(singletonList(ExtHttpCall.builder().build()))
                 .build();
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(true)))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(true), any()))
                 .willReturn(Future.succeededFuture(bidderSeatBid));
 
         given(bidResponseCreator.create(any(), any(), any(), any()))
@@ -1399,7 +1451,7 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext result = target.holdAuction(auctionContext).result();
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(true));
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(true), any());
 
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(bidResponseCreator).create(captor.capture(), any(), any(), anyMap());
@@ -1413,7 +1465,7 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldNotAddDebugInfoIfPublisherIsNotAllowedToDebug() {
         // given
         final BidderSeatBid bidderSeatBid = BidderSeatBid.empty();
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(false)))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(false), any()))
                 .willReturn(Future.succeededFuture(bidderSeatBid));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -1430,7 +1482,7 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext result = target.holdAuction(auctionContext).result();
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(false));
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(false), any());
 
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(bidResponseCreator).create(captor.capture(), any(), any(), anyMap());
@@ -1444,7 +1496,7 @@ public class ExchangeServiceTest extends VertxTest {
     public void shouldNotAddDebugInfoIfBidderDisabledDebug() {
         // given
         final BidderSeatBid bidderSeatBid = BidderSeatBid.empty();
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(false)))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), eq(false), any()))
                 .willReturn(Future.succeededFuture(bidderSeatBid));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -1461,7 +1513,7 @@ public class ExchangeServiceTest extends VertxTest {
         final AuctionContext result = target.holdAuction(auctionContext).result();
 
         // then
-        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(false));
+        verify(httpBidderRequester).requestBids(any(), any(), any(), any(), any(), any(), eq(false), any());
 
         final ArgumentCaptor<AuctionContext> captor = ArgumentCaptor.forClass(AuctionContext.class);
         verify(bidResponseCreator).create(captor.capture(), any(), any(), anyMap());
@@ -1909,7 +1961,7 @@ public class ExchangeServiceTest extends VertxTest {
                 builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
                         .data(ExtRequestPrebidData.of(singletonList("someBidder"), null))
                         .build())));
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().price(TEN).build())))));
 
@@ -1927,7 +1979,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         assertThat(bidderRequestCaptor.getAllValues())
                 .extracting(BidderRequest::getBidRequest)
                 .flatExtracting(BidRequest::getImp)
@@ -1958,7 +2010,7 @@ public class ExchangeServiceTest extends VertxTest {
                 builder -> builder.ext(ExtRequest.of(ExtRequestPrebid.builder()
                         .data(ExtRequestPrebidData.of(singletonList("someBidder"), null))
                         .build())));
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().price(TEN).build())))));
 
@@ -1968,7 +2020,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         assertThat(bidderRequestCaptor.getAllValues())
                 .extracting(BidderRequest::getBidRequest)
                 .flatExtracting(BidRequest::getImp)
@@ -1994,7 +2046,7 @@ public class ExchangeServiceTest extends VertxTest {
                         .ext(impExt)
                         .build()),
                 identity());
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().price(TEN).build())))));
 
@@ -2004,7 +2056,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         assertThat(bidRequestCaptor.getAllValues())
                 .extracting(BidderRequest::getBidRequest)
                 .flatExtracting(BidRequest::getImp)
@@ -2151,7 +2203,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2239,7 +2291,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -2275,7 +2327,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -2311,7 +2363,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -2347,7 +2399,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -2387,7 +2439,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2428,7 +2480,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2473,7 +2525,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2526,7 +2578,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2577,7 +2629,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2622,7 +2674,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2659,7 +2711,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester, times(2))
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2709,7 +2761,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2757,7 +2809,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2806,7 +2858,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -2849,7 +2901,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
 
         assertThat(capturedBidRequests)
@@ -3028,7 +3080,7 @@ public class ExchangeServiceTest extends VertxTest {
         // given
         given(bidderCatalog.isValidName("someAlias")).willReturn(false);
 
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().impid("impId").price(TEN).build())))));
 
@@ -3072,7 +3124,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldUseEmptyStringIfPublisherIdIsEmpty() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(singletonList(
                         givenBidderBid(Bid.builder().price(TEN).build())))));
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
@@ -3088,7 +3140,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldIncrementNoBidRequestsMetric() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
@@ -3103,7 +3155,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldIncrementGotBidsAndErrorMetricsIfBidderReturnsBidAndDifferentErrors() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(BidderSeatBid.builder()
                         .bids(singletonList(givenBidderBid(Bid.builder().impid("impId").price(TEN).build())))
                         .errors(asList(
@@ -3155,7 +3207,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseModifiedByAuctionResponseHooks() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         doAnswer(invocation -> Future.succeededFuture(HookStageExecutionResult.of(
@@ -3198,7 +3250,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithHooksDebugInfoWhenAuctionHappened() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3266,7 +3318,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithHooksBasicTraceInfoWhenAuctionHappened() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3360,7 +3412,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithHooksVerboseTraceInfoWhenAuctionHappened() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3412,7 +3464,7 @@ public class ExchangeServiceTest extends VertxTest {
                 .debugContext(DebugContext.of(false, false, TraceLevel.verbose))
                 .build();
 
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         // when
@@ -3445,7 +3497,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseAppliedToRequestNullIfResultImplAppliedToIsNull() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3483,7 +3535,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithHooksDebugAndTraceInfoWhenAuctionHappened() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3532,7 +3584,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithoutHooksTraceInfoWhenNoHooksExecuted() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("bidder", 2)));
@@ -3556,7 +3608,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithAnalyticsTagsWhenRequested() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final ObjectNode analyticsNode = mapper.createObjectNode();
@@ -3600,7 +3652,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldReturnBidResponseWithWarningWhenAnalyticsTagsDisabledAndRequested() {
         // given
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(givenSeatBid(emptyList())));
 
         final ObjectNode analyticsNode = mapper.createObjectNode();
@@ -3877,7 +3929,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> argumentCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), argumentCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), argumentCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
 
         assertThat(argumentCaptor.getValue())
                 .extracting(BidderRequest::getBidRequest)
@@ -3928,7 +3980,8 @@ public class ExchangeServiceTest extends VertxTest {
                 any(),
                 any(),
                 any(),
-                anyBoolean());
+                anyBoolean(),
+                any());
         verify(timeoutFactory).create(anyLong(), timeoutCaptor.capture());
         assertThat(bidderRequestCaptor.getValue().getBidRequest().getTmax()).isEqualTo(400L);
         assertThat(timeoutCaptor.getAllValues()).containsExactly(450L);
@@ -4007,6 +4060,9 @@ public class ExchangeServiceTest extends VertxTest {
                 uidUpdater,
                 timeoutResolver,
                 timeoutFactory,
+                adaptiveBidderTimeoutResolver,
+                new AuctionCompletionPolicy(
+                        false, false, 0, true, adaptiveBidderTimeoutResolver, currencyService, metrics, clock),
                 ortbVersionConversionManager,
                 httpBidderRequester,
                 bidResponseCreator,
@@ -4054,7 +4110,7 @@ public class ExchangeServiceTest extends VertxTest {
     private BidRequest captureBidRequest() {
         final ArgumentCaptor<BidderRequest> bidRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         return bidRequestCaptor.getValue().getBidRequest();
     }
 
@@ -4093,13 +4149,13 @@ public class ExchangeServiceTest extends VertxTest {
     }
 
     private void givenBidder(BidderSeatBid response) {
-        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(response));
     }
 
     private void givenBidder(String bidderName, Bidder<?> bidder, BidderSeatBid response) {
         doReturn(bidder).when(bidderCatalog).bidderByName(eq(bidderName));
-        given(httpBidderRequester.requestBids(same(bidder), any(), any(), any(), any(), any(), anyBoolean()))
+        given(httpBidderRequester.requestBids(same(bidder), any(), any(), any(), any(), any(), anyBoolean(), any()))
                 .willReturn(Future.succeededFuture(response));
     }
 
@@ -4214,7 +4270,7 @@ public class ExchangeServiceTest extends VertxTest {
         // then
         final ArgumentCaptor<BidderRequest> bidderRequestCaptor = ArgumentCaptor.forClass(BidderRequest.class);
         verify(httpBidderRequester)
-                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean());
+                .requestBids(any(), bidderRequestCaptor.capture(), any(), any(), any(), any(), anyBoolean(), any());
         final List<BidderRequest> capturedBidRequests = bidderRequestCaptor.getAllValues();
         assertThat(capturedBidRequests)
                 .extracting(BidderRequest::getBidRequest)
@@ -32,8 +32,10 @@ import java.util.List;
 import java.util.Map;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -116,6 +118,28 @@ public class HooksMetricsServiceTest extends VertxTest {
         verify(metrics, never()).updateAccountModuleDurationMetric(any(), any(), any());
     }
 
+    @Test
+    public void shouldUpdateHooksStageDurationMetricWhenStageExecutionTimeIsPresent() {
+        // given
+        final EnumMap<Stage, List<StageExecutionOutcome>> stageOutcomes = new EnumMap<>(Stage.class);
+        stageOutcomes.put(Stage.entrypoint, singletonList(StageExecutionOutcome.of("http-request", emptyList(), 15L)));
+        stageOutcomes.put(
+                Stage.auction_response,
+                singletonList(StageExecutionOutcome.of("auction-response", emptyList())));
+
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .hookExecutionContext(HookExecutionContext.of(Endpoint.openrtb2_auction, stageOutcomes))
+                .debugContext(DebugContext.empty())
+                .build();
+
+        // when
+        target.updateHooksMetrics(auctionContext);
+
+        // then
+        verify(metrics).updateHooksStageDurationMetric(Stage.entrypoint, 15L);
+        verify(metrics, never()).updateHooksStageDurationMetric(eq(Stage.auction_response), anyLong());
+    }
+
     @Test
     public void shouldIncrementHooksGlobalAndAccountMetrics() {
         // given
@@ -4,20 +4,35 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.IntNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.server.VertxTest;
 import org.prebid.server.json.JsonMerger;
+import org.prebid.server.metric.Metrics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+@ExtendWith(MockitoExtension.class)
 public class OrtbTypesResolverTest extends VertxTest {
 
-    private final OrtbTypesResolver ortbTypesResolver =
-            new OrtbTypesResolver(0.01, jacksonMapper, new JsonMerger(jacksonMapper));
+    @Mock
+    private Metrics metrics;
+
+    private OrtbTypesResolver ortbTypesResolver;
+
+    @BeforeEach
+    public void setUp() {
+        ortbTypesResolver = new OrtbTypesResolver(0.01, jacksonMapper, new JsonMerger(jacksonMapper), metrics);
+    }
 
     @Test
     public void normalizeTargetingShouldNotChangeNodeIfItsTypeIsNotObject() {
@@ -265,6 +280,43 @@ public class OrtbTypesResolverTest extends VertxTest {
                 .put("dataField", "dataValue1")))));
     }
 
+    @Test
+    public void normalizeBidRequestShouldSkipWellFormedRequestWithoutUpdatingMetric() {
+        // given
+        final ObjectNode containerNode = obj("user", obj("gender", "male").put("keywords", "k1,k2")
+                .set("data", array(obj("id", "123"))));
+        containerNode.set("site", obj("page", "http://site.com"));
+        containerNode.set("ext", obj("prebid", obj("bidderconfig", array(
+                obj("config", obj("ortb2", obj("app", obj("bundle", "com.app"))))))));
+        final ObjectNode expectedNode = containerNode.deepCopy();
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        ortbTypesResolver.normalizeBidRequest(containerNode, warnings, "referer");
+
+        // then
+        assertThat(containerNode).isEqualTo(expectedNode);
+        assertThat(warnings).isEmpty();
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void normalizeBidRequestShouldUpdateMetricWhenBidderConfigRequiresNormalization() {
+        // given
+        final ObjectNode containerNode = obj("ext", obj("prebid", obj("bidderconfig", array(
+                obj("config", obj("ortb2", obj("site", obj("page", array("page1", "page2")))))))));
+        final List<String> warnings = new ArrayList<>();
+
+        // when
+        ortbTypesResolver.normalizeBidRequest(containerNode, warnings, "referer");
+
+        // then
+        assertThat(containerNode).isEqualTo(obj("ext", obj("prebid", obj("bidderconfig", array(
+                obj("config", obj("ortb2", obj("site", obj("page", "page1")))))))));
+        assertThat(warnings).hasSize(1);
+        verify(metrics).updateOrtbTypesNormalizedMetric();
+    }
+
     @Test
     public void normalizeBidRequestShouldNotChangeUserWhenUserDataNotDefined() {
         // given
@@ -49,6 +49,7 @@ import static java.util.Collections.singletonMap;
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -84,6 +85,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 DEFAULT_TIMEOUT,
                 null,
                 false,
+                false,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -187,6 +189,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 DEFAULT_TIMEOUT,
                 "path/to/default/request.json",
                 false,
+                false,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -229,6 +232,69 @@ public class StoredRequestProcessorTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void shouldReturnSameMergedRequestWhenMergingAsSingleTree() throws IOException {
+        // given
+        given(fileSystem.readFileBlocking(anyString()))
+                .willReturn(Buffer.buffer(mapper.writeValueAsString(givenBidRequest(builder -> builder
+                        .id("default-request-id")
+                        .at(1)
+                        .test(0)
+                        .tmax(2500L)))));
+
+        final BidRequest bidRequest = givenBidRequest(builder -> builder
+                .id("request-id")
+                .test(1)
+                .ext(ExtRequest.of(ExtRequestPrebid.builder()
+                        .storedrequest(ExtStoredRequest.of("bidRequest"))
+                        .build()))
+                .imp(asList(
+                        givenImp(impBuilder -> impBuilder.id("imp-without-stored-data")),
+                        givenImp(impBuilder -> impBuilder
+                                .id("imp-with-stored-data")
+                                .ext(mapper.valueToTree(ExtImp.of(
+                                        ExtImpPrebid.builder().storedrequest(ExtStoredRequest.of("imp")).build(),
+                                        null)))))));
+
+        final String storedRequestImpJson = mapper.writeValueAsString(Imp.builder()
+                .id("stored-imp-id")
+                .banner(Banner.builder().format(singletonList(Format.builder().w(300).h(250).build())).build())
+                .build());
+
+        final String storedRequestBidRequestJson = mapper.writeValueAsString(givenBidRequest(builder -> builder
+                .id("stored-request-id")
+                .tmax(1000L)
+                .cur(singletonList("EUR"))));
+
+        given(applicationSettings.getStoredData(any(), anySet(), anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredDataResult.of(singletonMap("bidRequest", storedRequestBidRequestJson),
+                                singletonMap("imp", storedRequestImpJson), emptyList())));
+
+        final BidRequest expectedBidRequest = storedRequestProcessor(false)
+                .processAuctionRequest(null, bidRequest).result().bidRequest();
+
+        // when
+        final Future<AuctionStoredResult> result = storedRequestProcessor(true).processAuctionRequest(null, bidRequest);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result().hasStoredBidRequest()).isTrue();
+        assertThat(result.result().bidRequest())
+                .isEqualTo(expectedBidRequest)
+                .satisfies(merged -> {
+                    assertThat(merged.getAt()).isEqualTo(1);
+                    assertThat(merged.getTest()).isEqualTo(1);
+                    assertThat(merged.getTmax()).isEqualTo(1000L);
+                    assertThat(merged.getCur()).containsExactly("EUR");
+                    assertThat(merged.getImp())
+                            .extracting(Imp::getId, imp -> imp.getBanner() != null)
+                            .containsExactly(
+                                    tuple("imp-without-stored-data", false),
+                                    tuple("imp-with-stored-data", true));
+                });
+    }
+
     @Test
     public void processStoredRequestsShouldGenerateIdWhenAppAndFlagIsTrue() throws IOException {
         // given
@@ -236,6 +302,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 500,
                 null,
                 true,
+                false,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -333,6 +400,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 DEFAULT_TIMEOUT,
                 "path/to/default/request.json",
                 false,
+                false,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -367,6 +435,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 500,
                 null,
                 true,
+                false,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -993,6 +1062,7 @@ public class StoredRequestProcessorTest extends VertxTest {
                 DEFAULT_TIMEOUT,
                 "path/to/default/request.json",
                 false,
+                false,
                 fileSystem,
                 applicationSettings,
                 idGenerator,
@@ -1029,6 +1099,21 @@ public class StoredRequestProcessorTest extends VertxTest {
                 .containsExactly(storedImpVideo);
     }
 
+    private StoredRequestProcessor storedRequestProcessor(boolean singleTreeMerge) {
+        return new StoredRequestProcessor(
+                DEFAULT_TIMEOUT,
+                "path/to/default/request.json",
+                false,
+                singleTreeMerge,
+                fileSystem,
+                applicationSettings,
+                idGenerator,
+                metrics,
+                timeoutFactory,
+                jacksonMapper,
+                new JsonMerger(jacksonMapper));
+    }
+
     private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
         return bidRequestCustomizer.apply(BidRequest.builder()).build();
     }
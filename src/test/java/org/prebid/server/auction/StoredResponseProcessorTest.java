@@ -854,6 +854,35 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldFetchStoredResponseOnlyOnceWhenStoredResponseStoreIsConfigured()
+            throws JsonProcessingException {
+
+        // given
+        target = new StoredResponseProcessor(applicationSettings, jacksonMapper, new StoredResponseStore(60, 1024));
+
+        final Map<String, String> storedResponse = singletonMap("id", mapper.writeValueAsString(singletonList(
+                SeatBid.builder().seat("seat").bid(singletonList(Bid.builder().id("id1").build())).build())));
+        given(applicationSettings.getStoredResponses(any(), any())).willReturn(
+                Future.succeededFuture(StoredResponseDataResult.of(storedResponse, emptyList())));
+
+        // when
+        final Future<StoredResponseResult> firstResult = target.getStoredResponseResult("id", timeout);
+        final Future<StoredResponseResult> secondResult = target.getStoredResponseResult("id", timeout);
+
+        // then
+        verify(applicationSettings).getStoredResponses(singleton("id"), timeout);
+        final StoredResponseResult expectedResult = StoredResponseResult.of(
+                emptyList(),
+                singletonList(SeatBid.builder()
+                        .seat("seat")
+                        .bid(singletonList(Bid.builder().id("id1").build()))
+                        .build()),
+                emptyMap());
+        assertThat(firstResult.result()).isEqualTo(expectedResult);
+        assertThat(secondResult.result()).isEqualTo(expectedResult);
+    }
+
     @Test
     public void getStoredResponseResultShouldFailWhenReturnNullableStoredResponse() {
         // given
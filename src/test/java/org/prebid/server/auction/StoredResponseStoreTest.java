@@ -0,0 +1,106 @@
+package org.prebid.server.auction;
+
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.SeatBid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class StoredResponseStoreTest extends VertxTest {
+
+    private StoredResponseStore target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new StoredResponseStore(60, 1024);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new StoredResponseStore(60, 0));
+    }
+
+    @Test
+    public void getStoredResponsesShouldReturnOnlySavedStoredResponses() {
+        // given
+        final Map<String, String> idToStoredResponse = new HashMap<>();
+        idToStoredResponse.put("id1", "value1");
+        idToStoredResponse.put("id2", null);
+        target.saveStoredResponses(idToStoredResponse);
+
+        // when
+        final Map<String, String> result = target.getStoredResponses(Set.of("id1", "id2", "id3"));
+
+        // then
+        assertThat(result).containsExactly(Map.entry("id1", "value1"));
+    }
+
+    @Test
+    public void getSeatBidsShouldDecodeStoredResponseOnlyOnceAndReturnCopies() {
+        // given
+        target.saveStoredResponses(Map.of("id", "value"));
+
+        final AtomicInteger decodingCount = new AtomicInteger();
+        final Supplier<List<SeatBid>> decoder = () -> {
+            decodingCount.incrementAndGet();
+            return List.of(givenSeatBid());
+        };
+
+        // when
+        final List<SeatBid> firstResult = target.getSeatBids("id", decoder);
+        firstResult.getFirst().getBid().getFirst().getExt().put("field", "modified");
+        final List<SeatBid> secondResult = target.getSeatBids("id", decoder);
+
+        // then
+        assertThat(decodingCount).hasValue(1);
+        assertThat(secondResult).containsExactly(givenSeatBid());
+    }
+
+    @Test
+    public void getSeatBidsShouldDecodeOnEveryCallWhenStoredResponseIsAbsent() {
+        // given
+        final AtomicInteger decodingCount = new AtomicInteger();
+        final Supplier<List<SeatBid>> decoder = () -> {
+            decodingCount.incrementAndGet();
+            return List.of(givenSeatBid());
+        };
+
+        // when
+        target.getSeatBids("id", decoder);
+        target.getSeatBids("id", decoder);
+
+        // then
+        assertThat(decodingCount).hasValue(2);
+    }
+
+    @Test
+    public void getSeatBidTemplatesShouldReturnOnlyAlreadyDecodedSeatBids() {
+        // given
+        target.saveStoredResponses(Map.of("decoded", "value1", "notDecoded", "value2"));
+        target.getSeatBids("decoded", () -> List.of(givenSeatBid()));
+
+        // when
+        final Map<String, List<SeatBid>> result = target.getSeatBidTemplates(Set.of("decoded", "notDecoded", "absent"));
+
+        // then
+        assertThat(result).containsOnlyKeys("decoded");
+        assertThat(StoredResponseStore.copySeatBids(result.get("decoded"))).containsExactly(givenSeatBid());
+    }
+
+    private static SeatBid givenSeatBid() {
+        return SeatBid.builder()
+                .seat("seat")
+                .bid(List.of(Bid.builder().id("bidId").ext(mapper.createObjectNode().put("field", "value")).build()))
+                .build();
+    }
+}
@@ -39,10 +39,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
     public void before() {
         target = new BidAdjustmentsResolver(currencyService);
 
-        given(currencyService.convertCurrency(any(), any(), any(), any())).willAnswer(invocation -> {
-            final BigDecimal initialPrice = (BigDecimal) invocation.getArguments()[0];
-            return initialPrice.multiply(BigDecimal.TEN);
-        });
+        given(currencyService.conversionRate(any(), any(), any())).willReturn(BigDecimal.TEN);
     }
 
     @Test
@@ -86,7 +83,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
 
         // then
         assertThat(actual).isEqualTo(Price.of("USD", new BigDecimal("-249")));
-        verify(currencyService).convertCurrency(new BigDecimal("25"), givenBidRequest, "UAH", "USD");
+        verify(currencyService).conversionRate(givenBidRequest, "UAH", "USD");
     }
 
     @Test
@@ -150,7 +147,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
 
         // then
         assertThat(actual).isEqualTo(Price.of("EUR", new BigDecimal("15")));
-        verify(currencyService).convertCurrency(new BigDecimal("15"), givenBidRequest, "JPY", "USD");
+        verify(currencyService).conversionRate(givenBidRequest, "JPY", "USD");
     }
 
     @Test
@@ -172,7 +169,7 @@ public class BidAdjustmentsResolverTest extends VertxTest {
 
         // then
         assertThat(actual).isEqualTo(Price.of("USD", new BigDecimal("-225")));
-        verify(currencyService).convertCurrency(new BigDecimal("25"), givenBidRequest, "UAH", "USD");
+        verify(currencyService).conversionRate(givenBidRequest, "UAH", "USD");
     }
 
     @Test
@@ -194,8 +191,8 @@ public class BidAdjustmentsResolverTest extends VertxTest {
 
         // then
         assertThat(actual).isEqualTo(Price.of("USD", new BigDecimal("-499")));
-        verify(currencyService).convertCurrency(new BigDecimal("25"), givenBidRequest, "UAH", "USD");
-        verify(currencyService).convertCurrency(new BigDecimal("25"), givenBidRequest, "JPY", "USD");
+        verify(currencyService).conversionRate(givenBidRequest, "UAH", "USD");
+        verify(currencyService).conversionRate(givenBidRequest, "JPY", "USD");
     }
 
     @Test
@@ -218,6 +215,37 @@ public class BidAdjustmentsResolverTest extends VertxTest {
         verifyNoInteractions(currencyService);
     }
 
+    @Test
+    public void resolveShouldReuseMatchedRulesAndConversionRatesWithinAuction() {
+        // given
+        final BidAdjustments givenBidAdjustments = BidAdjustments.of(Map.of(
+                "*|bidderName|*", List.of(givenCpm("15", "EUR"))));
+        final BidRequest givenBidRequest = BidRequest.builder().build();
+
+        // when
+        final Price firstActual = target.resolve(
+                Price.of("USD", BigDecimal.ONE),
+                givenBidRequest,
+                givenBidAdjustments,
+                ImpMediaType.banner,
+                "bidderName",
+                "dealId");
+        final Price secondActual = target.resolve(
+                Price.of("USD", BigDecimal.TEN),
+                givenBidRequest,
+                givenBidAdjustments,
+                ImpMediaType.banner,
+                "bidderName",
+                "dealId");
+
+        // then
+        assertThat(firstActual).isEqualTo(Price.of("USD", new BigDecimal("-149")));
+        assertThat(secondActual).isEqualTo(Price.of("USD", new BigDecimal("-140")));
+        assertThat(givenBidAdjustments.getResolvedRules())
+                .containsOnlyKeys("banner|bidderName|dealId");
+        verify(currencyService).conversionRate(givenBidRequest, "EUR", "USD");
+    }
+
     private static ExtRequestBidAdjustmentsRule givenStatic(String value, String currency) {
         return ExtRequestBidAdjustmentsRule.builder()
                 .adjType(STATIC)
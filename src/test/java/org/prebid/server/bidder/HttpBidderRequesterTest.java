@@ -40,9 +40,11 @@ import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgi;
 import org.prebid.server.proto.openrtb.ext.response.ExtIgiIgs;
 import org.prebid.server.proto.openrtb.ext.response.FledgeAuctionConfig;
+import org.prebid.server.util.EndpointTemplate;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.httpclient.HttpClient;
 import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -306,6 +308,73 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidRejectionTracker, never()).rejectImps(anyList(), any());
     }
 
+    @Test
+    public void shouldSendRequestToParsedTargetIfPresent() {
+        // given
+        final HttpTarget httpTarget = EndpointTemplate.compile("https://bidder.com").expand();
+        given(httpClient.request(any(), any(HttpTarget.class), any(), any(byte[].class), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        HttpRequest.<BidRequest>builder()
+                                .method(HttpMethod.POST)
+                                .uri("https://bidder.com")
+                                .target(httpTarget)
+                                .body(EMPTY_BYTE_BODY)
+                                .build()),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verify(httpClient).request(eq(HttpMethod.POST), eq(httpTarget), any(), any(byte[].class), anyLong());
+        verify(httpClient, never()).request(any(), anyString(), any(), any(byte[].class), anyLong());
+    }
+
+    @Test
+    public void shouldRequestIncrementalJsonParsingIfBidderDecodesJsonTokens() {
+        // given
+        given(bidder.decodesJsonTokens()).willReturn(true);
+        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong(), isNull(), eq(true)))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, null)));
+
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        givenSimpleHttpRequest(httpRequestBuilder -> httpRequestBuilder.uri("uri"))),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.builder()
+                .bidder("bidder")
+                .bidRequest(BidRequest.builder().build())
+                .build();
+
+        // when
+        target.requestBids(
+                bidder,
+                bidderRequest,
+                bidRejectionTracker,
+                timeout,
+                CaseInsensitiveMultiMap.empty(),
+                bidderAliases,
+                false);
+
+        // then
+        verify(httpClient).request(any(), eq("uri"), any(), any(byte[].class), anyLong(), isNull(), eq(true));
+        verify(httpClient, never()).request(any(), anyString(), any(), any(byte[].class), anyLong());
+    }
+
     @Test
     public void shouldSendMultipleRequests() throws JsonProcessingException {
         // given
@@ -19,6 +19,7 @@ import org.prebid.server.bidder.model.BidderError;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.util.EndpointTemplate;
 
 import java.util.List;
 import java.util.function.Function;
@@ -37,11 +38,12 @@ public class GenericBidderTest extends VertxTest {
 
     private static final String ENDPOINT_URL = "https://randomurl.com";
 
-    private final GenericBidder target = new GenericBidder(ENDPOINT_URL, jacksonMapper);
+    private final GenericBidder target = new GenericBidder(EndpointTemplate.compile(ENDPOINT_URL), jacksonMapper);
 
     @Test
     public void creationShouldFailOnInvalidEndpointUrl() {
-        assertThatIllegalArgumentException().isThrownBy(() -> new GenericBidder("invalid_url", jacksonMapper));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new GenericBidder(EndpointTemplate.compile("invalid_url"), jacksonMapper));
     }
 
     @Test
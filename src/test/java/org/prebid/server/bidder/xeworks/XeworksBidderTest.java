@@ -19,6 +19,7 @@ import org.prebid.server.proto.openrtb.ext.ExtPrebid;
 import org.prebid.server.proto.openrtb.ext.request.xeworks.ExtImpXeworks;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.proto.openrtb.ext.response.ExtBidPrebid;
+import org.prebid.server.util.EndpointTemplate;
 
 import java.util.List;
 import java.util.function.Function;
@@ -33,12 +34,12 @@ public class XeworksBidderTest extends VertxTest {
 
     private static final String ENDPOINT_URL = "https://randomurl.com?pid={{SourceId}}&host={{Host}}";
 
-    private final XeworksBidder target = new XeworksBidder(ENDPOINT_URL, jacksonMapper);
+    private final XeworksBidder target = new XeworksBidder(EndpointTemplate.compile(ENDPOINT_URL), jacksonMapper);
 
     @Test
     public void creationShouldFailOnInvalidEndpointUrl() {
         assertThatIllegalArgumentException().isThrownBy(() ->
-                new XeworksBidder("invalid_url", jacksonMapper));
+                new XeworksBidder(EndpointTemplate.compile("invalid_url"), jacksonMapper));
     }
 
     @Test
@@ -47,6 +47,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -422,6 +423,32 @@ public class CookieSyncServiceTest extends VertxTest {
                 .isEqualTo(Map.of("bidder-with-disabled-usersync", RejectionReason.DISABLED_USERSYNC));
     }
 
+    @Test
+    public void processContextShouldResolveCapabilitiesOfKnownBiddersOnlyOnCreation() {
+        // given
+        given(bidderCatalog.names()).willReturn(Set.of("requested-bidder", "disabled-bidder"));
+        givenValidActiveBidders("requested-bidder");
+        given(bidderCatalog.isValidName("disabled-bidder")).willReturn(true);
+        givenUsersyncersForBidders("requested-bidder", "disabled-bidder");
+        givenAllAllowedTcfResultForBidders("requested-bidder");
+
+        givenCookieSyncService(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        final CookieSyncContext cookieSyncContext = givenCookieSyncContext(builder ->
+                builder.cookieSyncRequest(givenCookieSyncRequest("requested-bidder", "disabled-bidder")));
+
+        // when
+        final Future<CookieSyncContext> firstResult = target.processContext(cookieSyncContext);
+        final Future<CookieSyncContext> secondResult = target.processContext(cookieSyncContext);
+
+        // then
+        verify(bidderCatalog).isActive("requested-bidder");
+        verify(bidderCatalog).isActive("disabled-bidder");
+        assertThat(firstResult.result().getBiddersContext().rejectedBidders())
+                .isEqualTo(Map.of("disabled-bidder", RejectionReason.DISABLED_BIDDER))
+                .isEqualTo(secondResult.result().getBiddersContext().rejectedBidders());
+    }
+
     @Test
     public void processContextShouldApplyRequestFilteringRules() {
         // given
@@ -69,6 +69,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -320,6 +321,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -345,6 +347,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -370,6 +373,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -394,6 +398,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -520,6 +525,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -562,6 +568,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -585,6 +592,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -619,6 +627,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -644,6 +653,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -736,6 +746,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 MAX_COOKIE_SIZE_BYTES,
                 2,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -763,6 +774,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -799,6 +811,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 1,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -833,6 +846,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 2,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -869,6 +883,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 5,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -920,6 +935,7 @@ public class UidsCookieServiceTest extends VertxTest {
                 90,
                 500,
                 2,
+                false,
                 prioritizedCoopSyncProvider,
                 metrics,
                 jacksonMapper);
@@ -945,6 +961,102 @@ public class UidsCookieServiceTest extends VertxTest {
         assertThat(decodeUids(result.getLast().getValue()).getOptout()).isTrue();
     }
 
+    @Test
+    public void aliveCookieShouldReturnBinaryCookieWhenBinaryFormatEnabled() {
+        // given
+        target = givenBinaryFormatUidsCookieService(MAX_COOKIE_SIZE_BYTES);
+        final UidsCookie uidsCookie = new UidsCookie(
+                Uids.builder().uids(new HashMap<>()).optout(false).build(), jacksonMapper)
+                .updateUid(RUBICON, "rubiconUid")
+                .updateUid(ADNXS, "adnxsUid");
+
+        // when
+        final Cookie cookie = target.aliveCookie("uids", uidsCookie);
+
+        // then
+        final Uids uids = UidsCookieBinaryCodec.decode(Base64.getUrlDecoder().decode(cookie.getValue()));
+        assertThat(uids.getOptout()).isFalse();
+        assertThat(uids.getUids()).hasSize(2);
+        assertThat(uids.getUids().get(RUBICON).getUid()).isEqualTo("rubiconUid");
+        assertThat(uids.getUids().get(RUBICON).getExpires().toEpochSecond())
+                .isEqualTo(uidsCookie.getCookieUids().getUids().get(RUBICON).getExpires().toEpochSecond());
+        assertThat(uids.getUids().get(ADNXS).getUid()).isEqualTo("adnxsUid");
+        assertThat(cookie.getValue().length())
+                .isLessThan(Base64.getUrlEncoder().encodeToString(uidsCookie.toJson().getBytes()).length());
+    }
+
+    @Test
+    public void parseFromCookiesShouldReadBothBinaryAndJsonCookies() throws JsonProcessingException {
+        // given
+        final ZonedDateTime expires = ZonedDateTime.parse("2040-01-01T00:00:00Z");
+        final String binaryValue = Base64.getUrlEncoder().encodeToString(UidsCookieBinaryCodec.encode(
+                Uids.builder().uids(Map.of(RUBICON, new UidWithExpiry("rubiconUid", expires))).build()));
+        final String jsonValue = encodeUids(
+                Uids.builder().uids(Map.of(ADNXS, new UidWithExpiry("adnxsUid", expires))).build());
+
+        // when
+        final UidsCookie uidsCookie = target.parseFromCookies(Map.of("uids", binaryValue, "uids2", jsonValue));
+
+        // then
+        assertThat(uidsCookie.uidFrom(RUBICON)).isEqualTo("rubiconUid");
+        assertThat(uidsCookie.getCookieUids().getUids().get(RUBICON).getExpires().toInstant())
+                .isEqualTo(expires.toInstant());
+        assertThat(uidsCookie.uidFrom(ADNXS)).isEqualTo("adnxsUid");
+    }
+
+    @Test
+    public void parseFromCookiesShouldSkipMalformedBinaryCookie() {
+        // given
+        final String value = Base64.getUrlEncoder().encodeToString(new byte[]{1, 0, 5, 3, 'a'});
+
+        // when
+        final UidsCookie uidsCookie = target.parseFromCookies(Map.of("uids", value));
+
+        // then
+        assertThat(uidsCookie.getCookieUids().getUids()).isEmpty();
+    }
+
+    @Test
+    public void splitUidsIntoCookiesShouldFitMoreUidsWhenBinaryFormatEnabled() {
+        // given
+        target = givenBinaryFormatUidsCookieService(500);
+
+        // cookie of encoded size 450 bytes in JSON format
+        final UidsCookie uidsCookie = givenUidsCookie(Map.of(
+                "very-very-very-very-long-family", UidWithExpiry.live("some-very-very-very-long-uid"),
+                "another-very-very-very-long-family", UidWithExpiry.live("another-very-very-very-long-uid"),
+                "family", UidWithExpiry.live("uid")));
+
+        // when
+        final List<Cookie> result = target.splitUidsIntoCookies(uidsCookie);
+
+        // then
+        verifyNoInteractions(metrics);
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().encode().length()).isLessThanOrEqualTo(500);
+        assertThat(UidsCookieBinaryCodec.decode(Base64.getUrlDecoder().decode(result.getFirst().getValue()))
+                .getUids().keySet())
+                .containsExactlyInAnyOrder(
+                        "very-very-very-very-long-family", "another-very-very-very-long-family", "family");
+    }
+
+    private UidsCookieService givenBinaryFormatUidsCookieService(int maxCookieSizeBytes) {
+        return new UidsCookieService(
+                "trp_optout",
+                "true",
+                null,
+                null,
+                "cookie-domain",
+                90,
+                maxCookieSizeBytes,
+                1,
+                true,
+                prioritizedCoopSyncProvider,
+                metrics,
+                jacksonMapper);
+    }
+
     private UidsCookie givenUidsCookie(Map<String, UidWithExpiry> uids) {
         return new UidsCookie(Uids.builder().uids(uids).build(), jacksonMapper);
     }
@@ -16,6 +16,7 @@ import org.prebid.server.execution.file.FileProcessor;
 import org.prebid.server.execution.retry.FixedIntervalRetryPolicy;
 import org.prebid.server.execution.retry.NonRetryable;
 import org.prebid.server.execution.retry.RetryPolicy;
+import org.prebid.server.vertx.ContextRunner;
 import org.testcontainers.shaded.org.apache.commons.lang3.NotImplementedException;
 
 import java.util.concurrent.Callable;
@@ -40,11 +41,14 @@ public class FileSyncerTest {
     @Mock
     private Vertx vertx;
 
+    @Mock
+    private ContextRunner contextRunner;
+
     @BeforeEach
     public void setUp() {
-        given(vertx.executeBlocking(Mockito.<Callable<?>>any())).willAnswer(invocation -> {
+        given(contextRunner.executeBlocking(any(), Mockito.<Callable<?>>any())).willAnswer(invocation -> {
             try {
-                return Future.succeededFuture(((Callable<?>) invocation.getArgument(0)).call());
+                return Future.succeededFuture(((Callable<?>) invocation.getArgument(1)).call());
             } catch (Throwable e) {
                 return Future.failedFuture(e);
             }
@@ -129,7 +133,7 @@ public class FileSyncerTest {
     }
 
     private FileSyncer fileSyncer(RetryPolicy retryPolicy) {
-        return spy(new TestFileSyncer(fileProcessor, 1000L, retryPolicy, vertx));
+        return spy(new TestFileSyncer(fileProcessor, 1000L, retryPolicy, vertx, contextRunner));
     }
 
     private static class TestFileSyncer extends FileSyncer {
@@ -137,9 +141,10 @@ public class FileSyncerTest {
         protected TestFileSyncer(FileProcessor fileProcessor,
                                  long updatePeriod,
                                  RetryPolicy retryPolicy,
-                                 Vertx vertx) {
+                                 Vertx vertx,
+                                 ContextRunner contextRunner) {
 
-            super(fileProcessor, updatePeriod, retryPolicy, vertx);
+            super(fileProcessor, updatePeriod, retryPolicy, vertx, contextRunner);
         }
 
         @Override
@@ -307,13 +307,6 @@ public class NotificationEventHandlerTest extends VertxTest {
                 .add("a", "accountId")
                 .add("x", "0"));
 
-        given(applicationSettings.getAccountById(anyString(), any()))
-                .willReturn(Future.succeededFuture(Account.builder()
-                        .auction(AccountAuctionConfig.builder()
-                                .events(AccountEventsConfig.of(true))
-                                .build())
-                        .build()));
-
         // when
         notificationHandler.handle(routingContext);
 
@@ -322,20 +315,32 @@ public class NotificationEventHandlerTest extends VertxTest {
     }
 
     @Test
-    public void shouldRespondWhenAnalyticsValueIsZeroAndDoNotSetStatusManually() {
+    public void shouldNotFetchAccountWhenAnalyticsValueIsZero() throws IOException {
         // given
         given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
                 .add("t", "win")
                 .add("b", "bidId")
                 .add("a", "accountId")
+                .add("f", "i")
                 .add("x", "0"));
 
-        given(applicationSettings.getAccountById(anyString(), any()))
-                .willReturn(Future.succeededFuture(Account.builder()
-                        .auction(AccountAuctionConfig.builder()
-                                .events(AccountEventsConfig.of(true))
-                                .build())
-                        .build()));
+        // when
+        notificationHandler.handle(routingContext);
+
+        // then
+        verifyNoInteractions(applicationSettings);
+        assertThat(captureResponseBodyBuffer())
+                .isEqualTo(Buffer.buffer(ResourceUtil.readByteArrayFromClassPath("static/tracking-pixel.png")));
+    }
+
+    @Test
+    public void shouldRespondWhenAnalyticsValueIsZeroAndDoNotSetStatusManually() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("t", "win")
+                .add("b", "bidId")
+                .add("a", "accountId")
+                .add("x", "0"));
 
         // when
         notificationHandler.handle(routingContext);
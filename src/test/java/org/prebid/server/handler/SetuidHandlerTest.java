@@ -127,7 +127,7 @@ public class SetuidHandlerTest extends VertxTest {
         given(gppService.contextFrom(any())).willReturn(Future.succeededFuture());
         given(gppService.updateSetuidContext(any()))
                 .willAnswer(invocation -> invocation.getArgument(0));
-        given(activityInfrastructureCreator.create(any(), any(), any()))
+        given(activityInfrastructureCreator.getOrCreate(any(), any()))
                 .willReturn(activityInfrastructure);
         given(tcfDefinerService.resultForBidderNames(anySet(), any(), any()))
                 .willReturn(Future.succeededFuture(TcfResponse.of(true, bidderToGdpr, null)));
@@ -0,0 +1,61 @@
+package org.prebid.server.hooks.execution;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class HashedWheelHookTimeoutSchedulerTest {
+
+    private Vertx vertx;
+
+    private HashedWheelHookTimeoutScheduler target;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        target = new HashedWheelHookTimeoutScheduler(10L, 64);
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        target.close();
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void scheduleShouldRunActionOnContextItWasScheduledFrom(VertxTestContext context) {
+        // given
+        final Context vertxContext = vertx.getOrCreateContext();
+
+        // when and then
+        vertxContext.runOnContext(ignored -> target.schedule(20L, () -> context.verify(() -> {
+            assertThat(Vertx.currentContext()).isSameAs(vertxContext);
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void scheduleShouldNotRunActionWhenCancelled(VertxTestContext context) {
+        // given
+        final AtomicBoolean fired = new AtomicBoolean();
+
+        // when
+        target.schedule(20L, () -> fired.set(true)).cancel();
+
+        // then
+        vertx.setTimer(100L, ignored -> context.verify(() -> {
+            assertThat(fired).isFalse();
+            context.completeNow();
+        }));
+    }
+}
@@ -372,9 +372,9 @@ public class HookStageExecutorTest extends VertxTest {
 
             assertThat(hookExecutionContext.getStageOutcomes())
                     .hasSize(1)
-                    .containsEntry(
-                            Stage.entrypoint,
-                            singletonList(StageExecutionOutcome.of("http-request", emptyList())));
+                    .hasEntrySatisfying(Stage.entrypoint, stageOutcomes -> assertThat(stageOutcomes)
+                            .extracting(StageExecutionOutcome::getEntity, StageExecutionOutcome::getGroups)
+                            .containsOnly(tuple("http-request", emptyList())));
 
             context.completeNow();
         }));
@@ -404,9 +404,9 @@ public class HookStageExecutorTest extends VertxTest {
 
             assertThat(hookExecutionContext.getStageOutcomes())
                     .hasSize(1)
-                    .containsEntry(
-                            Stage.entrypoint,
-                            singletonList(StageExecutionOutcome.of("http-request", emptyList())));
+                    .hasEntrySatisfying(Stage.entrypoint, stageOutcomes -> assertThat(stageOutcomes)
+                            .extracting(StageExecutionOutcome::getEntity, StageExecutionOutcome::getGroups)
+                            .containsOnly(tuple("http-request", emptyList())));
 
             context.completeNow();
         }));
@@ -451,9 +451,10 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-alpha", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                new VertxHookTimeoutScheduler(vertx),
                 clock,
                 jacksonMapper,
+                false,
                 false);
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
@@ -476,6 +477,107 @@ public class HookStageExecutorTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void shouldExecuteReadOnlyEntrypointGroupsInParallelWhenEnabled(VertxTestContext context) {
+        // given
+        givenReadOnlyEntrypointHook("module-alpha", "hook-a", delayedHook(InvocationResultUtils.noAction(), 80));
+        givenReadOnlyEntrypointHook("module-beta", "hook-a", delayedHook(InvocationResultUtils.noAction(), 80));
+        givenReadOnlyEntrypointHook("module-beta", "hook-b", delayedHook(InvocationResultUtils.noAction(), 80));
+        givenReadOnlyEntrypointHook("module-alpha", "hook-b", delayedHook(InvocationResultUtils.noAction(), 80));
+
+        final HookStageExecutor executor = HookStageExecutor.create(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(Stage.entrypoint, execPlanTwoGroupsTwoHooksEach())))),
+                null,
+                Collections.emptyMap(),
+                hookCatalog,
+                timeoutFactory,
+                new VertxHookTimeoutScheduler(vertx),
+                clock,
+                jacksonMapper,
+                false,
+                true);
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                hookExecutionContext);
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(result.isShouldReject()).isFalse();
+            assertThat(result.getPayload().body()).isEqualTo("body");
+
+            assertThat(hookExecutionContext.getStageOutcomes().get(Stage.entrypoint))
+                    .hasSize(1)
+                    .allSatisfy(stageOutcome -> {
+                        assertThat(stageOutcome.getGroups())
+                                .flatExtracting(GroupExecutionOutcome::getHooks)
+                                .extracting(HookExecutionOutcome::getExecutionTime)
+                                .allSatisfy(executionTime -> assertThat(executionTime).isBetween(80L, 100L));
+                        assertThat(stageOutcome.getExecutionTime()).isBetween(80L, 150L);
+                    });
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void shouldNotAllowRejectionByReadOnlyEntrypointGroupsExecutedInParallel(VertxTestContext context) {
+        // given
+        givenReadOnlyEntrypointHook(
+                "module-alpha", "hook-a", immediateHook(InvocationResultUtils.rejected("Request is no good")));
+        givenReadOnlyEntrypointHook("module-beta", "hook-a", immediateHook(InvocationResultUtils.noAction()));
+        givenReadOnlyEntrypointHook("module-beta", "hook-b", immediateHook(InvocationResultUtils.noAction()));
+        givenReadOnlyEntrypointHook("module-alpha", "hook-b", immediateHook(InvocationResultUtils.noAction()));
+
+        final HookStageExecutor executor = HookStageExecutor.create(
+                executionPlan(singletonMap(
+                        Endpoint.openrtb2_auction,
+                        EndpointExecutionPlan.of(singletonMap(Stage.entrypoint, execPlanTwoGroupsTwoHooksEach())))),
+                null,
+                Collections.emptyMap(),
+                hookCatalog,
+                timeoutFactory,
+                new VertxHookTimeoutScheduler(vertx),
+                clock,
+                jacksonMapper,
+                false,
+                true);
+
+        final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
+
+        // when
+        final Future<HookStageExecutionResult<EntrypointPayload>> future = executor.executeEntrypointStage(
+                CaseInsensitiveMultiMap.empty(),
+                CaseInsensitiveMultiMap.empty(),
+                "body",
+                hookExecutionContext);
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(result.isShouldReject()).isFalse();
+            assertThat(result.getPayload().body()).isEqualTo("body");
+
+            final List<GroupExecutionOutcome> groups = hookExecutionContext.getStageOutcomes()
+                    .get(Stage.entrypoint).getFirst().getGroups();
+            assertThat(groups.getFirst().getHooks().getFirst()).satisfies(hookOutcome -> {
+                assertThat(hookOutcome.getStatus()).isEqualTo(ExecutionStatus.execution_failure);
+                assertThat(hookOutcome.getMessage()).isEqualTo("Rejection is not supported during this stage");
+            });
+            assertThat(groups.get(1).getHooks())
+                    .extracting(HookExecutionOutcome::getStatus)
+                    .containsOnly(ExecutionStatus.success);
+
+            context.completeNow();
+        }));
+    }
+
     @Test
     public void shouldExecuteEntrypointHooksToleratingMisbehavingHooks(VertxTestContext context) {
         // given
@@ -1425,9 +1527,10 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-epsilon", true, "module-zeta", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                new VertxHookTimeoutScheduler(vertx),
                 clock,
                 jacksonMapper,
+                false,
                 false);
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
@@ -1542,10 +1645,11 @@ public class HookStageExecutorTest extends VertxTest {
                 Map.of("module-epsilon", true, "module-zeta", false),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                new VertxHookTimeoutScheduler(vertx),
                 clock,
                 jacksonMapper,
-                true);
+                true,
+                false);
 
         final HookExecutionContext hookExecutionContext = HookExecutionContext.of(Endpoint.openrtb2_auction);
 
@@ -3290,6 +3394,15 @@ public class HookStageExecutorTest extends VertxTest {
                 .willReturn(EntrypointHookImpl.of(delegate));
     }
 
+    private void givenReadOnlyEntrypointHook(
+            String moduleCode,
+            String hookImplCode,
+            BiFunction<EntrypointPayload, InvocationContext, Future<InvocationResult<EntrypointPayload>>> delegate) {
+
+        given(hookCatalog.hookById(eqHook(moduleCode, hookImplCode), eq(StageWithHookType.ENTRYPOINT)))
+                .willReturn(ReadOnlyEntrypointHookImpl.of(delegate));
+    }
+
     private void givenRawAuctionRequestHook(
             String moduleCode,
             String hookImplCode,
@@ -3418,9 +3531,10 @@ public class HookStageExecutorTest extends VertxTest {
                 Collections.emptyMap(),
                 hookCatalog,
                 timeoutFactory,
-                vertx,
+                new VertxHookTimeoutScheduler(vertx),
                 clock,
                 jacksonMapper,
+                false,
                 false);
     }
 
@@ -3445,6 +3559,29 @@ public class HookStageExecutorTest extends VertxTest {
         }
     }
 
+    @Value(staticConstructor = "of")
+    private static class ReadOnlyEntrypointHookImpl implements EntrypointHook {
+
+        BiFunction<EntrypointPayload, InvocationContext, Future<InvocationResult<EntrypointPayload>>> delegate;
+
+        @Override
+        public Future<InvocationResult<EntrypointPayload>> call(EntrypointPayload payload,
+                                                                InvocationContext invocationContext) {
+
+            return delegate.apply(payload, invocationContext);
+        }
+
+        @Override
+        public String code() {
+            return "hook-code";
+        }
+
+        @Override
+        public boolean readOnly() {
+            return true;
+        }
+    }
+
     @Value(staticConstructor = "of")
     @NonFinal
     private static class RawAuctionRequestHookImpl implements RawAuctionRequestHook {
@@ -0,0 +1,98 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.server.VertxTest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncrementalJsonParserTest extends VertxTest {
+
+    private IncrementalJsonParser target;
+
+    @BeforeEach
+    public void setUp() {
+        target = jacksonMapper.incrementalParser();
+    }
+
+    @Test
+    public void finishShouldReturnTokensOfDocumentFedByChunks() {
+        // given
+        final BidResponse bidResponse = BidResponse.builder()
+                .id("id")
+                .seatbid(List.of(SeatBid.builder()
+                        .bid(List.of(Bid.builder().id("bidId").impid("impId").price(new BigDecimal("1.2345")).build()))
+                        .build()))
+                .build();
+        final byte[] json = jacksonMapper.encodeToBytes(bidResponse);
+
+        // when
+        for (int from = 0; from < json.length; from += 7) {
+            target.feed(Arrays.copyOfRange(json, from, Math.min(from + 7, json.length)));
+        }
+        final TokenBuffer result = target.finish();
+
+        // then
+        assertThat(jacksonMapper.decodeValue(result, BidResponse.class)).isEqualTo(bidResponse);
+    }
+
+    @Test
+    public void finishShouldReturnTokensDecodedSameAsDocumentString() {
+        // given
+        final String json = """
+                {"id":"id","seatbid":[{"bid":[{"id":"bidId","impid":"impId","price":1.50,\
+                "ext":{"score":0.1,"ratio":1.50,"big":12345678901234567890.5,"count":3}}]}]}""";
+
+        // when
+        target.feed(json.getBytes(StandardCharsets.UTF_8));
+        final TokenBuffer result = target.finish();
+
+        // then
+        final BidResponse fromTokens = jacksonMapper.decodeValue(result, BidResponse.class);
+        final BidResponse fromString = jacksonMapper.decodeValue(json, BidResponse.class);
+        assertThat(fromTokens).isEqualTo(fromString);
+        assertThat(jacksonMapper.encodeToString(fromTokens)).isEqualTo(jacksonMapper.encodeToString(fromString));
+    }
+
+    @Test
+    public void finishShouldReturnNullIfDocumentIsMalformed() {
+        // given
+        target.feed("{\"id\":}".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        final TokenBuffer result = target.finish();
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void finishShouldReturnNullIfDocumentIsIncomplete() {
+        // given
+        target.feed("{\"id\":\"id\"".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        final TokenBuffer result = target.finish();
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void finishShouldReturnNullIfNothingWasFed() {
+        // when
+        final TokenBuffer result = target.finish();
+
+        // then
+        assertThat(result).isNull();
+    }
+}
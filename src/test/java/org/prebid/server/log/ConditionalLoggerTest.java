@@ -12,10 +12,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -105,6 +109,58 @@ public class ConditionalLoggerTest {
         verify(logger, times(2)).info(argThat(o -> o.toString().startsWith("Log Message")));
     }
 
+    @Test
+    public void warnShouldNotBuildMessageWhenNotSampled() {
+        // given
+        final Supplier<String> messageSupplier = () -> {
+            throw new AssertionError("Message should not be built");
+        };
+
+        // when
+        conditionalLogger.warn(messageSupplier, 0.0d);
+
+        // then
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    public void warnShouldBuildAndLogMessageWhenSampled() {
+        // when
+        conditionalLogger.warn(() -> "Log Message", 1.0d);
+
+        // then
+        verify(logger).warn("Log Message");
+    }
+
+    @Test
+    public void warnWithKeyShouldLimitDistinctMessagesByKeyAndBuildOnlyLoggedOnes() {
+        // given
+        final AtomicInteger builtMessages = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            final int index = i;
+            conditionalLogger.warnWithKey("key", () -> "Log Message" + builtMessages.incrementAndGet() + index, 5);
+        }
+
+        // then
+        verify(logger, times(2)).warn(argThat(o -> o.toString().startsWith("Log Message")));
+        assertThat(builtMessages).hasValue(2);
+    }
+
+    @Test
+    public void errorWithKeyShouldCallLoggerBySpecifiedKeyWithExpectedTimeout() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            final int index = i;
+            conditionalLogger.errorWithKey("key", () -> "Log Message" + index, 200, TimeUnit.MILLISECONDS);
+            doWait(100);
+        }
+
+        // then
+        verify(logger, times(2)).error(argThat(o -> o.toString().startsWith("Log Message")));
+    }
+
     private void doWait(long timeout) {
         final Promise<?> promise = Promise.promise();
         vertx.setTimer(timeout, id -> promise.complete());
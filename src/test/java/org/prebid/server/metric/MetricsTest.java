@@ -400,6 +400,16 @@ public class MetricsTest {
         assertThat(metricRegistry.timer("request_time").getCount()).isOne();
     }
 
+    @Test
+    public void updateBidValidationTimeMetricShouldUpdateTimerInNanoseconds() {
+        // when
+        metrics.updateBidValidationTimeMetric(1500L);
+
+        // then
+        assertThat(metricRegistry.timer("bid_validation_time").getCount()).isOne();
+        assertThat(metricRegistry.timer("bid_validation_time").getSnapshot().getMax()).isEqualTo(1500L);
+    }
+
     @Test
     public void updateRequestTypeMetricShouldIncrementMetric() {
         // when
@@ -658,6 +668,15 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("adapter.conversant.requests.badinput").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterColdConnectionMetricShouldIncrementMetrics() {
+        // when
+        metrics.updateAdapterColdConnectionMetric(RUBICON);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.cold_connection").getCount()).isOne();
+    }
+
     @Test
     public void updateSizeValidationMetricsShouldIncrementMetrics() {
         // when
@@ -1266,6 +1285,20 @@ public class MetricsTest {
                 .isEqualTo(1);
     }
 
+    @Test
+    public void updateSettingsCacheRefreshTransferMetricsShouldUpdateHistograms() {
+        // when
+        metrics.updateSettingsCacheRefreshTransferMetrics(MetricName.stored_request, MetricName.update, 2L, 512L);
+
+        // then
+        assertThat(metricRegistry.histogram("settings.cache.stored-request.refresh.update.transferred_items")
+                .getSnapshot().getMax())
+                .isEqualTo(2L);
+        assertThat(metricRegistry.histogram("settings.cache.stored-request.refresh.update.transferred_bytes")
+                .getSnapshot().getMax())
+                .isEqualTo(512L);
+    }
+
     @Test
     public void updateSettingsCacheRefreshErrorMetricShouldIncrementMetric() {
         // when
@@ -1441,6 +1474,17 @@ public class MetricsTest {
                 .isZero();
     }
 
+    @Test
+    public void updateHooksStageDurationMetricShouldUpdateHistogram() {
+        // when
+        metrics.updateHooksStageDurationMetric(Stage.entrypoint, 5L);
+        metrics.updateHooksStageDurationMetric(Stage.raw_auction_request, 6L);
+
+        // then
+        assertThat(metricRegistry.histogram("modules.stage.entrypoint.duration").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.histogram("modules.stage.rawauction.duration").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updateAccountModuleDurationMetricShouldIncrementMetricsIfVerbosityIsDetailed() {
         // given
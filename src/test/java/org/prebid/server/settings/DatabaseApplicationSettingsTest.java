@@ -131,6 +131,28 @@ public class DatabaseApplicationSettingsTest extends VertxTest {
         assertThat(future.result()).isEqualTo(givenStoredDataResult);
     }
 
+    @Test
+    public void getStoredDataShouldPadIdsWithNullsToPowerOfTwo() {
+        // given
+        given(parametrizedQueryHelper.replaceRequestAndImpIdPlaceholders(SELECT_QUERY, 4, 1))
+                .willReturn("query");
+
+        final StoredDataResult givenStoredDataResult = StoredDataResult.of(
+                Map.of("1", "value1", "2", "value2", "3", "value3"),
+                Map.of("4", "value4"),
+                emptyList());
+        given(databaseClient.executeQuery(eq("query"), eq(asList("1", "2", "3", null, "4")), any(), eq(timeout)))
+                .willReturn(Future.succeededFuture(givenStoredDataResult));
+
+        // when
+        final Future<StoredDataResult> future = target.getStoredData(
+                "1001", new HashSet<>(asList("1", "2", "3")), new HashSet<>(asList("4")), timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo(givenStoredDataResult);
+    }
+
     @Test
     public void getAmpStoredDataShouldReturnExpectedResult() {
         // given
@@ -75,4 +75,16 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void containsShouldTellWhetherItemIsCached() {
+        // when
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+
+        // then
+        assertThat(settingsCache.containsRequest("reqId1")).isTrue();
+        assertThat(settingsCache.containsRequest("impId1")).isFalse();
+        assertThat(settingsCache.containsImp("impId1")).isTrue();
+        assertThat(settingsCache.containsImp("reqId1")).isFalse();
+    }
 }
@@ -0,0 +1,155 @@
+package org.prebid.server.settings.helper;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.execution.timeout.Timeout;
+import org.prebid.server.execution.timeout.TimeoutFactory;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+import static org.mockito.quality.Strictness.LENIENT;
+
+@ExtendWith(MockitoExtension.class)
+public class StoredDataQueryBatcherTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private Timeout timeout;
+
+    private List<Set<String>> queriedIds;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        timeout = new TimeoutFactory(Clock.systemDefaultZone()).create(5000L);
+        queriedIds = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveBatchDelay() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new StoredDataQueryBatcher(
+                vertx, 0L, 10, metrics, (accountId, requestIds, impIds, queryTimeout) -> Future.succeededFuture()));
+    }
+
+    @Test
+    public void fetchShouldMergeConcurrentLookupsIntoSingleQuery() throws Exception {
+        // given
+        final StoredDataQueryBatcher target = new StoredDataQueryBatcher(
+                vertx, 10L, 100, metrics, givenRowsFetcher(Future.succeededFuture(List.of(
+                        givenRow("1001", "req1", "requestData1", "request"),
+                        givenRow("1001", "req2", "requestData2", "request"),
+                        givenRow("1001", "imp1", "impData1", "imp")))));
+
+        // when
+        final Future<StoredDataResult> firstResult = target.fetch("1001", Set.of("req1"), Set.of("imp1"), timeout);
+        final Future<StoredDataResult> secondResult = target.fetch("1001", Set.of("req2"), emptySet(), timeout);
+
+        // then
+        assertThat(await(firstResult)).satisfies(result -> {
+            assertThat(result.getStoredIdToRequest()).containsOnly(entry("req1", "requestData1"));
+            assertThat(result.getStoredIdToImp()).containsOnly(entry("imp1", "impData1"));
+            assertThat(result.getErrors()).isEmpty();
+        });
+        assertThat(await(secondResult)).satisfies(result -> {
+            assertThat(result.getStoredIdToRequest()).containsOnly(entry("req2", "requestData2"));
+            assertThat(result.getStoredIdToImp()).isEmpty();
+            assertThat(result.getErrors()).isEmpty();
+        });
+        assertThat(queriedIds).containsExactly(Set.of("req1", "req2", "imp1"));
+        verify(metrics).updateDatabaseBatchSizeMetric(2);
+    }
+
+    @Test
+    public void fetchShouldQueryWithoutDelayWhenMaxBatchIdsReached() throws Exception {
+        // given
+        final StoredDataQueryBatcher target = new StoredDataQueryBatcher(
+                vertx, 100000L, 2, metrics, givenRowsFetcher(Future.succeededFuture(List.of(
+                        givenRow("1001", "req1", "requestData1", "request")))));
+
+        // when
+        final Future<StoredDataResult> result = target.fetch("1001", Set.of("req1"), Set.of("imp1"), timeout);
+
+        // then
+        assertThat(await(result).getStoredIdToRequest()).containsOnly(entry("req1", "requestData1"));
+        assertThat(await(result).getErrors()).containsExactly("No stored imp found for id: imp1");
+    }
+
+    @Test
+    public void fetchShouldFailAllLookupsWhenQueryFailed() {
+        // given
+        final StoredDataQueryBatcher target = new StoredDataQueryBatcher(
+                vertx, 10L, 100, metrics, givenRowsFetcher(Future.failedFuture(new IllegalStateException("failed"))));
+
+        // when
+        final Future<StoredDataResult> firstResult = target.fetch("1001", Set.of("req1"), emptySet(), timeout);
+        final Future<StoredDataResult> secondResult = target.fetch("1001", Set.of("req2"), emptySet(), timeout);
+
+        // then
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> await(firstResult))
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> await(secondResult))
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<List<Row>>> givenRowsFetcher(
+            Future<List<Row>> result) {
+
+        return (accountId, requestIds, impIds, queryTimeout) -> {
+            final Set<String> ids = new HashSet<>(requestIds);
+            ids.addAll(impIds);
+            queriedIds.add(ids);
+            return result;
+        };
+    }
+
+    private static Row givenRow(Object... values) {
+        final Row row = mock(Row.class, withSettings().strictness(LENIENT));
+        given(row.size()).willReturn(values.length);
+        given(row.getValue(anyInt())).willAnswer(invocation -> values[(Integer) invocation.getArgument(0)]);
+        final JsonObject json = new JsonObject();
+        IntStream.range(0, values.length).forEach(i -> json.put(String.valueOf(i), values[i]));
+        given(row.toJson()).willReturn(json);
+        return row;
+    }
+
+    private static StoredDataResult await(Future<StoredDataResult> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+}
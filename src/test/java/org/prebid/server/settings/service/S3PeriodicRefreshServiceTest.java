@@ -25,10 +25,16 @@ import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -37,6 +43,7 @@ import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -139,12 +146,196 @@ public class S3PeriodicRefreshServiceTest extends VertxTest {
         }));
     }
 
+    @Test
+    public void refreshShouldDownloadOnlyChangedFilesAndInvalidateDeletedOnes(VertxTestContext context) {
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(
+                        listObjectResponse(STORED_REQ_DIR + "/id1.json", "etag1"),
+                        listObjectResponse(emptyList()));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_IMP_DIR)
+                .build())))
+                .willReturn(listObjectResponse(STORED_IMP_DIR + "/id2.json", "etag2"));
+        given(cacheNotificationListener.containsImp("id2")).willReturn(true);
+
+        final S3PeriodicRefreshService target = createService(-1);
+
+        // when
+        final Promise<Void> initialLoad = Promise.promise();
+        target.initialize(initialLoad);
+        initialLoad.future()
+                .compose(ignored -> {
+                    // repeated initialization performs a refresh against the manifest from the previous one
+                    final Promise<Void> refresh = Promise.promise();
+                    target.initialize(refresh);
+                    return refresh.future();
+                })
+                .onComplete(context.succeeding(ignored -> {
+                    // then
+                    verify(cacheNotificationListener)
+                            .save(singletonMap("id1", "value1"), singletonMap("id2", "value2"));
+                    verify(cacheNotificationListener).invalidate(singletonList("id1"), emptyList());
+                    verify(cacheNotificationListener, times(1)).save(any(), any());
+                    verify(s3AsyncClient).getObject(
+                            eq(GetObjectRequest.builder().bucket(BUCKET).key(STORED_IMP_DIR + "/id2.json").build()),
+                            any(AsyncResponseTransformer.class));
+                    verify(metrics).updateSettingsCacheRefreshTransferMetrics(
+                            eq(MetricName.stored_request), eq(MetricName.initialize), eq(2L), eq(12L));
+                    verify(metrics).updateSettingsCacheRefreshTransferMetrics(
+                            eq(MetricName.stored_request), eq(MetricName.initialize), eq(0L), eq(0L));
+
+                    context.completeNow();
+                }));
+    }
+
+    @Test
+    public void refreshShouldDownloadAgainOnlyUnchangedFilesEvictedFromCache(VertxTestContext context) {
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(listObjectResponse(STORED_REQ_DIR + "/id1.json", "etag1"));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_IMP_DIR)
+                .build())))
+                .willReturn(listObjectResponse(STORED_IMP_DIR + "/id2.json", "etag2"));
+
+        final Map<String, String> requestCache = new HashMap<>();
+        final Map<String, String> impCache = new HashMap<>();
+        final CacheNotificationListener settingsCache = new CacheNotificationListener() {
+
+            @Override
+            public void save(Map<String, String> requests, Map<String, String> imps) {
+                requestCache.putAll(requests);
+                impCache.putAll(imps);
+            }
+
+            @Override
+            public void invalidate(List<String> requests, List<String> imps) {
+                requests.forEach(requestCache::remove);
+                imps.forEach(impCache::remove);
+            }
+
+            @Override
+            public boolean containsRequest(String id) {
+                return requestCache.containsKey(id);
+            }
+
+            @Override
+            public boolean containsImp(String id) {
+                return impCache.containsKey(id);
+            }
+        };
+        final S3PeriodicRefreshService target = createService(-1, settingsCache);
+
+        // when
+        final Promise<Void> initialLoad = Promise.promise();
+        target.initialize(initialLoad);
+        initialLoad.future()
+                .compose(ignored -> {
+                    // entry is evicted from cache by its ttl or size limit
+                    requestCache.remove("id1");
+
+                    final Promise<Void> refresh = Promise.promise();
+                    target.initialize(refresh);
+                    return refresh.future();
+                })
+                .onComplete(context.succeeding(ignored -> {
+                    // then
+                    assertThat(requestCache).containsExactly(entry("id1", "value1"));
+                    verify(s3AsyncClient, times(2)).getObject(
+                            eq(GetObjectRequest.builder().bucket(BUCKET).key(STORED_REQ_DIR + "/id1.json").build()),
+                            any(AsyncResponseTransformer.class));
+                    verify(s3AsyncClient, times(1)).getObject(
+                            eq(GetObjectRequest.builder().bucket(BUCKET).key(STORED_IMP_DIR + "/id2.json").build()),
+                            any(AsyncResponseTransformer.class));
+
+                    context.completeNow();
+                }));
+    }
+
+    @Test
+    public void refreshShouldBeSkippedWhilePreviousOneIsInProgress(VertxTestContext context) {
+        // given
+        final CompletableFuture<ListObjectsResponse> pendingListing = new CompletableFuture<>();
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(pendingListing);
+
+        final S3PeriodicRefreshService target = createService(-1);
+
+        final Promise<Void> firstRefresh = Promise.promise();
+        target.initialize(firstRefresh);
+
+        // when
+        final Promise<Void> secondRefresh = Promise.promise();
+        target.initialize(secondRefresh);
+
+        // then
+        secondRefresh.future().onComplete(context.succeeding(ignored -> {
+            verify(s3AsyncClient, times(1)).listObjects(eq(ListObjectsRequest.builder()
+                    .bucket(BUCKET)
+                    .prefix(STORED_REQ_DIR)
+                    .build()));
+            verify(cacheNotificationListener, never()).save(any(), any());
+
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void initializeShouldFollowTruncatedListing(VertxTestContext context) {
+        // given
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .build())))
+                .willReturn(CompletableFuture.completedFuture(ListObjectsResponse.builder()
+                        .contents(singletonList(S3Object.builder().key(STORED_REQ_DIR + "/id1.json").build()))
+                        .isTruncated(true)
+                        .build()));
+        given(s3AsyncClient.listObjects(eq(ListObjectsRequest.builder()
+                .bucket(BUCKET)
+                .prefix(STORED_REQ_DIR)
+                .marker(STORED_REQ_DIR + "/id1.json")
+                .build())))
+                .willReturn(listObjectResponse(STORED_REQ_DIR + "/id3.json"));
+        given(s3AsyncClient.getObject(
+                eq(GetObjectRequest.builder()
+                        .bucket(BUCKET)
+                        .key(STORED_REQ_DIR + "/id3.json")
+                        .build()),
+                any(AsyncResponseTransformer.class)))
+                .willReturn(getObjectResponse("value3"));
+
+        // when and then
+        createAndInitService(-1).onComplete(context.succeeding(ignored -> {
+            verify(cacheNotificationListener)
+                    .save(Map.of("id1", "value1", "id3", "value3"), singletonMap("id2", "value2"));
+
+            context.completeNow();
+        }));
+    }
+
     private CompletableFuture<ListObjectsResponse> listObjectResponse(String key) {
-        return CompletableFuture.completedFuture(
-                ListObjectsResponse
-                        .builder()
-                        .contents(singletonList(S3Object.builder().key(key).build()))
-                        .build());
+        return listObjectResponse(singletonList(S3Object.builder().key(key).build()));
+    }
+
+    private CompletableFuture<ListObjectsResponse> listObjectResponse(String key, String eTag) {
+        return listObjectResponse(singletonList(S3Object.builder().key(key).eTag(eTag).build()));
+    }
+
+    private CompletableFuture<ListObjectsResponse> listObjectResponse(List<S3Object> objects) {
+        return CompletableFuture.completedFuture(ListObjectsResponse.builder().contents(objects).build());
     }
 
     private CompletableFuture<ResponseBytes<GetObjectResponse>> getObjectResponse(String value) {
@@ -155,20 +346,29 @@ public class S3PeriodicRefreshServiceTest extends VertxTest {
     }
 
     private Future<Void> createAndInitService(long refreshPeriod) {
-        final S3PeriodicRefreshService s3PeriodicRefreshService = new S3PeriodicRefreshService(
+        final S3PeriodicRefreshService s3PeriodicRefreshService = createService(refreshPeriod);
+
+        final Promise<Void> init = Promise.promise();
+        s3PeriodicRefreshService.initialize(init);
+        return init.future();
+    }
+
+    private S3PeriodicRefreshService createService(long refreshPeriod) {
+        return createService(refreshPeriod, cacheNotificationListener);
+    }
+
+    private S3PeriodicRefreshService createService(long refreshPeriod, CacheNotificationListener listener) {
+        return new S3PeriodicRefreshService(
                 s3AsyncClient,
                 BUCKET,
                 STORED_REQ_DIR,
                 STORED_IMP_DIR,
                 refreshPeriod,
-                cacheNotificationListener,
+                10,
+                listener,
                 MetricName.stored_request,
                 clock,
                 metrics,
                 vertx);
-
-        final Promise<Void> init = Promise.promise();
-        s3PeriodicRefreshService.initialize(init);
-        return init.future();
     }
 }
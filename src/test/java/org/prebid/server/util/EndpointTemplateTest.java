@@ -0,0 +1,88 @@
+package org.prebid.server.util;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class EndpointTemplateTest {
+
+    @Test
+    public void compileShouldFailOnInvalidUrl() {
+        assertThatIllegalArgumentException().isThrownBy(() -> EndpointTemplate.compile("invalid_url"));
+    }
+
+    @Test
+    public void compileShouldFailOnInvalidUrlAfterMacrosSubstitution() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> EndpointTemplate.compile("https://host.com:{{Port}}/path"));
+    }
+
+    @Test
+    public void expandShouldReturnSameTargetForEndpointWithoutMacros() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.compile("https://host.com/path?param=value#fragment");
+
+        // when
+        final HttpTarget result = target.expand(Map.of("{{Macro}}", "value"));
+
+        // then
+        assertThat(result).isSameAs(target.expand());
+        assertThat(result).isEqualTo(HttpTarget.of(
+                "https://host.com/path?param=value#fragment",
+                "https://host.com",
+                true,
+                "host.com",
+                443,
+                "/path?param=value"));
+    }
+
+    @Test
+    public void expandShouldSubstituteMacrosInPathAndQuery() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.compile("http://host.com:8080?id={{SourceId}}&h={{Host}}");
+
+        // when
+        final HttpTarget result = target.expand(Map.of("{{SourceId}}", "sourceId", "{{Host}}", "host"));
+
+        // then
+        assertThat(result).isEqualTo(HttpTarget.of(
+                "http://host.com:8080?id=sourceId&h=host",
+                "http://host.com:8080",
+                false,
+                "host.com",
+                8080,
+                "/?id=sourceId&h=host"));
+    }
+
+    @Test
+    public void expandShouldSubstituteMacrosInHost() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.compile("https://{{Host}}.host.com/path/{{AccountID}}");
+
+        // when
+        final HttpTarget result = target.expand(Map.of("{{Host}}", "us-east"));
+
+        // then
+        assertThat(result).isEqualTo(HttpTarget.of(
+                "https://us-east.host.com/path/{{AccountID}}",
+                "https://us-east.host.com",
+                true,
+                "us-east.host.com",
+                443,
+                "/path/{{AccountID}}"));
+    }
+
+    @Test
+    public void expandShouldFailIfHostIsInvalidAfterMacrosSubstitution() {
+        // given
+        final EndpointTemplate target = EndpointTemplate.compile("https://{{Host}}/path");
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> target.expand(Map.of("{{Host}}", "host.com:invalid_port")));
+    }
+}
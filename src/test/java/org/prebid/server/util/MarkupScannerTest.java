@@ -0,0 +1,100 @@
+package org.prebid.server.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class MarkupScannerTest {
+
+    @Test
+    public void creationShouldFailOnEmptyMarkers() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new MarkupScanner(List.of()));
+    }
+
+    @Test
+    public void markerCreationShouldFailOnNonAsciiValue() {
+        assertThatIllegalArgumentException().isThrownBy(() -> MarkupScanner.Marker.caseSensitive("v\u0430st"));
+    }
+
+    @Test
+    public void scanShouldFindAllDefaultMarkers() {
+        // given
+        final String markup = "<a href=\"http://a\"/><a href=\"http%3A%2F%2Fb\"/>"
+                + "<a href=\"https://c\"/><a href=\"https%3A%2F%2Fd\"/>";
+
+        // when
+        final MarkupScanner.Result result = MarkupScanner.DEFAULT.scan(markup);
+
+        // then
+        assertThat(result.contains(MarkupScanner.INSECURE_SCHEME)).isTrue();
+        assertThat(result.contains(MarkupScanner.ENCODED_INSECURE_SCHEME)).isTrue();
+        assertThat(result.contains(MarkupScanner.SECURE_SCHEME)).isTrue();
+        assertThat(result.contains(MarkupScanner.ENCODED_SECURE_SCHEME)).isTrue();
+    }
+
+    @Test
+    public void scanShouldNotFindInsecureSchemeWhenOnlySecureSchemeIsPresent() {
+        // when
+        final MarkupScanner.Result result = MarkupScanner.DEFAULT.scan("<img src=\"https://secure\"/>");
+
+        // then
+        assertThat(result.contains(MarkupScanner.SECURE_SCHEME)).isTrue();
+        assertThat(result.contains(MarkupScanner.INSECURE_SCHEME)).isFalse();
+    }
+
+    @Test
+    public void scanShouldRespectCaseSensitivityOfMarkers() {
+        // given
+        final MarkupScanner.Marker mraidScript = MarkupScanner.Marker.caseSensitive("mraid.js");
+        final MarkupScanner.Marker vastTag = MarkupScanner.Marker.ignoreCase("vast");
+        final MarkupScanner target = new MarkupScanner(List.of(mraidScript, vastTag));
+
+        // when
+        final MarkupScanner.Result result = target.scan("MRAID.JS VaSt");
+
+        // then
+        assertThat(result.contains(mraidScript)).isFalse();
+        assertThat(result.contains(vastTag)).isTrue();
+    }
+
+    @Test
+    public void scanShouldFindCaseSensitiveMarkerAfterItsDifferentCaseOccurrence() {
+        // when
+        final MarkupScanner.Result result = MarkupScanner.DEFAULT.scan("HTTP://a http://b");
+
+        // then
+        assertThat(result.contains(MarkupScanner.INSECURE_SCHEME)).isTrue();
+    }
+
+    @Test
+    public void scanShouldNotMatchMarkersInterruptedByNonAsciiCharacters() {
+        // when
+        final MarkupScanner.Result result = MarkupScanner.DEFAULT.scan("http\u00e9: \u65e5\u672c https:");
+
+        // then
+        assertThat(result.contains(MarkupScanner.INSECURE_SCHEME)).isFalse();
+        assertThat(result.contains(MarkupScanner.SECURE_SCHEME)).isTrue();
+    }
+
+    @Test
+    public void scanShouldReturnEmptyResultForNullMarkup() {
+        // when
+        final MarkupScanner.Result result = MarkupScanner.DEFAULT.scan(null);
+
+        // then
+        assertThat(result.contains(MarkupScanner.SECURE_SCHEME)).isFalse();
+    }
+
+    @Test
+    public void containsShouldFailOnNotRegisteredMarker() {
+        // given
+        final MarkupScanner.Result result = MarkupScanner.DEFAULT.scan("markup");
+
+        // when and then
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> result.contains(MarkupScanner.Marker.caseSensitive("unknown")));
+    }
+}
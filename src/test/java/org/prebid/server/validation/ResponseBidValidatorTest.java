@@ -23,6 +23,7 @@ import org.prebid.server.proto.openrtb.ext.response.BidType;
 import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountBidValidationConfig;
+import org.prebid.server.validation.model.ResponseBidValidationContext;
 import org.prebid.server.validation.model.ValidationResult;
 
 import java.math.BigDecimal;
@@ -310,6 +311,74 @@ public class ResponseBidValidatorTest extends VertxTest {
                 .rejectBid(givenBid, BidRejectionReason.RESPONSE_REJECTED_INVALID_CREATIVE_NOT_SECURE);
     }
 
+    @Test
+    public void validateShouldFailIfBidHasBothSecureAndInsecureMarkersInCreativeInSecureContext() {
+        // when
+        final ValidationResult result = target.validate(
+                givenBid(builder -> builder.adm("<tag>https://site.com/a.jpg http%3A//site.com/b.jpg</tag>")),
+                BIDDER_NAME,
+                givenAuctionContext(givenBidRequest(builder -> builder.secure(1))),
+                bidderAliases);
+
+        // then
+        assertThat(result.hasErrors()).isTrue();
+    }
+
+    @Test
+    public void validateShouldReturnSuccessIfBidHasOnlyEncodedSecureMarkersInCreativeInSecureContext() {
+        // when
+        final ValidationResult result = target.validate(
+                givenBid(builder -> builder.adm("<tag>https%3A//site.com/creative.jpg</tag>")),
+                BIDDER_NAME,
+                givenAuctionContext(givenBidRequest(builder -> builder.secure(1))),
+                bidderAliases);
+
+        // then
+        assertThat(result.hasErrors()).isFalse();
+        verifyNoInteractions(bidRejectionTracker);
+    }
+
+    @Test
+    public void validateShouldUseSharedValidationContextForAllBids() {
+        // given
+        final BidRequest bidRequest = BidRequest.builder()
+                .imp(asList(
+                        givenBidRequest(builder -> builder.id("impId1")).getImp().getFirst(),
+                        givenBidRequest(builder -> builder.id("impId2")
+                                .banner(Banner.builder()
+                                        .format(singletonList(Format.builder().w(300).h(250).build()))
+                                        .build())).getImp().getFirst()))
+                .build();
+        final AuctionContext auctionContext = givenAuctionContext(bidRequest);
+        final ResponseBidValidationContext validationContext = ResponseBidValidationContext.of(bidRequest);
+
+        // when
+        final ValidationResult firstResult = target.validate(
+                givenBid(builder -> builder.impid("impId2").w(300).h(250)),
+                BIDDER_NAME,
+                validationContext,
+                auctionContext,
+                bidderAliases);
+        final ValidationResult secondResult = target.validate(
+                givenBid(builder -> builder.impid("impId1").w(300).h(250)),
+                BIDDER_NAME,
+                validationContext,
+                auctionContext,
+                bidderAliases);
+        final ValidationResult thirdResult = target.validate(
+                givenBid(builder -> builder.impid("impId3")),
+                BIDDER_NAME,
+                validationContext,
+                auctionContext,
+                bidderAliases);
+
+        // then
+        assertThat(firstResult.hasErrors()).isFalse();
+        assertThat(secondResult.getErrors()).hasSize(1)
+                .allSatisfy(error -> assertThat(error).contains("max imp size='100x200'"));
+        assertThat(thirdResult.getErrors()).containsOnly("Bid \"bidId1\" has no corresponding imp in request");
+    }
+
     @Test
     public void validateShouldReturnSuccessIfBidHasInsecureCreativeInInsecureContext() {
         // when
@@ -0,0 +1,136 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(VertxExtension.class)
+public class BlockingExecutorTest {
+
+    @Mock
+    private Metrics metrics;
+
+    private Vertx vertx;
+
+    private CountDownLatch blockingLatch;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        blockingLatch = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void tearDown(VertxTestContext context) {
+        blockingLatch.countDown();
+        vertx.close(context.succeedingThenComplete());
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidPoolSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockingExecutor(
+                "name", vertx, 0, 1, 1000L, BlockingExecutor.RejectionPolicy.fail, metrics));
+    }
+
+    @Test
+    public void creationShouldCreateGauges() {
+        // when
+        new BlockingExecutor("name", vertx, 1, 1, 1000L, BlockingExecutor.RejectionPolicy.fail, metrics);
+
+        // then
+        verify(metrics).createBlockingExecutorGauges(eq("name"), any(), any());
+    }
+
+    @Test
+    public void executeShouldReturnActionResult(VertxTestContext context) {
+        // given
+        final BlockingExecutor target = givenBlockingExecutor(BlockingExecutor.RejectionPolicy.fail, 1000L);
+
+        // when
+        final Future<String> future = target.execute(() -> "result");
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(result).isEqualTo("result");
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void executeShouldFailWhenQueueIsFullAndRejectionPolicyIsFail(VertxTestContext context) {
+        // given
+        final BlockingExecutor target = givenBlockingExecutor(BlockingExecutor.RejectionPolicy.fail, 1000L);
+        target.execute(this::awaitLatch);
+
+        // when
+        final Future<String> future = target.execute(() -> "result");
+
+        // then
+        future.onComplete(context.failing(error -> {
+            assertThat(error).isInstanceOf(RejectedExecutionException.class);
+            verify(metrics).updateBlockingExecutorRejectedMetric("name");
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void executeShouldUseSharedPoolWhenQueueIsFullAndRejectionPolicyIsSharedPool(VertxTestContext context) {
+        // given
+        final BlockingExecutor target = givenBlockingExecutor(BlockingExecutor.RejectionPolicy.shared_pool, 1000L);
+        target.execute(this::awaitLatch);
+
+        // when
+        final Future<String> future = target.execute(() -> "result");
+
+        // then
+        future.onComplete(context.succeeding(result -> {
+            assertThat(result).isEqualTo("result");
+            verify(metrics).updateBlockingExecutorRejectedMetric("name");
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void executeShouldFailWhenActionIsNotCompletedWithinTimeout(VertxTestContext context) {
+        // given
+        final BlockingExecutor target = givenBlockingExecutor(BlockingExecutor.RejectionPolicy.fail, 50L);
+
+        // when
+        final Future<String> future = target.execute(this::awaitLatch);
+
+        // then
+        future.onComplete(context.failing(error -> {
+            assertThat(error).isInstanceOf(TimeoutException.class);
+            verify(metrics).updateBlockingExecutorTimeoutMetric("name");
+            context.completeNow();
+        }));
+    }
+
+    private BlockingExecutor givenBlockingExecutor(BlockingExecutor.RejectionPolicy rejectionPolicy, long timeoutMs) {
+        return new BlockingExecutor("name", vertx, 1, 0, timeoutMs, rejectionPolicy, metrics);
+    }
+
+    private String awaitLatch() throws InterruptedException {
+        blockingLatch.await();
+        return "blocked";
+    }
+}
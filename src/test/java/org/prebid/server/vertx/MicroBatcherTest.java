@@ -0,0 +1,117 @@
+package org.prebid.server.vertx;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class MicroBatcherTest {
+
+    private Vertx vertx;
+
+    private List<List<String>> processedBatches;
+
+    @BeforeEach
+    public void setUp() {
+        vertx = Vertx.vertx();
+        processedBatches = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxWeight() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new MicroBatcher<String, String>(vertx, 10L, 0, String::length, this::toUpperCase));
+    }
+
+    @Test
+    public void submitShouldProcessItemsInSingleBatchWhenMaxWeightIsReached() throws Exception {
+        // given
+        final MicroBatcher<String, String> target =
+                new MicroBatcher<>(vertx, 10000L, 3, String::length, this::toUpperCase);
+
+        // when
+        final Future<String> firstResult = target.submit("a");
+        final Future<String> secondResult = target.submit("bc");
+
+        // then
+        assertThat(await(firstResult)).isEqualTo("A");
+        assertThat(await(secondResult)).isEqualTo("BC");
+        assertThat(processedBatches).containsExactly(List.of("a", "bc"));
+    }
+
+    @Test
+    public void submitShouldProcessNotFullBatchAfterMaxDelay() throws Exception {
+        // given
+        final MicroBatcher<String, String> target =
+                new MicroBatcher<>(vertx, 10L, 100, String::length, this::toUpperCase);
+
+        // when
+        final Future<String> result = target.submit("a");
+
+        // then
+        assertThat(await(result)).isEqualTo("A");
+        assertThat(processedBatches).containsExactly(List.of("a"));
+    }
+
+    @Test
+    public void submitShouldFailAllItemsOfBatchIfProcessingFailed() {
+        // given
+        final MicroBatcher<String, String> target = new MicroBatcher<>(
+                vertx, 10000L, 2, String::length, items -> Future.failedFuture(new RuntimeException("failed")));
+
+        // when
+        final Future<String> firstResult = target.submit("a");
+        final Future<String> secondResult = target.submit("b");
+
+        // then
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> await(firstResult))
+                .withMessageContaining("failed");
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> await(secondResult))
+                .withMessageContaining("failed");
+    }
+
+    @Test
+    public void submitShouldFailAllItemsOfBatchIfResultsDoNotMatchItems() {
+        // given
+        final MicroBatcher<String, String> target = new MicroBatcher<>(
+                vertx, 10000L, 2, String::length, items -> Future.succeededFuture(List.of("A")));
+
+        // when
+        final Future<String> firstResult = target.submit("a");
+        final Future<String> secondResult = target.submit("b");
+
+        // then
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> await(firstResult))
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(() -> await(secondResult))
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private Future<List<String>> toUpperCase(List<String> items) {
+        processedBatches.add(items);
+        return Future.succeededFuture(items.stream().map(String::toUpperCase).toList());
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+}
@@ -1,11 +1,15 @@
 package org.prebid.server.vertx.httpclient;
 
+import com.iab.openrtb.response.BidResponse;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.junit5.VertxExtension;
@@ -16,6 +20,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.VertxTest;
+import org.prebid.server.util.EndpointTemplate;
+import org.prebid.server.vertx.httpclient.model.HttpTarget;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -23,6 +30,8 @@ import java.io.OutputStreamWriter;
 import java.net.MalformedURLException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -33,11 +42,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 @ExtendWith(VertxExtension.class)
-public class BasicHttpClientTest {
+public class BasicHttpClientTest extends VertxTest {
 
     @Mock
     private Vertx vertx;
@@ -80,6 +90,29 @@ public class BasicHttpClientTest {
         verify(httpClientRequest).send(eq(Buffer.buffer("body".getBytes())));
     }
 
+    @Test
+    public void requestShouldPerformHttpRequestToTargetWithSameParamsAsToUrl() {
+        // given
+        final HttpTarget target = EndpointTemplate.compile("https://www.example.com/path?query={{Macro}}")
+                .expand(Map.of("{{Macro}}", "value"));
+
+        // when
+        httpClient.request(HttpMethod.POST, target, MultiMap.caseInsensitiveMultiMap(), "body".getBytes(), 500L);
+
+        // then
+        final ArgumentCaptor<RequestOptions> requestOptionsArgumentCaptor =
+                ArgumentCaptor.forClass(RequestOptions.class);
+        verify(wrappedHttpClient).request(requestOptionsArgumentCaptor.capture());
+
+        final RequestOptions expectedRequestOptions = new RequestOptions()
+                .setFollowRedirects(true)
+                .setConnectTimeout(500L)
+                .setMethod(HttpMethod.POST)
+                .setAbsoluteURI("https://www.example.com/path?query=value")
+                .setHeaders(MultiMap.caseInsensitiveMultiMap());
+        assertThat(requestOptionsArgumentCaptor.getValue().toJson()).isEqualTo(expectedRequestOptions.toJson());
+    }
+
     @Test
     public void requestShouldSucceedIfHttpRequestSucceeds() {
         // given
@@ -92,6 +125,52 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldParseJsonResponseIncrementallyIfEnabledAndRequested() {
+        // given
+        httpClient = new BasicHttpClient(vertx, wrappedHttpClient, jacksonMapper, 0L);
+
+        given(httpClientResponse.getHeader(HttpHeaders.CONTENT_TYPE)).willReturn("application/json");
+        given(httpClientResponse.getHeader(HttpHeaders.CONTENT_LENGTH)).willReturn(null);
+        given(httpClientResponse.exceptionHandler(any())).willReturn(httpClientResponse);
+        final ArgumentCaptor<Handler<Buffer>> chunkHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        given(httpClientResponse.handler(chunkHandlerCaptor.capture())).willReturn(httpClientResponse);
+        final ArgumentCaptor<Handler<Void>> endHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        given(httpClientResponse.endHandler(endHandlerCaptor.capture())).willReturn(httpClientResponse);
+
+        // when
+        final Future<org.prebid.server.vertx.httpclient.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, "http://www.example.com", null, (byte[]) null, 1L, null, true);
+        chunkHandlerCaptor.getValue().handle(Buffer.buffer("{\"id\":"));
+        chunkHandlerCaptor.getValue().handle(Buffer.buffer("\"responseId\"}"));
+        endHandlerCaptor.getValue().handle(null);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getBody()).isEqualTo("{\"id\":\"responseId\"}");
+        assertThat(jacksonMapper.decodeValue(future.result().getJsonTokens(), BidResponse.class))
+                .isEqualTo(BidResponse.builder().id("responseId").build());
+        verify(httpClientResponse, never()).body();
+    }
+
+    @Test
+    public void requestShouldNotParseJsonResponseIncrementallyIfNotRequested() {
+        // given
+        httpClient = new BasicHttpClient(vertx, wrappedHttpClient, jacksonMapper, 0L);
+
+        given(httpClientResponse.body()).willReturn(Future.succeededFuture(Buffer.buffer("{}")));
+
+        // when
+        final Future<org.prebid.server.vertx.httpclient.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.GET, "http://www.example.com", null, (byte[]) null, 1L, null, false);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getBody()).isEqualTo("{}");
+        assertThat(future.result().getJsonTokens()).isNull();
+        verify(httpClientResponse, never()).handler(any());
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // given and when
@@ -142,6 +221,40 @@ public class BasicHttpClientTest {
         assertThat(future.cause()).hasMessage("Response exception");
     }
 
+    @Test
+    public void requestShouldFailAndResetHttpRequestWhenCancelled() {
+        // given
+        given(httpClientRequest.send(any(Buffer.class))).willReturn(Promise.<HttpClientResponse>promise().future());
+        final Promise<Void> cancellation = Promise.promise();
+
+        final Future<?> future = httpClient.request(
+                HttpMethod.POST, "http://www.example.com", null, "body".getBytes(), 500L, cancellation.future(),
+                false);
+
+        // when
+        cancellation.complete();
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).isInstanceOf(CancellationException.class);
+        verify(httpClientRequest).reset();
+    }
+
+    @Test
+    public void requestShouldFailWithoutResettingHttpRequestWhenResponseSizeExceeded() {
+        // given
+        given(httpClientResponse.getHeader(HttpHeaders.CONTENT_LENGTH)).willReturn("10");
+
+        // when
+        final Future<?> future = httpClient.request(
+                HttpMethod.GET, "http://www.example.com", null, (String) null, 500L, 5L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("Response size 10 exceeded 5 bytes limit");
+        verify(httpClientRequest, never()).reset();
+    }
+
     @Test
     public void requestShouldFailIfHttpRequestTimedOut(Vertx vertx, VertxTestContext context) {
         // given
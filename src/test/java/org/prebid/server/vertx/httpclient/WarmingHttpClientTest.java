@@ -0,0 +1,141 @@
+package org.prebid.server.vertx.httpclient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.httpclient.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class WarmingHttpClientTest {
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient wrappedHttpClient;
+    @Mock
+    private Metrics metrics;
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+
+    private WarmingHttpClient target;
+
+    private Handler<Long> warmUpHandler;
+
+    @BeforeEach
+    public void setUp() {
+        target = new WarmingHttpClient(
+                vertx,
+                wrappedHttpClient,
+                Map.of("bidder", "https://bidder.com/openrtb2",
+                        "macroBidder", "https://{{Host}}.macro.com/openrtb2"),
+                2,
+                1000L,
+                100L,
+                metrics,
+                clock);
+
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(1L), eq(1000L), handlerCaptor.capture());
+        warmUpHandler = handlerCaptor.getValue();
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMinConnections() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new WarmingHttpClient(
+                vertx, wrappedHttpClient, Map.of(), 0, 1000L, 100L, metrics, clock));
+    }
+
+    @Test
+    public void warmUpShouldOpenMinConnectionsToBidderHosts() {
+        // given
+        givenHttpClientReturning(HttpClientResponse.of(405, null, null));
+
+        // when
+        warmUpHandler.handle(0L);
+
+        // then
+        verify(wrappedHttpClient, times(2))
+                .request(eq(HttpMethod.HEAD), eq("https://bidder.com/"), any(), (String) any(), eq(100L), anyLong());
+        verify(wrappedHttpClient, never())
+                .request(any(), eq("https://{{Host}}.macro.com/"), any(), (String) any(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void warmUpShouldSkipRecentlyUsedBidderHosts() {
+        // given
+        givenHttpClientReturning(HttpClientResponse.of(200, null, null));
+        target.post("https://bidder.com/openrtb2?param=value", "body", 100L);
+
+        // when
+        warmUpHandler.handle(0L);
+
+        // then
+        verify(wrappedHttpClient, never())
+                .request(eq(HttpMethod.HEAD), anyString(), any(), (String) any(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void requestShouldReportColdConnectionIfBidderHostWasNotWarmedUp() {
+        // given
+        givenHttpClientReturning(HttpClientResponse.of(200, null, null));
+
+        // when
+        target.post("https://bidder.com/openrtb2", "body", 100L);
+
+        // then
+        verify(metrics).updateAdapterColdConnectionMetric("bidder");
+    }
+
+    @Test
+    public void requestShouldNotReportColdConnectionIfBidderHostWasWarmedUp() {
+        // given
+        givenHttpClientReturning(HttpClientResponse.of(405, null, null));
+        warmUpHandler.handle(0L);
+
+        // when
+        target.post("https://bidder.com/openrtb2", "body", 100L);
+
+        // then
+        verify(metrics, never()).updateAdapterColdConnectionMetric(anyString());
+    }
+
+    @Test
+    public void requestShouldNotReportColdConnectionForNonBidderHost() {
+        // given
+        givenHttpClientReturning(HttpClientResponse.of(200, null, null));
+
+        // when
+        target.get("http://other.com/path", 100L);
+
+        // then
+        verify(metrics, never()).updateAdapterColdConnectionMetric(anyString());
+    }
+
+    private void givenHttpClientReturning(HttpClientResponse response) {
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) any(), anyLong(), anyLong()))
+                .willReturn(Future.succeededFuture(response));
+    }
+}